@@ -0,0 +1,84 @@
+package com.gerenciador.benchmarks;
+
+import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.ProjectRequestDTO;
+import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.mapper.AllocationMapper;
+import com.gerenciador.projeto.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo das conversões entre entidades e DTOs feitas a cada requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ProjectMapper projectMapper = new ProjectMapper();
+    private final AllocationMapper allocationMapper = new AllocationMapper();
+
+    private ProjectRequestDTO request;
+    private Project project;
+    private Allocation allocation;
+
+    @Setup
+    public void setUp() {
+        request = new ProjectRequestDTO();
+        request.setName("Projeto de Benchmark");
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        request.setForecastEndDate(LocalDate.of(2025, 6, 30));
+        request.setTotalBudget(new BigDecimal("250000.00"));
+        request.setDescription("Projeto usado nos microbenchmarks.");
+        request.setManagerId(1L);
+        request.setStatus("EM_ANDAMENTO");
+
+        project = new Project();
+        project.setId(1L);
+        project.setName("Projeto de Benchmark");
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setForecastEndDate(LocalDate.of(2025, 6, 30));
+        project.setTotalBudget(new BigDecimal("250000.00"));
+        project.setDescription("Projeto usado nos microbenchmarks.");
+        project.setManagerId(1L);
+        project.setStatus(ProjectStatus.EM_ANDAMENTO);
+        project.setAllocations(new HashSet<>());
+
+        allocation = new Allocation(project, 101L);
+    }
+
+    @Benchmark
+    public Project projectToEntity() {
+        return projectMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO projectToResponseDto() {
+        return projectMapper.toResponseDto(project);
+    }
+
+    @Benchmark
+    public MemberAllocationDTO allocationToDto() {
+        return allocationMapper.toDto(allocation);
+    }
+}
@@ -0,0 +1,97 @@
+package com.gerenciador.benchmarks;
+
+import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.CountMode;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.repository.ProjectRepository;
+import com.gerenciador.projeto.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a agregação em memória de {@link ReportService#generatePortfolioSummary(CountMode, boolean)} (contagem exata) para portfólios de
+ * 1 mil, 100 mil e 1 milhão de projetos. O repositório é substituído por um proxy que devolve a lista
+ * já carregada, isolando o custo das streams (agrupamentos, somas de BigDecimal e membros únicos) do acesso ao banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class PortfolioSummaryBenchmark {
+
+    private static final int DISTINCT_MEMBERS = 50_000;
+    private static final int MAX_ALLOCATIONS_PER_PROJECT = 3;
+
+    @Param({"1000", "100000", "1000000"})
+    private int projectCount;
+
+    private ReportService reportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Project> projects = generateProjects(projectCount, new Random(42));
+        ProjectRepository repository = (ProjectRepository) Proxy.newProxyInstance(
+                ProjectRepository.class.getClassLoader(),
+                new Class<?>[]{ProjectRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && (args == null || args.length == 0)) {
+                        return projects;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        reportService = new ReportService(repository, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PortfolioSummaryDTO generatePortfolioSummary() {
+        return reportService.generatePortfolioSummary(CountMode.EXATA, false);
+    }
+
+    private static List<Project> generateProjects(int count, Random random) {
+        ProjectStatus[] statuses = ProjectStatus.values();
+        List<Project> projects = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Project project = new Project();
+            project.setId(id);
+            project.setName("Projeto " + id);
+            project.setStatus(statuses[random.nextInt(statuses.length)]);
+            project.setTotalBudget(BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+            project.setStartDate(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500)));
+            project.setForecastEndDate(project.getStartDate().plusMonths(1 + random.nextInt(12)));
+            if (project.getStatus() == ProjectStatus.ENCERRADO) {
+                project.setActualEndDate(project.getStartDate().plusDays(30 + random.nextInt(300)));
+            }
+            project.setManagerId(1L);
+            project.setAllocations(new HashSet<>());
+            int allocations = random.nextInt(MAX_ALLOCATIONS_PER_PROJECT + 1);
+            for (int i = 0; i < allocations; i++) {
+                project.getAllocations().add(new Allocation(project, (long) random.nextInt(DISTINCT_MEMBERS)));
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+}
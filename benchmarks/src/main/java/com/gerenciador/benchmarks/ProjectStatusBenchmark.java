@@ -0,0 +1,124 @@
+package com.gerenciador.benchmarks;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a conversão de texto para {@link ProjectStatus} pela tabela pré-calculada de {@link ProjectStatus#resolve}
+ * com a forma usada anteriormente nos services e no mapper (toUpperCase + replace + valueOf, com exceção para
+ * valores inválidos), individualmente e em lotes como os de PATCH /status/lote, além da validação de transições
+ * pela matriz pré-calculada e pela regra original.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectStatusBenchmark {
+
+    private static final String[] VALID_INPUTS = {
+            "EM_ANALISE", "analise_realizada", "Analise_Aprovada", "INICIADO",
+            "planejado", "em andamento", "Encerrado", "CANCELADO"
+    };
+    private static final String[] INVALID_INPUTS = {"FINALIZADO", "em_pausa", "", "Em Pausa"};
+    private static final int BATCH_SIZE = 1000;
+
+    private ProjectStatus[] statuses;
+    private String[] batch;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        statuses = ProjectStatus.values();
+        // Lote com 1 status inválido a cada 10, como em uma importação com erros de digitação
+        batch = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = i % 10 == 9 ? INVALID_INPUTS[i % INVALID_INPUTS.length] : VALID_INPUTS[i % VALID_INPUTS.length];
+        }
+    }
+
+    @Benchmark
+    public ProjectStatus resolveValid() {
+        return ProjectStatus.resolve(VALID_INPUTS[index++ & (VALID_INPUTS.length - 1)]);
+    }
+
+    @Benchmark
+    public ProjectStatus resolveInvalid() {
+        return ProjectStatus.resolve(INVALID_INPUTS[index++ & (INVALID_INPUTS.length - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void resolveBatch(Blackhole blackhole) {
+        for (String input : batch) {
+            blackhole.consume(ProjectStatus.resolve(input));
+        }
+    }
+
+    @Benchmark
+    public ProjectStatus parseValid() {
+        return parse(VALID_INPUTS[index++ & (VALID_INPUTS.length - 1)]);
+    }
+
+    @Benchmark
+    public ProjectStatus parseInvalid() {
+        String input = INVALID_INPUTS[index++ & (INVALID_INPUTS.length - 1)];
+        try {
+            return parse(input);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void parseBatch(Blackhole blackhole) {
+        for (String input : batch) {
+            try {
+                blackhole.consume(parse(input));
+            } catch (IllegalArgumentException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    // Verifica todas as 64 combinações de status atual x novo status
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public void canTransitionToAllPairs(Blackhole blackhole) {
+        for (ProjectStatus current : statuses) {
+            for (ProjectStatus next : statuses) {
+                blackhole.consume(current.canTransitionTo(next));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public void canTransitionToRuleAllPairs(Blackhole blackhole) {
+        for (ProjectStatus current : statuses) {
+            for (ProjectStatus next : statuses) {
+                blackhole.consume(next == ProjectStatus.CANCELADO || next.getOrder() == current.getOrder() + 1);
+            }
+        }
+    }
+
+    // Conversão usada antes de ProjectStatus.resolve
+    private static ProjectStatus parse(String status) {
+        return ProjectStatus.valueOf(status.toUpperCase().replace(" ", "_"));
+    }
+}
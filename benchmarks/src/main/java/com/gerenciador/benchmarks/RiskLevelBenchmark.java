@@ -0,0 +1,61 @@
+package com.gerenciador.benchmarks;
+
+import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede {@link ProjectService#calculateRiskLevel}, executado para cada projeto retornado pela API.
+ * Os parâmetros variam entre as faixas de baixo, médio e alto risco para não favorecer um único desvio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiskLevelBenchmark {
+
+    private static final int INPUTS = 1024; // potência de 2 para o índice circular
+
+    private ProjectService projectService;
+    private BigDecimal[] budgets;
+    private LocalDate[] startDates;
+    private LocalDate[] forecastEndDates;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // calculateRiskLevel não usa as dependências do service
+        projectService = new ProjectService(null, null, null, null, null, null, null, null, null, null, null);
+        Random random = new Random(42);
+        budgets = new BigDecimal[INPUTS];
+        startDates = new LocalDate[INPUTS];
+        forecastEndDates = new LocalDate[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            budgets[i] = BigDecimal.valueOf(random.nextInt(1_000_000));
+            startDates[i] = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365));
+            forecastEndDates[i] = startDates[i].plusMonths(random.nextInt(12));
+        }
+    }
+
+    @Benchmark
+    public RiskLevel calculateRiskLevel() {
+        int i = index++ & (INPUTS - 1);
+        return projectService.calculateRiskLevel(budgets[i], startDates[i], forecastEndDates[i]);
+    }
+}
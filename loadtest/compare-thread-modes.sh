@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Compara a vazão do projeto com threads de plataforma e com threads virtuais,
+# usando o mock da API de membros com latência artificial.
+#
+# Pré-requisitos: jars gerados
+#   (cd projeto && ./mvnw -q package -DskipTests) && (cd mock && ./mvnw -q package -DskipTests)
+#   (cd loadtest && ../projeto/mvnw -q package)
+#
+# Variáveis: LATENCY_MS (padrão 100), USERS (padrão 400), DURATION (padrão 30), PROJECTS (padrão 200)
+# e DB_URL (PostgreSQL existente; sem ela cada execução usa um PostgreSQL embarcado)
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+LATENCY_MS="${LATENCY_MS:-100}"
+USERS="${USERS:-400}"
+DURATION="${DURATION:-30}"
+PROJECTS="${PROJECTS:-200}"
+
+for PROFILE in default virtual-threads; do
+  echo "=== Perfil: $PROFILE (latência do mock: ${LATENCY_MS}ms) ==="
+  java -jar "$ROOT"/loadtest/target/loadtest.jar --app-profile "$PROFILE" --mix members \
+       --mock-latency-ms "$LATENCY_MS" --users "$USERS" --duration "$DURATION" --projects "$PROJECTS" \
+       ${DB_URL:+--db-url "$DB_URL"}
+done
@@ -0,0 +1,71 @@
+package com.gerenciador.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e contadores por operação. Respostas 2xx entram no histograma; 4xx são contadas
+ * como rejeições de regra de negócio (ex: limite de projetos por membro) e 5xx/falhas de rede como erros.
+ */
+final class LatencyStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, OperationStats> byOperation = new ConcurrentSkipListMap<>();
+
+    void record(String operation, long elapsedNanos, int status) {
+        OperationStats stats = byOperation.computeIfAbsent(operation, name -> new OperationStats());
+        if (status >= 200 && status < 300) {
+            stats.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+        } else if (status >= 400 && status < 500) {
+            stats.rejected.increment();
+        } else {
+            stats.errors.increment();
+        }
+    }
+
+    void print(Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        String header = String.format("%-36s %9s %7s %7s %9s %9s %9s %9s %9s",
+                "Operação", "OK", "4xx", "Erros", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalRejected = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, OperationStats> entry : byOperation.entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram histogram = stats.histogram.copy();
+            total.add(histogram);
+            totalRejected += stats.rejected.sum();
+            totalErrors += stats.errors.sum();
+            printLine(entry.getKey(), histogram, stats.rejected.sum(), stats.errors.sum(), seconds);
+        }
+        System.out.println("-".repeat(header.length()));
+        printLine("TOTAL", total, totalRejected, totalErrors, seconds);
+    }
+
+    private static void printLine(String name, Histogram histogram, long rejected, long errors, double seconds) {
+        System.out.printf("%-36s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, histogram.getTotalCount(), rejected, errors,
+                (histogram.getTotalCount() + rejected) / seconds,
+                millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class OperationStats {
+        final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,123 @@
+package com.gerenciador.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Teste de carga ponta a ponta: sobe PostgreSQL embarcado, o mock da API de membros (com latência,
+ * taxa de erro e população gerada configuráveis) e o projeto; cria o portfólio inicial; executa a mistura
+ * de operações com N usuários virtuais em laço fechado e imprime vazão e percentis de latência por endpoint.
+ */
+public final class LoadTestMain {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        EmbeddedPostgres database = null;
+        ServiceProcess mock = null;
+        ServiceProcess app = null;
+        try {
+            if (options.boot()) {
+                String dbUrl = options.dbUrl();
+                if (dbUrl == null) {
+                    database = EmbeddedPostgres.builder().start();
+                    dbUrl = createDatabase(database);
+                    System.out.println("PostgreSQL embarcado: " + dbUrl);
+                }
+                mock = ServiceProcess.start("mock", options.mockJar(), List.of(
+                        "--server.port=" + options.mockPort(),
+                        "--mock.latency-ms=" + options.mockLatencyMs(),
+                        "--mock.error-rate=" + options.mockErrorRate(),
+                        "--mock.generated-members=" + options.mockMembers(),
+                        "--mock.generated-first-id=" + LoadTestOptions.FIRST_GENERATED_MEMBER_ID));
+                app = ServiceProcess.start("projeto", options.projetoJar(), List.of(
+                        "--server.port=" + options.appPort(),
+                        "--spring.profiles.active=" + options.appProfile(),
+                        "--spring.datasource.url=" + dbUrl,
+                        "--app.member-api.base-url=http://localhost:" + options.mockPort()));
+                mock.awaitHttp(URI.create("http://localhost:" + options.mockPort() + "/api/membros/1"), STARTUP_TIMEOUT);
+                app.awaitHttp(URI.create("http://localhost:" + options.appPort() + "/actuator/health"), STARTUP_TIMEOUT);
+            }
+            run(options);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (mock != null) {
+                mock.close();
+            }
+            if (database != null) {
+                database.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options) throws InterruptedException {
+        ProjetoApi api = new ProjetoApi("http://localhost:" + options.appPort(), options.username(), options.password());
+        PortfolioState state = new PortfolioState(LoadTestOptions.FIRST_GENERATED_MEMBER_ID, options.mockMembers());
+
+        System.out.printf("Criando portfólio inicial com %d projetos...%n", options.projects());
+        long seedStart = System.nanoTime();
+        state.setSeededProjectIds(new PortfolioSeeder(api, state).seed(options.projects()));
+        System.out.printf("  concluído em %.1fs%n", (System.nanoTime() - seedStart) / 1e9);
+
+        Workload workload = Workload.create(options.mix(), api, state);
+        System.out.printf("Aquecimento: %ds com %d usuários (mistura '%s', perfil '%s', latência do mock %dms, erros do mock %.1f%%)%n",
+                options.warmup().toSeconds(), options.users(), options.mix(), options.appProfile(),
+                options.mockLatencyMs(), options.mockErrorRate() * 100);
+        runPhase(workload, options.users(), options.warmup(), new LatencyStats());
+
+        System.out.printf("Medição: %ds%n", options.duration().toSeconds());
+        LatencyStats stats = new LatencyStats();
+        runPhase(workload, options.users(), options.duration(), stats);
+        stats.print(options.duration());
+    }
+
+    // Laço fechado: cada usuário virtual envia a próxima requisição assim que recebe a resposta anterior
+    private static void runPhase(Workload workload, int users, Duration duration, LatencyStats stats) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Workload.Operation operation = workload.pick(random);
+                        long start = System.nanoTime();
+                        ProjetoApi.Response response = operation.action().apply(random);
+                        if (response != null) {
+                            stats.record(operation.name(), System.nanoTime() - start, response.status());
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static String createDatabase(EmbeddedPostgres database) throws Exception {
+        try (Connection connection = database.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE portfolio_db");
+        }
+        return database.getJdbcUrl("postgres", "portfolio_db");
+    }
+}
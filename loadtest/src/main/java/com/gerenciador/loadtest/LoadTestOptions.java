@@ -0,0 +1,110 @@
+package com.gerenciador.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Opções do teste de carga, informadas como pares '--nome valor' na linha de comando.
+ */
+record LoadTestOptions(
+        boolean boot,
+        String dbUrl,
+        Path projetoJar,
+        Path mockJar,
+        String appProfile,
+        int appPort,
+        int mockPort,
+        long mockLatencyMs,
+        double mockErrorRate,
+        long mockMembers,
+        int projects,
+        int users,
+        Duration warmup,
+        Duration duration,
+        String mix,
+        String username,
+        String password) {
+
+    static final long FIRST_GENERATED_MEMBER_ID = 1000;
+
+    static final String USAGE = """
+            Uso: java -jar loadtest/target/loadtest.jar [opções]
+              --boot true|false        sobe PostgreSQL embarcado, mock e projeto (padrão: true)
+              --db-url URL             usa um PostgreSQL existente em vez do embarcado
+              --projeto-jar PATH       jar do projeto (padrão: projeto/target/projeto-*.jar)
+              --mock-jar PATH          jar do mock (padrão: mock/target/mock-*.jar)
+              --app-profile NOME       perfis do projeto, ex: virtual-threads,cache (padrão: default)
+              --app-port N             porta do projeto (padrão: 8085)
+              --mock-port N            porta do mock (padrão: 8081)
+              --mock-latency-ms N      latência do mock por requisição (padrão: 20)
+              --mock-error-rate X      fração de respostas 503 do mock, 0.0 a 1.0 (padrão: 0.0)
+              --mock-members N         membros gerados no mock (padrão: 100000)
+              --projects N             projetos criados antes da medição (padrão: 1000)
+              --users N                usuários virtuais simultâneos (padrão: 50)
+              --warmup S               aquecimento em segundos (padrão: 15)
+              --duration S             medição em segundos (padrão: 60)
+              --mix mixed|members      mistura de operações (padrão: mixed)
+              --user U --password P    credenciais HTTP Basic (padrão: USER / user123)
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        if (Stream.of(args).anyMatch(arg -> arg.equals("--help"))) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Opção inválida: " + args[i] + "\n" + USAGE);
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+        String mix = values.getOrDefault("mix", "mixed");
+        if (!mix.equals("mixed") && !mix.equals("members")) {
+            throw new IllegalArgumentException("Mistura inválida: " + mix + "\n" + USAGE);
+        }
+        return new LoadTestOptions(
+                Boolean.parseBoolean(values.getOrDefault("boot", "true")),
+                values.get("db-url"),
+                values.containsKey("projeto-jar") ? Path.of(values.get("projeto-jar")) : findJar("projeto"),
+                values.containsKey("mock-jar") ? Path.of(values.get("mock-jar")) : findJar("mock"),
+                values.getOrDefault("app-profile", "default"),
+                Integer.parseInt(values.getOrDefault("app-port", "8085")),
+                Integer.parseInt(values.getOrDefault("mock-port", "8081")),
+                Long.parseLong(values.getOrDefault("mock-latency-ms", "20")),
+                Double.parseDouble(values.getOrDefault("mock-error-rate", "0.0")),
+                Long.parseLong(values.getOrDefault("mock-members", "100000")),
+                Integer.parseInt(values.getOrDefault("projects", "1000")),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                mix,
+                values.getOrDefault("user", "USER"),
+                values.getOrDefault("password", "user123"));
+    }
+
+    // Procura o jar executável do módulo a partir da raiz do repositório ou do diretório loadtest
+    private static Path findJar(String module) {
+        for (Path dir : new Path[]{Path.of(module, "target"), Path.of("..", module, "target")}) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                Path jar = files
+                        .filter(file -> file.getFileName().toString().matches(module + "-[\\d.]+(-SNAPSHOT)?\\.jar"))
+                        .findFirst()
+                        .orElse(null);
+                if (jar != null) {
+                    return jar;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao procurar o jar de " + module, e);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,163 @@
+package com.gerenciador.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cria o portfólio inicial pela própria API: projetos (POST), avanço de status em lote até etapas
+ * aleatórias (com alguns cancelamentos) e alocação em lote de 0 a 3 funcionários por projeto.
+ */
+final class PortfolioSeeder {
+
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int PARALLEL_REQUESTS = 32;
+    private static final int BATCH_SIZE = 1000; // limite dos endpoints em lote
+
+    private final ProjetoApi api;
+    private final PortfolioState state;
+
+    PortfolioSeeder(ProjetoApi api, PortfolioState state) {
+        this.api = api;
+        this.state = state;
+    }
+
+    long[] seed(int projectCount) throws InterruptedException {
+        long[] ids = createProjects(projectCount);
+        advanceStatuses(ids);
+        allocateMembers(ids);
+        return ids;
+    }
+
+    static Map<String, Object> projectBody(String name, String startDate, String forecastEndDate, long managerId, String status) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", name);
+        body.put("startDate", startDate);
+        body.put("forecastEndDate", forecastEndDate);
+        body.put("totalBudget", ThreadLocalRandom.current().nextInt(10_000, 1_000_000));
+        body.put("description", "Projeto gerado pelo teste de carga");
+        body.put("managerId", managerId);
+        body.put("status", status);
+        return body;
+    }
+
+    /**
+     * Cria um projeto em análise com datas, orçamento e gerente aleatórios.
+     * @return A resposta da API e, em caso de sucesso, o projeto a ser acompanhado (senão null).
+     */
+    static CreatedProject createProject(ProjetoApi api, PortfolioState state, String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(700));
+        String startDate = start.format(DATE_FORMAT);
+        String forecastEndDate = start.plusMonths(1 + random.nextInt(12)).format(DATE_FORMAT);
+        long managerId = state.randomManager(random);
+        ProjetoApi.Response response = api.post("/api/projetos", projectBody(name, startDate, forecastEndDate, managerId, "EM_ANALISE"));
+        if (!response.isSuccess()) {
+            return new CreatedProject(response, null);
+        }
+        return new CreatedProject(response,
+                new PortfolioState.TrackedProject(response.json().get("id").asLong(), startDate, forecastEndDate, managerId));
+    }
+
+    record CreatedProject(ProjetoApi.Response response, PortfolioState.TrackedProject project) {
+    }
+
+    private long[] createProjects(int count) throws InterruptedException {
+        long[] ids = new long[count];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(PARALLEL_REQUESTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        CreatedProject created = createProject(api, state, "Projeto carga " + index);
+                        if (created.project() == null) {
+                            failures.incrementAndGet();
+                            System.err.println("Falha ao criar projeto: " + created.response().status() + " " + created.response().body());
+                        } else {
+                            ids[index] = created.project().id;
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " projetos não foram criados; veja os logs do projeto e do mock");
+        }
+        System.out.printf("  %d projetos criados%n", count);
+        return ids;
+    }
+
+    // Cada rodada avança em uma etapa os projetos cujo destino ainda não foi atingido (transições são sequenciais)
+    private void advanceStatuses(long[] ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] targetStage = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            targetStage[i] = random.nextInt(PortfolioState.STATUS_FLOW.size());
+        }
+        for (int stage = 1; stage < PortfolioState.STATUS_FLOW.size(); stage++) {
+            List<Map<String, Object>> transitions = new ArrayList<>();
+            for (int i = 0; i < ids.length; i++) {
+                if (targetStage[i] >= stage) {
+                    transitions.add(Map.of("projectId", ids[i], "newStatus", PortfolioState.STATUS_FLOW.get(stage)));
+                }
+            }
+            sendStatusBatches(transitions);
+        }
+        // 10% dos projetos são cancelados na etapa em que pararam
+        List<Map<String, Object>> cancellations = new ArrayList<>();
+        for (long id : ids) {
+            if (random.nextInt(10) == 0) {
+                cancellations.add(Map.of("projectId", id, "newStatus", "CANCELADO"));
+            }
+        }
+        sendStatusBatches(cancellations);
+        System.out.println("  status distribuídos entre as etapas do fluxo");
+    }
+
+    private void sendStatusBatches(List<Map<String, Object>> transitions) {
+        for (int from = 0; from < transitions.size(); from += BATCH_SIZE) {
+            List<Map<String, Object>> batch = transitions.subList(from, Math.min(from + BATCH_SIZE, transitions.size()));
+            ProjetoApi.Response response = api.patch("/api/projetos/status/lote", Map.of("transitions", batch));
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("Falha na atualização de status em lote: " + response.status() + " " + response.body());
+            }
+        }
+    }
+
+    private void allocateMembers(long[] ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, Object>> pairs = new ArrayList<>();
+        for (long id : ids) {
+            int members = random.nextInt(4);
+            for (int i = 0; i < members; i++) {
+                pairs.add(Map.of("projectId", id, "memberId", state.randomEmployee(random)));
+            }
+        }
+        int allocated = 0;
+        for (int from = 0; from < pairs.size(); from += BATCH_SIZE) {
+            List<Map<String, Object>> batch = pairs.subList(from, Math.min(from + BATCH_SIZE, pairs.size()));
+            ProjetoApi.Response response = api.post("/api/projetos/membros/lote", Map.of("allocations", batch));
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("Falha na alocação em lote: " + response.status() + " " + response.body());
+            }
+            JsonNode result = response.json();
+            allocated += result.get("allocatedCount").asInt();
+        }
+        System.out.printf("  %d alocações de membros%n", allocated);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gerenciador.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estado compartilhado entre os usuários virtuais: projetos criados na carga inicial (somente leitura)
+ * e projetos criados durante o teste, que são retirados da fila para uso exclusivo e devolvidos em seguida.
+ * Assim as escritas de um usuário não competem com as de outro pelo mesmo projeto.
+ */
+final class PortfolioState {
+
+    static final List<String> STATUS_FLOW = List.of(
+            "EM_ANALISE", "ANALISE_REALIZADA", "ANALISE_APROVADA", "INICIADO", "PLANEJADO", "EM_ANDAMENTO", "ENCERRADO");
+    static final int CANCELLED_STAGE = STATUS_FLOW.size();
+    static final int MANAGER_EVERY = 20; // mesma regra do mock: um gerente a cada 20 membros gerados
+
+    private final long firstMemberId;
+    private final long memberCount;
+    private final ConcurrentLinkedQueue<TrackedProject> created = new ConcurrentLinkedQueue<>();
+    private volatile long[] seededProjectIds = new long[0];
+
+    PortfolioState(long firstMemberId, long memberCount) {
+        this.firstMemberId = firstMemberId;
+        this.memberCount = memberCount;
+    }
+
+    void setSeededProjectIds(long[] ids) {
+        this.seededProjectIds = ids;
+    }
+
+    long randomSeededProject(ThreadLocalRandom random) {
+        long[] ids = seededProjectIds;
+        return ids[random.nextInt(ids.length)];
+    }
+
+    long randomManager(ThreadLocalRandom random) {
+        return firstMemberId + MANAGER_EVERY * random.nextLong(memberCount / MANAGER_EVERY);
+    }
+
+    long randomEmployee(ThreadLocalRandom random) {
+        while (true) {
+            long offset = random.nextLong(memberCount);
+            if (offset % MANAGER_EVERY != 0) {
+                return firstMemberId + offset;
+            }
+        }
+    }
+
+    TrackedProject pollCreated() {
+        return created.poll();
+    }
+
+    void offerCreated(TrackedProject project) {
+        created.offer(project);
+    }
+
+    /**
+     * Projeto criado durante o teste. Só é acessado pelo usuário virtual que o retirou da fila.
+     */
+    static final class TrackedProject {
+        final long id;
+        final String startDate;
+        final String forecastEndDate;
+        final long managerId;
+        int stage; // índice em STATUS_FLOW ou CANCELLED_STAGE
+        final List<Long> members = new ArrayList<>();
+
+        TrackedProject(long id, String startDate, String forecastEndDate, long managerId) {
+            this.id = id;
+            this.startDate = startDate;
+            this.forecastEndDate = forecastEndDate;
+            this.managerId = managerId;
+        }
+
+        String status() {
+            return stage == CANCELLED_STAGE ? "CANCELADO" : STATUS_FLOW.get(stage);
+        }
+
+        // Mesma regra do ProjectService: não exclui projetos planejados, em andamento ou encerrados
+        boolean isDeletable() {
+            return stage < 4 || stage == CANCELLED_STAGE;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.gerenciador.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Processo Java filho (projeto ou mock) iniciado a partir do jar executável.
+ * A saída vai para target/loadtest-logs/&lt;nome&gt;.log.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+    private final Process process;
+    private final Path logFile;
+
+    private ServiceProcess(String name, Process process, Path logFile) {
+        this.name = name;
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    static ServiceProcess start(String name, Path jar, List<String> args) throws IOException {
+        if (jar == null || !Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Jar de " + name + " não encontrado; gere com 'mvn package -DskipTests' no módulo " + name);
+        }
+        Path logDir = Files.createDirectories(Path.of("target", "loadtest-logs"));
+        Path logFile = logDir.resolve(name + ".log");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new ServiceProcess(name, process, logFile);
+    }
+
+    /**
+     * Aguarda até que a URL responda (qualquer status HTTP) ou o tempo limite se esgote.
+     */
+    void awaitHttp(URI uri, Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " encerrou durante a inicialização; veja " + logFile);
+            }
+            try {
+                client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(2)).build(), HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException(name + " não respondeu em " + timeout.toSeconds() + "s; veja " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(Duration.ofSeconds(20).toMillis(), java.util.concurrent.TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
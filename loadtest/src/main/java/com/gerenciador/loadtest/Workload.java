@@ -0,0 +1,257 @@
+package com.gerenciador.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Misturas de operações ponderadas executadas pelos usuários virtuais.
+ * 'mixed' cobre todos os endpoints de ProjectController e ReportController (predominância de leituras);
+ * 'members' executa apenas GET /api/projetos/{id}/membros, útil para comparar modos de execução sob latência do mock.
+ */
+final class Workload {
+
+    private static final String[] FILTER_STATUSES = {"EM_ANALISE", "INICIADO", "EM_ANDAMENTO", "ENCERRADO", "CANCELADO"};
+    private static final int BULK_PROJECTS = 20;
+
+    /**
+     * Operação da mistura. A ação devolve null quando não há projeto em condição de executá-la,
+     * e o usuário virtual sorteia outra operação sem registrar latência.
+     */
+    record Operation(String name, int weight, Function<ThreadLocalRandom, ProjetoApi.Response> action) {
+    }
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    private Workload(List<Operation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    static Workload create(String mix, ProjetoApi api, PortfolioState state) {
+        Operations ops = new Operations(api, state);
+        if (mix.equals("members")) {
+            return new Workload(List.of(new Operation("GET /projetos/{id}/membros", 1, ops::getMembers)));
+        }
+        return new Workload(List.of(
+                new Operation("GET /projetos", 15, ops::listProjects),
+                new Operation("GET /projetos/{id}", 20, ops::getProject),
+                new Operation("GET /projetos/{id}/membros", 10, ops::getMembers),
+                new Operation("POST /projetos", 8, ops::createProject),
+                new Operation("PUT /projetos/{id}", 5, ops::updateProject),
+                new Operation("PATCH /projetos/{id}/status", 8, ops::advanceStatus),
+                new Operation("PATCH /projetos/status/lote", 2, ops::advanceStatusInBulk),
+                new Operation("POST /projetos/{id}/membros", 5, ops::allocateMember),
+                new Operation("POST /projetos/membros/lote", 2, ops::allocateMembersInBulk),
+                new Operation("DELETE /projetos/{id}/membros/{mid}", 3, ops::deallocateMember),
+                new Operation("DELETE /projetos/{id}", 3, ops::deleteProject),
+                new Operation("GET /relatorios/resumo", 3, random -> api.get("/api/relatorios/resumo")),
+                new Operation("GET /relatorios/status/tempo", 2, random -> api.get("/api/relatorios/status/tempo")),
+                new Operation("GET /relatorios/status/vazao", 2, random -> api.get("/api/relatorios/status/vazao"))));
+    }
+
+    Operation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Pesos inválidos");
+    }
+
+    /**
+     * Implementação das operações. As escritas usam os projetos criados durante o teste,
+     * retirados da fila do PortfolioState para uso exclusivo.
+     */
+    private static final class Operations {
+
+        private final ProjetoApi api;
+        private final PortfolioState state;
+
+        Operations(ProjetoApi api, PortfolioState state) {
+            this.api = api;
+            this.state = state;
+        }
+
+        ProjetoApi.Response listProjects(ThreadLocalRandom random) {
+            String path = "/api/projetos?page=" + random.nextInt(5) + "&size=20";
+            if (random.nextBoolean()) {
+                path += "&status=" + FILTER_STATUSES[random.nextInt(FILTER_STATUSES.length)];
+            }
+            return api.get(path);
+        }
+
+        ProjetoApi.Response getProject(ThreadLocalRandom random) {
+            return api.get("/api/projetos/" + state.randomSeededProject(random));
+        }
+
+        ProjetoApi.Response getMembers(ThreadLocalRandom random) {
+            return api.get("/api/projetos/" + state.randomSeededProject(random) + "/membros");
+        }
+
+        ProjetoApi.Response createProject(ThreadLocalRandom random) {
+            PortfolioSeeder.CreatedProject created = PortfolioSeeder.createProject(api, state, "Projeto teste " + random.nextInt(1_000_000));
+            if (created.project() != null) {
+                state.offerCreated(created.project());
+            }
+            return created.response();
+        }
+
+        ProjetoApi.Response updateProject(ThreadLocalRandom random) {
+            PortfolioState.TrackedProject project = state.pollCreated();
+            if (project == null) {
+                return null;
+            }
+            try {
+                return api.put("/api/projetos/" + project.id, PortfolioSeeder.projectBody(
+                        "Projeto atualizado " + project.id, project.startDate, project.forecastEndDate, project.managerId, project.status()));
+            } finally {
+                state.offerCreated(project);
+            }
+        }
+
+        ProjetoApi.Response advanceStatus(ThreadLocalRandom random) {
+            PortfolioState.TrackedProject project = state.pollCreated();
+            if (project == null) {
+                return null;
+            }
+            try {
+                int nextStage = nextStage(project, random);
+                String newStatus = nextStage == PortfolioState.CANCELLED_STAGE ? "CANCELADO" : PortfolioState.STATUS_FLOW.get(nextStage);
+                ProjetoApi.Response response = api.patch("/api/projetos/" + project.id + "/status", Map.of("newStatus", newStatus));
+                if (response.isSuccess()) {
+                    project.stage = nextStage;
+                }
+                return response;
+            } finally {
+                state.offerCreated(project);
+            }
+        }
+
+        ProjetoApi.Response advanceStatusInBulk(ThreadLocalRandom random) {
+            List<PortfolioState.TrackedProject> projects = pollCreated(BULK_PROJECTS);
+            if (projects.isEmpty()) {
+                return null;
+            }
+            try {
+                List<Map<String, Object>> transitions = new ArrayList<>();
+                int[] nextStages = new int[projects.size()];
+                for (int i = 0; i < projects.size(); i++) {
+                    nextStages[i] = nextStage(projects.get(i), random);
+                    String newStatus = nextStages[i] == PortfolioState.CANCELLED_STAGE ? "CANCELADO" : PortfolioState.STATUS_FLOW.get(nextStages[i]);
+                    transitions.add(Map.of("projectId", projects.get(i).id, "newStatus", newStatus));
+                }
+                ProjetoApi.Response response = api.patch("/api/projetos/status/lote", Map.of("transitions", transitions));
+                if (response.isSuccess()) {
+                    JsonNode results = response.json().get("results");
+                    for (int i = 0; i < projects.size(); i++) {
+                        if ("ATUALIZADO".equals(results.get(i).get("outcome").asText())) {
+                            projects.get(i).stage = nextStages[i];
+                        }
+                    }
+                }
+                return response;
+            } finally {
+                projects.forEach(state::offerCreated);
+            }
+        }
+
+        ProjetoApi.Response allocateMember(ThreadLocalRandom random) {
+            PortfolioState.TrackedProject project = state.pollCreated();
+            if (project == null) {
+                return null;
+            }
+            try {
+                long memberId = state.randomEmployee(random);
+                ProjetoApi.Response response = api.post("/api/projetos/" + project.id + "/membros", List.of(memberId));
+                if (response.isSuccess()) {
+                    project.members.add(memberId);
+                }
+                return response;
+            } finally {
+                state.offerCreated(project);
+            }
+        }
+
+        ProjetoApi.Response allocateMembersInBulk(ThreadLocalRandom random) {
+            List<PortfolioState.TrackedProject> projects = pollCreated(BULK_PROJECTS);
+            if (projects.isEmpty()) {
+                return null;
+            }
+            try {
+                List<Map<String, Object>> pairs = new ArrayList<>();
+                for (PortfolioState.TrackedProject project : projects) {
+                    pairs.add(Map.of("projectId", project.id, "memberId", state.randomEmployee(random)));
+                }
+                ProjetoApi.Response response = api.post("/api/projetos/membros/lote", Map.of("allocations", pairs));
+                if (response.isSuccess()) {
+                    JsonNode results = response.json().get("results");
+                    for (int i = 0; i < projects.size(); i++) {
+                        if ("ALOCADO".equals(results.get(i).get("outcome").asText())) {
+                            projects.get(i).members.add(results.get(i).get("memberId").asLong());
+                        }
+                    }
+                }
+                return response;
+            } finally {
+                projects.forEach(state::offerCreated);
+            }
+        }
+
+        ProjetoApi.Response deallocateMember(ThreadLocalRandom random) {
+            PortfolioState.TrackedProject project = state.pollCreated();
+            if (project == null) {
+                return null;
+            }
+            try {
+                if (project.members.isEmpty()) {
+                    return null;
+                }
+                long memberId = project.members.remove(project.members.size() - 1);
+                return api.delete("/api/projetos/" + project.id + "/membros/" + memberId);
+            } finally {
+                state.offerCreated(project);
+            }
+        }
+
+        ProjetoApi.Response deleteProject(ThreadLocalRandom random) {
+            PortfolioState.TrackedProject project = state.pollCreated();
+            if (project == null) {
+                return null;
+            }
+            if (!project.isDeletable()) {
+                state.offerCreated(project);
+                return null;
+            }
+            ProjetoApi.Response response = api.delete("/api/projetos/" + project.id);
+            if (!response.isSuccess()) {
+                state.offerCreated(project);
+            }
+            return response;
+        }
+
+        // Avança uma etapa no fluxo; ao final do fluxo (ou com 5% de chance) cancela
+        private static int nextStage(PortfolioState.TrackedProject project, ThreadLocalRandom random) {
+            if (project.stage >= PortfolioState.STATUS_FLOW.size() - 1 || random.nextInt(20) == 0) {
+                return PortfolioState.CANCELLED_STAGE;
+            }
+            return project.stage + 1;
+        }
+
+        private List<PortfolioState.TrackedProject> pollCreated(int max) {
+            List<PortfolioState.TrackedProject> projects = new ArrayList<>(max);
+            PortfolioState.TrackedProject project;
+            while (projects.size() < max && (project = state.pollCreated()) != null) {
+                projects.add(project);
+            }
+            return projects;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mock.mock;
+
+/**
+ * Latência e falhas injetadas em um endpoint do mock.
+ * A cada requisição sorteia-se primeiro o timeout (a resposta só é enviada após mock.timeout-ms, com 504),
+ * depois o erro (503 após a latência sorteada); as demais requisições respondem normalmente.
+ */
+public class EndpointConfig {
+
+	private LatencyConfig latency = new LatencyConfig();
+	private double errorRate;
+	private double timeoutRate;
+
+	public EndpointConfig() {
+	}
+
+	public EndpointConfig(LatencyConfig latency, double errorRate, double timeoutRate) {
+		this.latency = latency;
+		this.errorRate = errorRate;
+		this.timeoutRate = timeoutRate;
+	}
+
+	public EndpointConfig copy() {
+		return new EndpointConfig(latency == null ? null : latency.copy(), errorRate, timeoutRate);
+	}
+
+	/**
+	 * Valida a configuração.
+	 * @param endpoint Nome do endpoint, usado na mensagem de erro.
+	 * @throws IllegalArgumentException Se algum valor for inválido.
+	 */
+	public void validate(String endpoint) {
+		if (latency == null) {
+			throw new IllegalArgumentException(endpoint + ": latência obrigatória");
+		}
+		latency.validate(endpoint);
+		if (errorRate < 0 || timeoutRate < 0 || errorRate + timeoutRate > 1) {
+			throw new IllegalArgumentException(endpoint + ": as taxas de erro e timeout devem estar entre 0 e 1 e somar no máximo 1");
+		}
+	}
+
+	public LatencyConfig getLatency() {
+		return latency;
+	}
+
+	public void setLatency(LatencyConfig latency) {
+		this.latency = latency;
+	}
+
+	public double getErrorRate() {
+		return errorRate;
+	}
+
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	public double getTimeoutRate() {
+		return timeoutRate;
+	}
+
+	public void setTimeoutRate(double timeoutRate) {
+		this.timeoutRate = timeoutRate;
+	}
+}
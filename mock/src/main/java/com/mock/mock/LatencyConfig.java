@@ -0,0 +1,90 @@
+package com.mock.mock;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distribuição de latência artificial de um endpoint do mock.
+ * FIXA usa apenas a mediana; EXPONENCIAL sorteia com a mediana informada (p99 ≈ 6,6 x mediana);
+ * LOGNORMAL ajusta a cauda para que o p99 sorteado seja o informado.
+ */
+public class LatencyConfig {
+
+	public enum Distribution { FIXA, EXPONENCIAL, LOGNORMAL }
+
+	// Quantil 0,99 da normal padrão, usado para derivar o desvio da lognormal a partir do p99
+	private static final double Z_99 = 2.326348;
+
+	private Distribution distribution = Distribution.FIXA;
+	private long medianMs;
+	private long p99Ms;
+
+	public LatencyConfig() {
+	}
+
+	public LatencyConfig(Distribution distribution, long medianMs, long p99Ms) {
+		this.distribution = distribution;
+		this.medianMs = medianMs;
+		this.p99Ms = p99Ms;
+	}
+
+	public LatencyConfig copy() {
+		return new LatencyConfig(distribution, medianMs, p99Ms);
+	}
+
+	/**
+	 * Valida a configuração.
+	 * @param endpoint Nome do endpoint, usado na mensagem de erro.
+	 * @throws IllegalArgumentException Se algum valor for inválido.
+	 */
+	public void validate(String endpoint) {
+		if (distribution == null) {
+			throw new IllegalArgumentException(endpoint + ": distribuição de latência obrigatória");
+		}
+		if (medianMs < 0) {
+			throw new IllegalArgumentException(endpoint + ": mediana de latência não pode ser negativa");
+		}
+		if (distribution == Distribution.LOGNORMAL && (medianMs == 0 || p99Ms < medianMs)) {
+			throw new IllegalArgumentException(endpoint + ": a distribuição lognormal exige mediana > 0 e p99 >= mediana");
+		}
+	}
+
+	/**
+	 * Sorteia uma latência segundo a distribuição configurada.
+	 * @param random Gerador da thread atual.
+	 * @return A latência em microssegundos.
+	 */
+	public long sampleMicros(ThreadLocalRandom random) {
+		double medianMicros = medianMs * 1000.0;
+		double sample = switch (distribution) {
+			case FIXA -> medianMicros;
+			// Mediana da exponencial = média * ln 2
+			case EXPONENCIAL -> -(medianMicros / Math.log(2)) * Math.log(1 - random.nextDouble());
+			case LOGNORMAL -> medianMicros * Math.exp(Math.log((double) p99Ms / medianMs) / Z_99 * random.nextGaussian());
+		};
+		return (long) sample;
+	}
+
+	public Distribution getDistribution() {
+		return distribution;
+	}
+
+	public void setDistribution(Distribution distribution) {
+		this.distribution = distribution;
+	}
+
+	public long getMedianMs() {
+		return medianMs;
+	}
+
+	public void setMedianMs(long medianMs) {
+		this.medianMs = medianMs;
+	}
+
+	public long getP99Ms() {
+		return p99Ms;
+	}
+
+	public void setP99Ms(long p99Ms) {
+		this.p99Ms = p99Ms;
+	}
+}
@@ -0,0 +1,51 @@
+package com.mock.mock;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Endpoints administrativos para alterar latência, falhas e população do mock sem reiniciá-lo.
+ * Ex: curl -X PUT localhost:8081/api/admin/configuracao -H 'Content-Type: application/json' -d @config.json
+ */
+@RestController
+@RequestMapping("/api/admin/configuracao")
+public class MockAdminController {
+
+	private final MockConfigHolder configHolder;
+
+	public MockAdminController(MockConfigHolder configHolder) {
+		this.configHolder = configHolder;
+	}
+
+	/**
+	 * Retorna a configuração ativa.
+	 */
+	@GetMapping
+	public ResponseEntity<MockConfig> getConfig() {
+		return ResponseEntity.ok(configHolder.current());
+	}
+
+	/**
+	 * Substitui a configuração ativa; vale para as requisições recebidas a partir deste momento.
+	 * @param config A configuração completa (obtenha a atual com GET e altere os campos desejados).
+	 * @return A configuração publicada, ou 400 se algum valor for inválido.
+	 */
+	@PutMapping
+	public ResponseEntity<MockConfig> updateConfig(@RequestBody MockConfig config) {
+		try {
+			return ResponseEntity.ok(configHolder.update(config));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+		}
+	}
+
+	/**
+	 * Restaura a configuração definida pelas propriedades na inicialização.
+	 */
+	@PostMapping("/reset")
+	public ResponseEntity<MockConfig> resetConfig() {
+		return ResponseEntity.ok(configHolder.reset());
+	}
+}
@@ -9,7 +9,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aplicação Mock da API de Membros.
@@ -24,7 +28,11 @@ public class MockApplication {
 	// Mapa simples para simular um banco de dados de membros
 	private final Map<Long, MemberDTO> members = new HashMap<>();
 
-	public MockApplication() {
+	// Latência, falhas e população gerada, alteráveis em tempo de execução via MockAdminController
+	private final MockConfigHolder configHolder;
+
+	public MockApplication(MockConfigHolder configHolder) {
+		this.configHolder = configHolder;
 		// Popula alguns membros para teste
 		members.put(1L, new MemberDTO(1L, "João Silva", "gerente"));
 		members.put(101L, new MemberDTO(101L, "Maria Souza", "funcionário"));
@@ -39,14 +47,68 @@ public class MockApplication {
 	 * @return ResponseEntity com o MemberDTO ou status 404 se não encontrado.
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<MemberDTO> getMemberById(@PathVariable Long id) {
-		MemberDTO member = members.get(id);
+	public ResponseEntity<MemberDTO> getMemberById(@PathVariable Long id) throws InterruptedException {
+		MockConfig config = configHolder.current();
+		HttpStatus fault = injectFaults(config.getMember(), config.getTimeoutMs());
+		if (fault != null) {
+			return new ResponseEntity<>(fault);
+		}
+		MemberDTO member = findMember(id, config);
 		if (member == null) {
 			return new ResponseEntity<>(HttpStatus.NOT_FOUND); // Retorna 404 se o membro não existir
 		}
 		return new ResponseEntity<>(member, HttpStatus.OK);
 	}
 
+	/**
+	 * Endpoint para buscar vários membros em uma única chamada.
+	 * IDs inexistentes são simplesmente omitidos da resposta.
+	 * @param ids IDs dos membros.
+	 * @return Lista com os membros encontrados.
+	 */
+	@PostMapping("/lote")
+	public ResponseEntity<List<MemberDTO>> getMembersByIds(@RequestBody List<Long> ids) throws InterruptedException {
+		MockConfig config = configHolder.current();
+		HttpStatus fault = injectFaults(config.getBulk(), config.getTimeoutMs());
+		if (fault != null) {
+			return new ResponseEntity<>(fault);
+		}
+		return ResponseEntity.ok(ids.stream()
+				.distinct()
+				.map(id -> findMember(id, config))
+				.filter(Objects::nonNull)
+				.toList());
+	}
+
+	private MemberDTO findMember(Long id, MockConfig config) {
+		MemberDTO member = members.get(id);
+		long firstId = config.getGeneratedFirstId();
+		if (member == null && id >= firstId && id < firstId + config.getGeneratedMembers()) {
+			String role = (id - firstId) % 20 == 0 ? "gerente" : "funcionário";
+			member = new MemberDTO(id, "Membro " + id, role);
+		}
+		return member;
+	}
+
+	/**
+	 * Aplica a latência e as falhas configuradas para o endpoint.
+	 * @return O status de erro a ser respondido, ou null se a requisição deve ser atendida normalmente.
+	 */
+	private HttpStatus injectFaults(EndpointConfig endpoint, long timeoutMs) throws InterruptedException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		double draw = random.nextDouble();
+		if (draw < endpoint.getTimeoutRate()) {
+			// Segura a resposta além do timeout de leitura do cliente
+			Thread.sleep(timeoutMs);
+			return HttpStatus.GATEWAY_TIMEOUT;
+		}
+		long latencyMicros = endpoint.getLatency().sampleMicros(random);
+		if (latencyMicros > 0) {
+			TimeUnit.MICROSECONDS.sleep(latencyMicros);
+		}
+		return draw < endpoint.getTimeoutRate() + endpoint.getErrorRate() ? HttpStatus.SERVICE_UNAVAILABLE : null;
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(MockApplication.class, args);
 	}
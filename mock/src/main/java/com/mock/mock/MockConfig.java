@@ -0,0 +1,85 @@
+package com.mock.mock;
+
+/**
+ * Configuração do mock alterável em tempo de execução via {@link MockAdminController}.
+ * As instâncias publicadas em {@link MockConfigHolder} nunca são alteradas; cada atualização substitui a configuração inteira.
+ */
+public class MockConfig {
+
+	// População gerada: IDs de generatedFirstId até generatedFirstId + generatedMembers - 1,
+	// calculados sob demanda (sem ocupar memória); a cada 20 membros, um é gerente
+	private long generatedMembers;
+	private long generatedFirstId = 1000;
+	// Tempo até a resposta 504 das requisições sorteadas para timeout
+	private long timeoutMs = 30000;
+	private EndpointConfig member = new EndpointConfig();
+	private EndpointConfig bulk = new EndpointConfig();
+
+	public MockConfig copy() {
+		MockConfig copy = new MockConfig();
+		copy.generatedMembers = generatedMembers;
+		copy.generatedFirstId = generatedFirstId;
+		copy.timeoutMs = timeoutMs;
+		copy.member = member == null ? null : member.copy();
+		copy.bulk = bulk == null ? null : bulk.copy();
+		return copy;
+	}
+
+	/**
+	 * Valida a configuração.
+	 * @throws IllegalArgumentException Se algum valor for inválido.
+	 */
+	public void validate() {
+		if (generatedMembers < 0 || generatedFirstId < 0) {
+			throw new IllegalArgumentException("A população gerada não pode ter tamanho ou ID inicial negativos");
+		}
+		if (timeoutMs <= 0) {
+			throw new IllegalArgumentException("timeoutMs deve ser positivo");
+		}
+		if (member == null || bulk == null) {
+			throw new IllegalArgumentException("As configurações de 'member' e 'bulk' são obrigatórias");
+		}
+		member.validate("member");
+		bulk.validate("bulk");
+	}
+
+	public long getGeneratedMembers() {
+		return generatedMembers;
+	}
+
+	public void setGeneratedMembers(long generatedMembers) {
+		this.generatedMembers = generatedMembers;
+	}
+
+	public long getGeneratedFirstId() {
+		return generatedFirstId;
+	}
+
+	public void setGeneratedFirstId(long generatedFirstId) {
+		this.generatedFirstId = generatedFirstId;
+	}
+
+	public long getTimeoutMs() {
+		return timeoutMs;
+	}
+
+	public void setTimeoutMs(long timeoutMs) {
+		this.timeoutMs = timeoutMs;
+	}
+
+	public EndpointConfig getMember() {
+		return member;
+	}
+
+	public void setMember(EndpointConfig member) {
+		this.member = member;
+	}
+
+	public EndpointConfig getBulk() {
+		return bulk;
+	}
+
+	public void setBulk(EndpointConfig bulk) {
+		this.bulk = bulk;
+	}
+}
@@ -0,0 +1,62 @@
+package com.mock.mock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda a configuração ativa do mock. A configuração inicial vem das propriedades mock.*;
+ * as requisições leem a referência atual sem bloqueio e o endpoint administrativo a substitui atomicamente.
+ */
+@Component
+public class MockConfigHolder {
+
+	private final MockConfig initial;
+	private volatile MockConfig current;
+
+	public MockConfigHolder(@Value("${mock.latency-ms:0}") long latencyMs,
+							@Value("${mock.latency-distribution:FIXA}") LatencyConfig.Distribution distribution,
+							@Value("${mock.latency-p99-ms:0}") long latencyP99Ms,
+							@Value("${mock.error-rate:0.0}") double errorRate,
+							@Value("${mock.timeout-rate:0.0}") double timeoutRate,
+							@Value("${mock.timeout-ms:30000}") long timeoutMs,
+							@Value("${mock.generated-members:0}") long generatedMembers,
+							@Value("${mock.generated-first-id:1000}") long generatedFirstId) {
+		MockConfig config = new MockConfig();
+		config.setGeneratedMembers(generatedMembers);
+		config.setGeneratedFirstId(generatedFirstId);
+		config.setTimeoutMs(timeoutMs);
+		// As propriedades se aplicam aos dois endpoints; ajustes individuais são feitos via /api/admin/configuracao
+		long p99Ms = Math.max(latencyP99Ms, latencyMs);
+		config.setMember(new EndpointConfig(new LatencyConfig(distribution, latencyMs, p99Ms), errorRate, timeoutRate));
+		config.setBulk(new EndpointConfig(new LatencyConfig(distribution, latencyMs, p99Ms), errorRate, timeoutRate));
+		config.validate();
+		this.initial = config;
+		this.current = config;
+	}
+
+	public MockConfig current() {
+		return current;
+	}
+
+	/**
+	 * Substitui a configuração ativa.
+	 * @param config A nova configuração (copiada, para que o chamador não a altere depois de publicada).
+	 * @return A configuração publicada.
+	 * @throws IllegalArgumentException Se a configuração for inválida.
+	 */
+	public MockConfig update(MockConfig config) {
+		MockConfig copy = config.copy();
+		copy.validate();
+		current = copy;
+		return copy;
+	}
+
+	/**
+	 * Restaura a configuração definida pelas propriedades na inicialização.
+	 * @return A configuração publicada.
+	 */
+	public MockConfig reset() {
+		current = initial;
+		return initial;
+	}
+}
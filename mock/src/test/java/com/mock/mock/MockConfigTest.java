@@ -0,0 +1,72 @@
+package com.mock.mock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockConfigTest {
+
+	private static final int SAMPLES = 200_000;
+
+	@Test
+	@DisplayName("Deve sortear latências lognormais com a mediana e o p99 configurados")
+	void shouldSampleLogNormalWithConfiguredPercentiles() {
+		long[] samples = sample(new LatencyConfig(LatencyConfig.Distribution.LOGNORMAL, 20, 200));
+
+		assertEquals(20_000, percentile(samples, 0.50), 1_000);
+		assertEquals(200_000, percentile(samples, 0.99), 15_000);
+	}
+
+	@Test
+	@DisplayName("Deve sortear latências exponenciais com a mediana configurada")
+	void shouldSampleExponentialWithConfiguredMedian() {
+		long[] samples = sample(new LatencyConfig(LatencyConfig.Distribution.EXPONENCIAL, 50, 0));
+
+		assertEquals(50_000, percentile(samples, 0.50), 2_500);
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar taxas de erro e timeout que somam mais de 1")
+	void shouldRejectFaultRatesAboveOne() {
+		MockConfig config = new MockConfig();
+		config.setMember(new EndpointConfig(new LatencyConfig(), 0.6, 0.5));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, config::validate);
+		assertTrue(exception.getMessage().startsWith("member:"));
+	}
+
+	@Test
+	@DisplayName("Deve publicar uma cópia da configuração e restaurar a inicial no reset")
+	void shouldPublishCopyAndRestoreInitialConfig() {
+		MockConfigHolder holder = new MockConfigHolder(10, LatencyConfig.Distribution.FIXA, 0, 0.0, 0.0, 30000, 0, 1000);
+		MockConfig initial = holder.current();
+		MockConfig config = initial.copy();
+		config.setGeneratedMembers(1_000_000);
+
+		MockConfig published = holder.update(config);
+		config.setGeneratedMembers(5);
+
+		assertEquals(1_000_000, holder.current().getGeneratedMembers());
+		assertSame(published, holder.current());
+		assertSame(initial, holder.reset());
+		assertEquals(10, holder.current().getBulk().getLatency().getMedianMs());
+	}
+
+	private static long[] sample(LatencyConfig latency) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long[] samples = new long[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			samples[i] = latency.sampleMicros(random);
+		}
+		Arrays.sort(samples);
+		return samples;
+	}
+
+	private static long percentile(long[] sorted, double quantile) {
+		return sorted[(int) (quantile * (sorted.length - 1))];
+	}
+}
@@ -0,0 +1,24 @@
+package com.gerenciador.projeto.client;
+
+import com.gerenciador.projeto.config.CorrelationIdFilter;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repassa o ID de correlação da requisição atual (MDC) no cabeçalho X-Correlation-ID das chamadas Feign,
+ * para que os logs da API de membros possam ser relacionados aos do projeto.
+ * É aplicado automaticamente a todos os clientes por ser um bean do tipo {@link RequestInterceptor}.
+ */
+@Component
+public class CorrelationIdRequestInterceptor implements RequestInterceptor {
+
+    @Override
+    public void apply(RequestTemplate template) {
+        String correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        if (correlationId != null) {
+            template.header(CorrelationIdFilter.HEADER, correlationId);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.gerenciador.projeto.client;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(name = "event-webhook", url = "${app.outbox.sinks.webhook.url}") // Endpoint que recebe os lotes de eventos do outbox
+public interface EventWebhookClient {
+
+    // Uma requisição por lote; qualquer resposta fora de 2xx faz o lote ser reenviado
+    @PostMapping
+    void publish(@RequestBody List<DomainEventDTO> events);
+
+}
@@ -0,0 +1,60 @@
+package com.gerenciador.projeto.client;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Capability do Feign que mede a latência de cada chamada dos clientes Feign (ex: {@link MemberApiClient}).
+ * Registra o timer 'feign.client.requests' com histograma de latência e as tags:
+ * client (nome do cliente), method (método da interface), status e outcome (SUCCESS, CLIENT_ERROR, SERVER_ERROR, IO_ERROR...).
+ * É aplicada automaticamente a todos os clientes por ser um bean do tipo {@link Capability}.
+ */
+@Component
+public class FeignMetricsCapability implements Capability {
+
+    static final String METRIC_NAME = "feign.client.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public FeignMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                Response response = client.execute(request, options);
+                sample.stop(timer(request, String.valueOf(response.status()), Outcome.forStatus(response.status()).name()));
+                return response;
+            } catch (IOException | RuntimeException e) {
+                sample.stop(timer(request, "IO_ERROR", "IO_ERROR"));
+                throw e;
+            }
+        };
+    }
+
+    private Timer timer(Request request, String status, String outcome) {
+        RequestTemplate template = request.requestTemplate();
+        String clientName = template != null && template.feignTarget() != null ? template.feignTarget().name() : "unknown";
+        String method = template != null && template.methodMetadata() != null ? template.methodMetadata().configKey() : "unknown";
+        return Timer.builder(METRIC_NAME)
+                .description("Latência das chamadas às APIs externas via Feign")
+                .tag("client", clientName)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
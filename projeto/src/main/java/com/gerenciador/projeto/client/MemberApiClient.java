@@ -4,6 +4,11 @@ import com.gerenciador.projeto.dto.MemberDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "member-service", url = "${app.member-api.base-url}") // URL configurável no application.properties
 public interface MemberApiClient {
@@ -11,5 +16,8 @@ public interface MemberApiClient {
     @GetMapping("/api/membros/{id}")
     MemberDTO getMemberById(@PathVariable("id") Long id);
 
-}
+    // Busca vários membros em uma única chamada; IDs inexistentes são omitidos da resposta
+    @PostMapping("/api/membros/lote")
+    List<MemberDTO> getMembersByIds(@RequestBody Collection<Long> ids);
 
+}
@@ -0,0 +1,79 @@
+package com.gerenciador.projeto.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * {@link PasswordEncoder} que evita recalcular o BCrypt a cada requisição HTTP Basic.
+ * Após uma verificação bem-sucedida, guarda por um curto período apenas um HMAC-SHA256
+ * (senha informada + hash armazenado), calculado com uma chave aleatória gerada a cada inicialização.
+ * A senha em texto puro nunca é armazenada, e a troca de senha invalida a entrada, pois o hash armazenado muda.
+ * Somente verificações positivas são guardadas: senhas incorretas sempre passam pelo encoder original.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final Cache<String, Boolean> verifiedCredentials;
+    private final SecretKeySpec key;
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, Duration ttl, long maxEntries) {
+        this.delegate = delegate;
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        String cacheKey = fingerprint(rawPassword, encodedPassword);
+        if (verifiedCredentials.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            verifiedCredentials.put(cacheKey, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // HMAC de "senha \0 hash armazenado"; a instância de Mac não é thread-safe, por isso é criada a cada chamada (custo de microssegundos)
+    private String fingerprint(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(encodedPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível na JVM", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gerenciador.projeto.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Associa um ID de correlação a cada requisição: o recebido no cabeçalho X-Correlation-ID ou, na falta dele
+ * (ou se for inválido), um novo. O ID fica no MDC durante a requisição, e por isso aparece em todos os logs dela,
+ * é devolvido no mesmo cabeçalho da resposta e é repassado às chamadas Feign (ver CorrelationIdRequestInterceptor).
+ * Roda antes da segurança, para que requisições rejeitadas também tenham o ID.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-ID";
+    public static final String MDC_KEY = "correlationId";
+
+    // Limita o que é aceito do cliente, já que o valor vai para os logs e para outros serviços
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String received = request.getHeader(HEADER);
+        String correlationId = received != null && VALID_ID.matcher(received).matches() ? received : UUID.randomUUID().toString();
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(HEADER, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gerenciador.projeto.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+
+/**
+ * Guarda o instante da última escrita confirmada de cada cliente, para que as leituras seguintes desse cliente
+ * só usem réplicas que já aplicaram a escrita (ver {@link ReplicaLagMonitor#eligibleReplicas(Long)}).
+ * Com autenticação por token, o cliente é o token (claim jti): clientes distintos do mesmo usuário não esperam
+ * pelas escritas uns dos outros. Com HTTP Basic não há sessão nem token, e o cliente é o usuário autenticado;
+ * como todos os clientes compartilham a conta USER, uma escrita faz todas as leituras evitarem as réplicas
+ * defasadas até que a apliquem (limitação aceita: custa apenas leituras extras no primário).
+ * As entradas expiram após o atraso máximo aceito: depois disso qualquer réplica elegível já contém a escrita.
+ * O estado é local à instância; com várias instâncias, a garantia vale para leituras atendidas pela mesma instância.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Long> lastWriteByClient;
+
+    public ReadYourWritesTracker(Duration ttl, long maxClients) {
+        this.lastWriteByClient = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    /**
+     * Registra uma escrita confirmada agora pelo cliente da requisição atual.
+     */
+    public void recordWrite() {
+        String client = currentClient();
+        if (client != null) {
+            lastWriteByClient.put(client, System.nanoTime());
+        }
+    }
+
+    /**
+     * @return O instante (System.nanoTime) da última escrita do cliente atual, ou null se não há escrita recente.
+     */
+    public Long lastWrite() {
+        String client = currentClient();
+        return client == null ? null : lastWriteByClient.getIfPresent(client);
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            // Tokens sem jti (emitidos antes dele) são identificados pelo próprio valor
+            String tokenId = jwtAuthentication.getToken().getId();
+            return "token:" + (tokenId != null ? tokenId : jwtAuthentication.getToken().getTokenValue());
+        }
+        return "user:" + authentication.getName();
+    }
+}
@@ -0,0 +1,159 @@
+package com.gerenciador.projeto.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Acompanha o atraso de replicação de cada réplica comparando posições do WAL.
+ * A cada execução lê a posição atual do WAL no primário e, em seguida, a posição já aplicada em cada réplica.
+ * Uma réplica alcançou uma amostra do primário quando a posição aplicada é maior ou igual à amostrada;
+ * o atraso é o tempo desde a amostra mais recente alcançada, e com o primário ocioso ele permanece zero.
+ * Réplicas inacessíveis ou fora de recuperação (que não são réplicas) ficam indisponíveis até a próxima leitura.
+ * Se as leituras pararem (agendador atrasado ou consulta presa), o último estado deixa de valer após duas vezes
+ * o intervalo de leitura mais o atraso máximo, e as leituras voltam ao primário até a próxima leitura concluída.
+ * Apenas a thread do agendador atualiza o estado; as threads de requisição leem o último estado publicado.
+ */
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT CAST(pg_current_wal_lsn() - '0/0' AS bigint)";
+    // NULL quando o servidor não está em recuperação
+    private static final String REPLAY_LSN_SQL = "SELECT CAST(pg_last_wal_replay_lsn() - '0/0' AS bigint)";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+    private final long maxLagNanos;
+    private final long maxStatusAgeNanos;
+    // Amostras do primário (instante em System.nanoTime e posição do WAL), da mais antiga para a mais recente
+    private final Deque<long[]> primarySamples = new ArrayDeque<>();
+    private volatile Map<String, ReplicaStatus> statuses = Map.of();
+
+    public ReplicaLagMonitor(JdbcTemplate primary, Map<String, JdbcTemplate> replicas, Duration maxLag, Duration interval) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagNanos = maxLag.toNanos();
+        this.maxStatusAgeNanos = interval.multipliedBy(2).plus(maxLag).toNanos();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.monitor-interval-ms:1000}")
+    public void refresh() {
+        long sampledAt = System.nanoTime();
+        Long primaryLsn;
+        try {
+            primaryLsn = primary.queryForObject(PRIMARY_LSN_SQL, Long.class);
+        } catch (RuntimeException e) {
+            // Sem a posição do primário não há como medir o atraso: todas as leituras vão para o primário
+            statuses = Map.of();
+            return;
+        }
+        Map<String, Long> replayLsns = new HashMap<>();
+        replicas.forEach((name, replica) -> {
+            try {
+                replayLsns.put(name, replica.queryForObject(REPLAY_LSN_SQL, Long.class));
+            } catch (RuntimeException e) {
+                replayLsns.put(name, null);
+            }
+        });
+        record(sampledAt, primaryLsn, replayLsns);
+    }
+
+    /**
+     * Registra uma amostra do primário e as posições aplicadas pelas réplicas, recalculando o estado de cada réplica.
+     * @param sampledAt Instante (System.nanoTime) anterior à leitura da posição do primário.
+     * @param primaryLsn Posição atual do WAL no primário.
+     * @param replayLsns Posição aplicada por réplica; null para réplicas indisponíveis.
+     */
+    void record(long sampledAt, long primaryLsn, Map<String, Long> replayLsns) {
+        primarySamples.addLast(new long[]{sampledAt, primaryLsn});
+        // Amostras mais antigas que o atraso máximo não tornam nenhuma réplica elegível
+        while (primarySamples.size() > 1 && sampledAt - primarySamples.peekFirst()[0] > maxLagNanos) {
+            primarySamples.removeFirst();
+        }
+        Map<String, ReplicaStatus> updated = new LinkedHashMap<>();
+        replicas.keySet().forEach(name -> {
+            Long replayLsn = replayLsns.get(name);
+            updated.put(name, replayLsn == null ? ReplicaStatus.UNAVAILABLE : new ReplicaStatus(caughtUpAt(replayLsn), sampledAt));
+        });
+        statuses = updated;
+    }
+
+    // Instante da amostra mais recente cuja posição a réplica já aplicou, ou null se nenhuma amostra retida foi alcançada
+    private Long caughtUpAt(long replayLsn) {
+        Iterator<long[]> newestFirst = primarySamples.descendingIterator();
+        while (newestFirst.hasNext()) {
+            long[] sample = newestFirst.next();
+            if (sample[1] <= replayLsn) {
+                return sample[0];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Réplicas com atraso dentro do limite que já aplicaram as escritas confirmadas até o instante informado.
+     * @param writtenAfter Instante (System.nanoTime) da última escrita do cliente, ou null se não há escrita a aguardar.
+     * @return Os nomes das réplicas elegíveis, na ordem de configuração.
+     */
+    public List<String> eligibleReplicas(Long writtenAfter) {
+        return eligibleReplicas(writtenAfter, System.nanoTime());
+    }
+
+    List<String> eligibleReplicas(Long writtenAfter, long now) {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getValue().isEligible(maxLagNanos, writtenAfter, now - maxStatusAgeNanos))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Atraso da réplica na última leitura.
+     * @param name O nome da réplica.
+     * @return O atraso em segundos, ou NaN se a réplica está indisponível ou além das amostras retidas.
+     */
+    public double lagSeconds(String name) {
+        ReplicaStatus status = statuses.get(name);
+        return status == null || status.caughtUpAt == null ? Double.NaN : (status.sampledAt - status.caughtUpAt) / 1e9;
+    }
+
+    public Set<String> replicaNames() {
+        return replicas.keySet();
+    }
+
+    /**
+     * Estado de uma réplica na última leitura: instante da amostra alcançada e instante da leitura.
+     */
+    static final class ReplicaStatus {
+
+        static final ReplicaStatus UNAVAILABLE = new ReplicaStatus(null, 0);
+
+        private final Long caughtUpAt;
+        private final long sampledAt;
+
+        ReplicaStatus(Long caughtUpAt, long sampledAt) {
+            this.caughtUpAt = caughtUpAt;
+            this.sampledAt = sampledAt;
+        }
+
+        /**
+         * @param maxLagNanos O atraso máximo aceito.
+         * @param writtenAfter Instante da última escrita do cliente, ou null.
+         * @param sampledSince Instante a partir do qual a leitura ainda vale; leituras anteriores estão vencidas.
+         */
+        boolean isEligible(long maxLagNanos, Long writtenAfter, long sampledSince) {
+            if (caughtUpAt == null || sampledAt - caughtUpAt > maxLagNanos || sampledAt - sampledSince < 0) {
+                return false;
+            }
+            // A amostra alcançada precisa ter sido lida depois do commit da escrita do cliente
+            return writtenAfter == null || caughtUpAt - writtenAfter > 0;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.gerenciador.projeto.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração do roteamento de leituras para réplicas do PostgreSQL.
+ * Transações readOnly = true vão para uma réplica elegível; escritas e transações comuns vão para o primário
+ * (spring.datasource). Ativação: app.datasource.replicas.enabled=true e app.datasource.replicas.urls com as réplicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    // Pool do primário, configurado pelas propriedades spring.datasource.* como o pool padrão do Spring Boot
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.datasource.replicas.urls:}") List<String> urls,
+                                     @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                     @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                     @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            // Réplica fora do ar não pode segurar a requisição pelo timeout padrão de 30s
+            replica.setConnectionTimeout(2000);
+            // Sem conexões no início: a aplicação sobe mesmo com réplicas indisponíveis
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaPools(replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ReplicaPools replicaPools,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag,
+                                               @Value("${app.datasource.replicas.monitor-interval-ms:1000}") long intervalMs,
+                                               @Value("${app.datasource.replicas.probe-timeout:1s}") Duration probeTimeout) {
+        Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+        replicaPools.pools().forEach((name, replica) -> replicas.put(name, probeTemplate(replica, probeTimeout)));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(probeTemplate(primaryDataSource, probeTimeout), replicas, maxLag,
+                Duration.ofMillis(intervalMs));
+        monitor.replicaNames().forEach(name -> Gauge.builder("projeto.datasource.replica.lag", monitor, m -> m.lagSeconds(name))
+                .description("Atraso de replicação medido pela posição do WAL (NaN se indisponível)")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(meterRegistry));
+        return monitor;
+    }
+
+    // Uma réplica travada não pode prender a thread do agendador, compartilhada com as demais tarefas
+    private static JdbcTemplate probeTemplate(DataSource dataSource, Duration timeout) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setQueryTimeout((int) Math.max(1, timeout.toSeconds())); // o driver aceita apenas segundos inteiros
+        return template;
+    }
+
+    // Após uma escrita, as leituras do mesmo cliente evitam réplicas que ainda não a aplicaram, até o atraso máximo
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        return new ReadYourWritesTracker(maxLag.multipliedBy(2), 100_000);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaPools replicaPools,
+                                                             ReplicaLagMonitor replicaLagMonitor,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        Map<Object, Object> targets = new HashMap<>(replicaPools.pools());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    // DataSource usado por JPA, JdbcTemplate e Flyway: a rota é decidida no primeiro comando da transação
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Pools das réplicas por nome, fechados junto com o contexto da aplicação.
+     */
+    public static final class ReplicaPools implements AutoCloseable {
+
+        private final Map<String, HikariDataSource> pools;
+
+        ReplicaPools(Map<String, HikariDataSource> pools) {
+            this.pools = pools;
+        }
+
+        public Map<String, HikariDataSource> pools() {
+            return pools;
+        }
+
+        @Override
+        public void close() {
+            pools.values().forEach(HikariDataSource::close);
+        }
+    }
+}
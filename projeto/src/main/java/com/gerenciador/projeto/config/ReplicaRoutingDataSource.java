@@ -0,0 +1,67 @@
+package com.gerenciador.projeto.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia as transações somente leitura para uma réplica e as demais para o primário.
+ * A réplica é escolhida em rodízio entre as elegíveis segundo o {@link ReplicaLagMonitor}: atraso dentro do limite e,
+ * se o cliente escreveu recentemente, já com a escrita aplicada. Sem réplica elegível, a leitura vai para o primário.
+ * Precisa ser envolvido por um LazyConnectionDataSourceProxy: a conexão só é obtida no primeiro comando,
+ * quando o Spring já marcou a transação como somente leitura.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String ROUTE_METRIC = "projeto.datasource.routes";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = route();
+        routeCounters.computeIfAbsent(target, key -> Counter.builder(ROUTE_METRIC)
+                .description("Conexões obtidas por destino (primário ou réplica)")
+                .tag("target", key)
+                .register(meterRegistry)).increment();
+        return target;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Leituras seguintes do mesmo cliente aguardam as réplicas aplicarem esta transação
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.recordWrite();
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        List<String> eligible = lagMonitor.eligibleReplicas(readYourWritesTracker.lastWrite());
+        if (eligible.isEmpty()) {
+            return PRIMARY;
+        }
+        return eligible.get(Math.floorMod(nextReplica.getAndIncrement(), eligible.size()));
+    }
+}
@@ -1,7 +1,10 @@
 package com.gerenciador.projeto.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -10,9 +13,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 /**
  * Configuração de segurança para a aplicação, utilizando Spring Security.
  * Define usuários em memória, proteção de endpoints e liberação do Swagger UI.
@@ -21,9 +27,18 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // O BCrypt custa dezenas de milissegundos de CPU e, com HTTP Basic stateless, rodaria em toda requisição.
+    // Por padrão as credenciais já verificadas ficam em cache (ver CachingPasswordEncoder).
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.credential-cache.enabled:true}") boolean credentialCacheEnabled,
+            @Value("${app.security.credential-cache.ttl:5m}") Duration credentialCacheTtl,
+            @Value("${app.security.credential-cache.max-entries:10000}") long credentialCacheMaxEntries) {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        if (!credentialCacheEnabled) {
+            return bcrypt;
+        }
+        return new CachingPasswordEncoder(bcrypt, credentialCacheTtl, credentialCacheMaxEntries);
     }
 
     // Configura um UserDetailsService em memória para autenticação.
@@ -39,25 +54,37 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, ObjectProvider<JwtDecoder> jwtDecoder) throws Exception {
+        // Modo por token (TokenAuthConfig): aceita 'Authorization: Bearer <token>', validado só com HMAC, sem BCrypt
+        JwtDecoder decoder = jwtDecoder.getIfAvailable();
+
         http
                 .csrf(csrf -> csrf.disable()) // Desabilita CSRF para APIs REST
-                .authorizeHttpRequests(authorize -> authorize
-                        // Permite acesso público ao Swagger UI e à documentação OpenAPI
-                        .requestMatchers(
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/webjars/**" // Necessário para carregar recursos do Swagger UI
-                        ).permitAll() // Libera esses caminhos
-                        // Todas as outras requisições para /api/** exigem autenticação
-                        .requestMatchers("/api/**").authenticated()
-                        // Se você tiver outros endpoints que não sejam /api/**, pode definir regras específicas ou tornar o resto autenticado
-                        .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(authorize -> {
+                    // Permite acesso público ao Swagger UI e à documentação OpenAPI
+                    authorize.requestMatchers(
+                            "/swagger-ui.html",
+                            "/swagger-ui/**",
+                            "/v3/api-docs/**",
+                            "/webjars/**" // Necessário para carregar recursos do Swagger UI
+                    ).permitAll(); // Libera esses caminhos
+                    if (decoder != null) {
+                        // Login do modo por token: verifica a senha uma vez e emite o token
+                        authorize.requestMatchers(HttpMethod.POST, "/api/auth/token").permitAll();
+                    }
+                    authorize
+                            // Todas as outras requisições para /api/** exigem autenticação
+                            .requestMatchers("/api/**").authenticated()
+                            // Se você tiver outros endpoints que não sejam /api/**, pode definir regras específicas ou tornar o resto autenticado
+                            .anyRequest().authenticated();
+                })
                 .httpBasic(org.springframework.security.config.Customizer.withDefaults()) // Habilita autenticação Basic HTTP
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)); // Para APIs RESTful, sem estado de sessão
 
+        if (decoder != null) {
+            http.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(decoder)));
+        }
+
         return http.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.gerenciador.projeto.config;
+
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logger para erros que se repetem em rajada (ex: API de membros fora do ar, com uma falha por membro de cada resposta).
+ * Cada combinação de mensagem e tipo de exceção é registrada no máximo uma vez por janela; as ocorrências
+ * suprimidas são contadas e informadas no campo 'suppressed' do próximo registro dessa combinação.
+ */
+public class ThrottledLogger {
+
+    private final Logger logger;
+    private final long windowMillis;
+    private final Clock clock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ThrottledLogger(Logger logger, Duration window) {
+        this(logger, window, Clock.systemUTC());
+    }
+
+    ThrottledLogger(Logger logger, Duration window, Clock clock) {
+        this.logger = logger;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Registra um aviso, a menos que a mesma mensagem com o mesmo tipo de exceção já tenha sido registrada na janela atual.
+     * @param cause A exceção que originou o aviso (só o tipo é usado para agrupar; o rastreamento não é registrado).
+     * @param message A mensagem no formato do SLF4J, com {} para os argumentos.
+     * @param arguments Os argumentos da mensagem.
+     */
+    public void warn(Throwable cause, String message, Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        String key = message + '|' + (cause == null ? "" : cause.getClass().getName());
+        long suppressed = windows.computeIfAbsent(key, k -> new Window()).tryOpen(clock.millis(), windowMillis);
+        if (suppressed < 0) {
+            return;
+        }
+        LoggingEventBuilder event = logger.atWarn().setMessage(message);
+        for (Object argument : arguments) {
+            event = event.addArgument(argument);
+        }
+        if (suppressed > 0) {
+            event = event.addKeyValue("suppressed", suppressed);
+        }
+        event.log();
+    }
+
+    /**
+     * Janela de uma combinação de mensagem e exceção: instante em que o próximo registro é permitido
+     * e quantas ocorrências foram suprimidas desde o último.
+     */
+    private static final class Window {
+
+        private final AtomicLong nextAllowedAt = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * @return O número de ocorrências suprimidas desde o último registro, ou -1 se esta também deve ser suprimida.
+         */
+        long tryOpen(long now, long windowMillis) {
+            long allowedAt = nextAllowedAt.get();
+            if (now >= allowedAt && nextAllowedAt.compareAndSet(allowedAt, now + windowMillis)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
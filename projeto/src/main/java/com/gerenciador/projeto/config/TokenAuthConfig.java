@@ -0,0 +1,67 @@
+package com.gerenciador.projeto.config;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuração do modo de autenticação por token assinado (JWT HS256, sem provedor de identidade externo).
+ * A senha é verificada (BCrypt) apenas no login; as demais requisições enviam 'Authorization: Bearer <token>',
+ * validado com um HMAC. Como a chave é compartilhada via configuração, várias instâncias aceitam o mesmo token.
+ * Ativação: app.security.token.enabled=true e app.security.token.secret com pelo menos 32 bytes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.security.token.enabled", havingValue = "true")
+public class TokenAuthConfig {
+
+    static final int MIN_SECRET_BYTES = 32; // HS256 exige chave de pelo menos 256 bits
+
+    @Bean
+    public SecretKey tokenSigningKey(@Value("${app.security.token.secret:}") String secret) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.token.secret deve ter pelo menos " + MIN_SECRET_BYTES + " bytes.");
+        }
+        return new SecretKeySpec(secretBytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    // Valida assinatura, expiração e emissor
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenSigningKey, @Value("${app.security.token.issuer:projeto}") String issuer) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(tokenSigningKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+
+    // Usado pelo endpoint de login para verificar usuário e senha uma única vez
+    @Bean
+    public AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
+}
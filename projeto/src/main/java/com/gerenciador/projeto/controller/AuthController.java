@@ -0,0 +1,50 @@
+package com.gerenciador.projeto.controller;
+
+import com.gerenciador.projeto.dto.LoginRequestDTO;
+import com.gerenciador.projeto.dto.TokenResponseDTO;
+import com.gerenciador.projeto.service.IAuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para emissão de tokens de acesso.
+ * Registrado apenas com app.security.token.enabled=true.
+ */
+@RestController
+@RequestMapping("/api/auth")
+@Tag(name = "Autenticação", description = "Endpoints para emissão de tokens de acesso.")
+@ConditionalOnProperty(name = "app.security.token.enabled", havingValue = "true")
+public class AuthController {
+
+    private final IAuthService authService;
+
+    public AuthController(IAuthService authService) {
+        this.authService = authService;
+    }
+
+    @Operation(summary = "Emite um token de acesso",
+            description = "Verifica usuário e senha e retorna um token assinado. Nas demais requisições, envie 'Authorization: Bearer <token>' em vez do HTTP Basic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token emitido com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TokenResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Usuário ou senha não informados",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Erro de validação\",\"validations\":{\"password\":\"A senha é obrigatória.\"}}"))),
+            @ApiResponse(responseCode = "401", description = "Usuário ou senha inválidos",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Usuário ou senha inválidos.\"}")))
+    })
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponseDTO> issueToken(@Valid @RequestBody LoginRequestDTO loginRequest) {
+        return ResponseEntity.ok(authService.issueToken(loginRequest));
+    }
+}
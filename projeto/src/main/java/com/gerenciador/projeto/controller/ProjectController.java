@@ -1,9 +1,20 @@
 package com.gerenciador.projeto.controller;
 
+import com.gerenciador.projeto.dto.ArchiveResultDTO;
+import com.gerenciador.projeto.dto.BulkAllocationRequestDTO;
+import com.gerenciador.projeto.dto.BulkAllocationResultDTO;
+import com.gerenciador.projeto.dto.BulkStatusUpdateRequestDTO;
+import com.gerenciador.projeto.dto.BulkStatusUpdateResultDTO;
+import com.gerenciador.projeto.dto.ChangeSetDTO;
 import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+import com.gerenciador.projeto.dto.ProjectFilterDTO;
 import com.gerenciador.projeto.dto.ProjectRequestDTO;
 import com.gerenciador.projeto.dto.ProjectResponseDTO;
 import com.gerenciador.projeto.dto.ProjectStatusUpdateDTO;
+import com.gerenciador.projeto.service.IProjectArchiveService;
+import com.gerenciador.projeto.service.IProjectChangeService;
+import com.gerenciador.projeto.service.IProjectEventStreamService;
 import com.gerenciador.projeto.service.IProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,14 +24,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -33,9 +45,18 @@ import java.util.List;
 public class ProjectController {
 
     private final IProjectService projectService;
+    private final IProjectArchiveService projectArchiveService;
+    private final IProjectEventStreamService projectEventStreamService;
+    private final IProjectChangeService projectChangeService;
 
-    public ProjectController(IProjectService projectService) {
+    public ProjectController(IProjectService projectService,
+                             IProjectArchiveService projectArchiveService,
+                             IProjectEventStreamService projectEventStreamService,
+                             IProjectChangeService projectChangeService) {
         this.projectService = projectService;
+        this.projectArchiveService = projectArchiveService;
+        this.projectEventStreamService = projectEventStreamService;
+        this.projectChangeService = projectChangeService;
     }
 
     @Operation(summary = "Cria um novo projeto",
@@ -75,32 +96,78 @@ public class ProjectController {
     }
 
     @Operation(summary = "Lista todos os projetos com filtros e paginação",
-            description = "Retorna uma lista paginada de projetos. Permite filtrar por nome (parcial), status, ID do gerente e intervalo de datas de início.")
+            description = "Retorna uma lista paginada de projetos. Permite filtrar por nome (parcial), um ou mais status, gerentes e níveis de risco, " +
+                    "e intervalos de data de início, data prevista de término e orçamento. Filtros de múltiplos valores aceitam " +
+                    "o parâmetro repetido ou valores separados por vírgula (ex: status=INICIADO,PLANEJADO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de projetos retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
-            @ApiResponse(responseCode = "400", description = "Status de projeto inválido no filtro",
+            @ApiResponse(responseCode = "400", description = "Status, nível de risco ou intervalo inválido no filtro",
                     content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Status inválido: XYZ\"}")))
     })
     @GetMapping
     public ResponseEntity<Page<ProjectResponseDTO>> getAllProjects(
-            @Parameter(description = "Filtra projetos por nome (case-insensitive, parcial)", example = "Portfólio")
-            @RequestParam(required = false) String name,
-            @Parameter(description = "Filtra projetos por status", example = "EM_ANDAMENTO",
-                    schema = @Schema(implementation = String.class, allowableValues = {"EM_ANALISE", "ANALISE_REALIZADA", "ANALISE_APROVADA", "INICIADO", "PLANEJADO", "EM_ANDAMENTO", "ENCERRADO", "CANCELADO"}))
-            @RequestParam(required = false) String status,
-            @Parameter(description = "Filtra projetos por ID do gerente", example = "101")
-            @RequestParam(required = false) Long managerId,
-            @Parameter(description = "Data de início mínima (formato dd/MM/yyyy)", example = "01/01/2023")
-            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate startDateFrom,
-            @Parameter(description = "Data de início máxima (formato dd/MM/yyyy)", example = "31/12/2023")
-            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate startDateTo,
+            @ParameterObject ProjectFilterDTO filter,
             @Parameter(description = "Configurações de paginação e ordenação (ex: page=0&size=10&sort=name,asc)")
             Pageable pageable) {
-        Page<ProjectResponseDTO> projects = projectService.getAllProjects(name, status, managerId, startDateFrom, startDateTo, pageable);
+        Page<ProjectResponseDTO> projects = projectService.getAllProjects(filter, pageable);
         return ResponseEntity.ok(projects);
     }
 
+    @Operation(summary = "Conta os projetos por status, gerente e nível de risco",
+            description = "Aceita os mesmos filtros da listagem e retorna as contagens de cada faceta e o total em uma única consulta, " +
+                    "substituindo uma chamada à listagem por valor de filtro.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectFacetsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Status, nível de risco ou intervalo inválido no filtro",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Nível de risco inválido: XYZ\"}")))
+    })
+    @GetMapping("/facetas")
+    public ResponseEntity<ProjectFacetsDTO> getProjectFacets(@ParameterObject ProjectFilterDTO filter) {
+        return ResponseEntity.ok(projectService.getProjectFacets(filter));
+    }
+
+    @Operation(summary = "Abre o stream de alterações de projetos (Server-Sent Events)",
+            description = "Envia criações, transições de status, alocações, desalocações e exclusões à medida que são publicadas, " +
+                    "opcionalmente filtradas por projeto ou gerente. Ao reconectar, o cabeçalho Last-Event-ID retoma o stream " +
+                    "a partir do último evento recebido; o evento 'reinicio' indica que o cliente deve recarregar o estado completo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto",
+                    content = @Content(mediaType = "text/event-stream"))
+    })
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectEvents(
+            @Parameter(description = "Envia apenas eventos deste projeto", example = "1")
+            @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Envia apenas eventos de projetos deste gerente", example = "1")
+            @RequestParam(required = false) Long managerId,
+            @Parameter(description = "Posição do último evento recebido, enviada pelo navegador ao reconectar")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ResponseEntity.ok(projectEventStreamService.subscribe(projectId, managerId, lastEventId));
+    }
+
+    @Operation(summary = "Lista as alterações desde a última sincronização",
+            description = "Retorna apenas os projetos e alocações criados ou alterados e as exclusões registradas após 'since', " +
+                    "com a marca d'água a ser usada na consulta seguinte. Destinado a sistemas que mantêm uma cópia do portfólio.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChangeSetDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Marca d'água ou tamanho de página inválido",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Marca d'água inválida: abc\"}"))),
+            @ApiResponse(responseCode = "410", description = "Marca d'água anterior à retenção das exclusões; refaça a sincronização completa",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"A marca d'água é anterior ao período de retenção das exclusões.\"}")))
+    })
+    @GetMapping("/alteracoes")
+    public ResponseEntity<ChangeSetDTO> getProjectChanges(
+            @Parameter(description = "Marca d'água da consulta anterior ou data/hora ISO-8601 inicial; vazio para todas as alterações",
+                    example = "2024-01-31T00:00:00")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Quantidade máxima de registros na página", example = "500")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectChangeService.getChangesSince(since, limit));
+    }
+
     @Operation(summary = "Atualiza os dados de um projeto existente",
             description = "Altera informações como nome, datas, orçamento e descrição de um projeto. A mudança de status deve ser feita via endpoint PATCH.")
     @ApiResponses(value = {
@@ -143,6 +210,38 @@ public class ProjectController {
         return ResponseEntity.ok(updatedProject);
     }
 
+    @Operation(summary = "Atualiza o status de vários projetos em lote",
+            description = "Aplica as regras de transição sequencial (ou cancelamento) a cada projeto do lote em uma única transação. Transições inválidas são rejeitadas individualmente e a resposta não inclui dados de gerente ou membros.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkStatusUpdateResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, acima de 1000 projetos ou com transições incompletas",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Erro de validação\"}")))
+    })
+    @PatchMapping("/status/lote")
+    public ResponseEntity<BulkStatusUpdateResultDTO> updateProjectStatusInBulk(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Transições de status a serem aplicadas", required = true)
+            @Valid @RequestBody BulkStatusUpdateRequestDTO bulkStatusUpdateRequestDTO) {
+        BulkStatusUpdateResultDTO result = projectService.updateProjectStatusInBulk(bulkStatusUpdateRequestDTO.getTransitions());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Arquiva projetos encerrados e cancelados",
+            description = "Move para as tabelas de arquivo, em lotes curtos, os projetos encerrados ou cancelados há mais dias que o período de retenção. " +
+                    "Os projetos arquivados deixam de aparecer nas consultas padrão e são incluídos com includeArchived=true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivamento executado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchiveResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Período de retenção negativo",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"O período de retenção não pode ser negativo.\"}")))
+    })
+    @PostMapping("/arquivamento")
+    public ResponseEntity<ArchiveResultDTO> archiveClosedProjects(
+            @Parameter(description = "Dias, desde o fechamento, que um projeto permanece nas tabelas principais", example = "90")
+            @RequestParam(defaultValue = "90") int retentionDays) {
+        return ResponseEntity.ok(projectArchiveService.archiveClosedProjects(retentionDays));
+    }
+
     @Operation(summary = "Exclui um projeto",
             description = "Remove um projeto do sistema. A exclusão é permitida apenas se o projeto não estiver em 'Em Andamento', 'Encerrado' ou 'Planejado'.")
     @ApiResponses(value = {
@@ -182,6 +281,24 @@ public class ProjectController {
         return ResponseEntity.ok(updatedProject);
     }
 
+    @Operation(summary = "Aloca membros em vários projetos em lote",
+            description = "Recebe pares projeto/membro e os processa em uma única transação, com validações feitas em conjunto e uma única consulta à API de membros. Retorna o resultado de cada par; pares rejeitados não impedem a gravação dos demais.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkAllocationResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, acima de 1000 pares ou com pares incompletos",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Erro de validação\"}"))),
+            @ApiResponse(responseCode = "503", description = "Serviço de membros indisponível",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":503,\"error\":\"Service Unavailable\",\"message\":\"Erro ao buscar membros em lote na API externa.\" }")))
+    })
+    @PostMapping("/membros/lote")
+    public ResponseEntity<BulkAllocationResultDTO> allocateMembersInBulk(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Pares projeto/membro a serem alocados", required = true)
+            @Valid @RequestBody BulkAllocationRequestDTO bulkAllocationRequestDTO) {
+        BulkAllocationResultDTO result = projectService.allocateMembersInBulk(bulkAllocationRequestDTO.getAllocations());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Desaloca um membro de um projeto",
             description = "Remove a associação de um membro com um projeto específico.")
     @ApiResponses(value = {
@@ -1,21 +1,39 @@
 package com.gerenciador.projeto.controller;
 
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
 import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
+import com.gerenciador.projeto.dto.StatusThroughputDTO;
+import com.gerenciador.projeto.enums.CountMode;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
 import com.gerenciador.projeto.service.IReportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Controller REST para gerenciar operações de relatórios.
- * Expõe endpoints para gerar um resumo do portfólio de projetos.
+ * Expõe endpoints para gerar um resumo do portfólio de projetos e relatórios por gerente e por membro.
  */
 @RestController
 @RequestMapping("/api/relatorios")
@@ -39,8 +57,143 @@ public class ReportController {
                     content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":503,\"error\":\"Service Unavailable\",\"message\":\"Erro ao buscar membros na API externa...\" }")))
     })
     @GetMapping("/resumo")
-    public ResponseEntity<PortfolioSummaryDTO> generatePortfolioSummary() {
-        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary();
+    public ResponseEntity<PortfolioSummaryDTO> generatePortfolioSummary(
+            @Parameter(description = "Contagem de membros únicos: EXATA ou APROXIMADA (estimativa HyperLogLog no banco, erro padrão de ~1,6%)", example = "APROXIMADA")
+            @RequestParam(defaultValue = "EXATA") CountMode uniqueMembers,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(uniqueMembers, includeArchived);
         return ResponseEntity.ok(summary);
     }
+
+    @Operation(summary = "Calcula o tempo em cada status",
+            description = "Retorna média, mediana e percentis 90/95 do tempo (em dias) em cada status, calculados no banco a partir do histórico de transições. Sem datas, considera os últimos 12 meses.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas calculadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatusDurationStatsDTO.class)))
+    })
+    @GetMapping("/status/tempo")
+    public ResponseEntity<List<StatusDurationStatsDTO>> getTimeInStatusStatistics(
+            @Parameter(description = "Data inicial do período (formato dd/MM/yyyy)", example = "01/01/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+            @Parameter(description = "Data final do período (formato dd/MM/yyyy)", example = "31/12/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(reportService.getTimeInStatusStatistics(start, end));
+    }
+
+    @Operation(summary = "Calcula a vazão semanal por status",
+            description = "Retorna, por semana, quantos projetos entraram em cada status e o total acumulado no período. Sem datas, considera os últimos 12 meses.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vazão calculada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatusThroughputDTO.class)))
+    })
+    @GetMapping("/status/vazao")
+    public ResponseEntity<List<StatusThroughputDTO>> getWeeklyStatusThroughput(
+            @Parameter(description = "Data inicial do período (formato dd/MM/yyyy)", example = "01/01/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+            @Parameter(description = "Data final do período (formato dd/MM/yyyy)", example = "31/12/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(reportService.getWeeklyStatusThroughput(start, end));
+    }
+
+    @Operation(summary = "Consulta a evolução do portfólio",
+            description = "Retorna os snapshots diários gravados no período, sem recalcular os projetos. Com granularidade SEMANAL ou MENSAL, " +
+                    "retorna o último snapshot de cada semana ou mês. Sem datas, considera os últimos 12 meses.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Série histórica retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortfolioSnapshotDTO.class)))
+    })
+    @GetMapping("/tendencias")
+    public ResponseEntity<List<PortfolioSnapshotDTO>> getPortfolioTrend(
+            @Parameter(description = "Data inicial do período (formato dd/MM/yyyy)", example = "01/01/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+            @Parameter(description = "Data final do período (formato dd/MM/yyyy)", example = "31/12/2024")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to,
+            @Parameter(description = "Granularidade da série (DIARIA, SEMANAL ou MENSAL)", example = "MENSAL")
+            @RequestParam(defaultValue = "DIARIA") SnapshotGranularity granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(reportService.getPortfolioTrend(start, end, granularity));
+    }
+
+    @Operation(summary = "Grava o snapshot do portfólio do dia",
+            description = "Calcula o resumo atual do portfólio e o grava como snapshot do dia, substituindo o snapshot do dia se já existir. " +
+                    "O snapshot também é gravado automaticamente todos os dias.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot gravado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortfolioSnapshotDTO.class)))
+    })
+    @PostMapping("/snapshots")
+    public ResponseEntity<PortfolioSnapshotDTO> capturePortfolioSnapshot() {
+        return ResponseEntity.ok(reportService.capturePortfolioSnapshot());
+    }
+
+    @Operation(summary = "Lista o resumo da carteira de cada gerente",
+            description = "Retorna, por gerente, a quantidade de projetos (total, ativos e por status), o orçamento total e sob gestão " +
+                    "e os membros distintos alocados nos projetos ativos. Ordenável por managerId, projectCount, activeProjectCount, " +
+                    "totalBudget, activeBudget e allocatedMembers.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Propriedade de ordenação inválida",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Ordenação inválida: name...\"}")))
+    })
+    @GetMapping("/gerentes")
+    public ResponseEntity<Page<ManagerPortfolioDTO>> getManagerPortfolios(
+            @Parameter(description = "Configurações de paginação e ordenação (ex: page=0&size=20&sort=activeBudget,desc)")
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(reportService.getManagerPortfolios(pageable, includeArchived));
+    }
+
+    @Operation(summary = "Gera o resumo da carteira de um gerente",
+            description = "Retorna o resumo da carteira do gerente informado; um gerente sem projetos tem as contagens zeradas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ManagerPortfolioDTO.class)))
+    })
+    @GetMapping("/gerentes/{managerId}")
+    public ResponseEntity<ManagerPortfolioDTO> getManagerPortfolio(
+            @Parameter(description = "ID do gerente", example = "1") @PathVariable Long managerId,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(reportService.getManagerPortfolio(managerId, includeArchived));
+    }
+
+    @Operation(summary = "Lista o resumo das alocações de cada membro",
+            description = "Retorna, por membro, a quantidade de projetos e de alocações ativas e o orçamento somado dos projetos. " +
+                    "Ordenável por memberId, projectCount, activeAllocations, totalBudget e activeBudget.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Propriedade de ordenação inválida",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"status\":400,\"error\":\"Bad Request\",\"message\":\"Ordenação inválida: name...\"}")))
+    })
+    @GetMapping("/membros")
+    public ResponseEntity<Page<MemberPortfolioDTO>> getMemberPortfolios(
+            @Parameter(description = "Configurações de paginação e ordenação (ex: page=0&size=20&sort=activeAllocations,desc)")
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(reportService.getMemberPortfolios(pageable, includeArchived));
+    }
+
+    @Operation(summary = "Gera o resumo das alocações de um membro",
+            description = "Retorna o resumo das alocações do membro informado; um membro sem alocações tem as contagens zeradas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MemberPortfolioDTO.class)))
+    })
+    @GetMapping("/membros/{memberId}")
+    public ResponseEntity<MemberPortfolioDTO> getMemberPortfolio(
+            @Parameter(description = "ID do membro", example = "2") @PathVariable Long memberId,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(reportService.getMemberPortfolio(memberId, includeArchived));
+    }
 }
@@ -0,0 +1,56 @@
+package com.gerenciador.projeto.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma alocação criada ou alterada, retornado pela consulta incremental de alterações.
+ */
+public class AllocationChangeDTO {
+
+    private Long id;
+    private Long projectId;
+    private Long memberId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.gerenciador.projeto.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para representar um par projeto/membro em uma requisição de alocação em lote.
+ */
+public class AllocationPairDTO {
+
+    @NotNull(message = "O ID do projeto é obrigatório.")
+    private Long projectId;
+
+    @NotNull(message = "O ID do membro é obrigatório.")
+    private Long memberId;
+
+    public AllocationPairDTO() {
+    }
+
+    public AllocationPairDTO(Long projectId, Long memberId) {
+        this.projectId = projectId;
+        this.memberId = memberId;
+    }
+
+    // Getters e Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+}
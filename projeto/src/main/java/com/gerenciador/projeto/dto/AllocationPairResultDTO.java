@@ -0,0 +1,57 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.AllocationOutcome;
+
+/**
+ * DTO com o resultado da alocação de um par projeto/membro em uma operação em lote.
+ */
+public class AllocationPairResultDTO {
+
+    private Long projectId;
+    private Long memberId;
+    private AllocationOutcome outcome;
+    private String message; // Motivo da rejeição, nulo quando alocado
+
+    public AllocationPairResultDTO() {
+    }
+
+    public AllocationPairResultDTO(Long projectId, Long memberId, AllocationOutcome outcome, String message) {
+        this.projectId = projectId;
+        this.memberId = memberId;
+        this.outcome = outcome;
+        this.message = message;
+    }
+
+    // Getters e Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public AllocationOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(AllocationOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
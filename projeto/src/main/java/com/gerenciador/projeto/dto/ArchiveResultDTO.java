@@ -0,0 +1,62 @@
+package com.gerenciador.projeto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de resposta de uma execução do arquivamento de projetos.
+ * Contém a data de corte aplicada, a quantidade de projetos movidos e de lotes executados
+ * e se ainda restam projetos elegíveis por ter sido atingido o limite de lotes.
+ */
+public class ArchiveResultDTO {
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate cutoffDate;
+    private int archivedCount;
+    private int batchCount;
+    private boolean complete;
+
+    public ArchiveResultDTO() {
+    }
+
+    public ArchiveResultDTO(LocalDate cutoffDate, int archivedCount, int batchCount, boolean complete) {
+        this.cutoffDate = cutoffDate;
+        this.archivedCount = archivedCount;
+        this.batchCount = batchCount;
+        this.complete = complete;
+    }
+
+    // Getters e Setters
+    public LocalDate getCutoffDate() {
+        return cutoffDate;
+    }
+
+    public void setCutoffDate(LocalDate cutoffDate) {
+        this.cutoffDate = cutoffDate;
+    }
+
+    public int getArchivedCount() {
+        return archivedCount;
+    }
+
+    public void setArchivedCount(int archivedCount) {
+        this.archivedCount = archivedCount;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public void setBatchCount(int batchCount) {
+        this.batchCount = batchCount;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
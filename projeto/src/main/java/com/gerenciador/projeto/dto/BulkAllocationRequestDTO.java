@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para receber uma alocação em lote de membros em vários projetos.
+ * Todos os pares são processados em uma única transação.
+ */
+public class BulkAllocationRequestDTO {
+
+    @NotEmpty(message = "Deve informar ao menos um par projeto/membro.")
+    @Size(max = 1000, message = "Deve alocar no máximo 1000 pares projeto/membro por vez.")
+    private List<@Valid AllocationPairDTO> allocations;
+
+    // Getters e Setters
+    public List<AllocationPairDTO> getAllocations() {
+        return allocations;
+    }
+
+    public void setAllocations(List<AllocationPairDTO> allocations) {
+        this.allocations = allocations;
+    }
+}
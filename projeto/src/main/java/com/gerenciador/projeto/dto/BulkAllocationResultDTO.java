@@ -0,0 +1,52 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.AllocationOutcome;
+
+import java.util.List;
+
+/**
+ * DTO de resposta de uma alocação em lote.
+ * Contém os totais de pares alocados/rejeitados e o resultado de cada par, na ordem da requisição.
+ */
+public class BulkAllocationResultDTO {
+
+    private int allocatedCount;
+    private int rejectedCount;
+    private List<AllocationPairResultDTO> results;
+
+    public BulkAllocationResultDTO() {
+    }
+
+    public BulkAllocationResultDTO(List<AllocationPairResultDTO> results) {
+        this.results = results;
+        this.allocatedCount = (int) results.stream()
+                .filter(result -> result.getOutcome() == AllocationOutcome.ALOCADO)
+                .count();
+        this.rejectedCount = results.size() - allocatedCount;
+    }
+
+    // Getters e Setters
+    public int getAllocatedCount() {
+        return allocatedCount;
+    }
+
+    public void setAllocatedCount(int allocatedCount) {
+        this.allocatedCount = allocatedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<AllocationPairResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<AllocationPairResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para receber uma atualização de status em lote.
+ * Todas as transições são processadas em uma única transação.
+ */
+public class BulkStatusUpdateRequestDTO {
+
+    @NotEmpty(message = "Deve informar ao menos uma transição de status.")
+    @Size(max = 1000, message = "Deve atualizar no máximo 1000 projetos por vez.")
+    private List<@Valid ProjectStatusTransitionDTO> transitions;
+
+    // Getters e Setters
+    public List<ProjectStatusTransitionDTO> getTransitions() {
+        return transitions;
+    }
+
+    public void setTransitions(List<ProjectStatusTransitionDTO> transitions) {
+        this.transitions = transitions;
+    }
+}
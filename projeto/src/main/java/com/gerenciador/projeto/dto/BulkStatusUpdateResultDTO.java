@@ -0,0 +1,52 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.StatusTransitionOutcome;
+
+import java.util.List;
+
+/**
+ * DTO de resposta de uma atualização de status em lote.
+ * Contém os totais de projetos atualizados/rejeitados e o resultado de cada transição, na ordem da requisição.
+ */
+public class BulkStatusUpdateResultDTO {
+
+    private int updatedCount;
+    private int rejectedCount;
+    private List<StatusTransitionResultDTO> results;
+
+    public BulkStatusUpdateResultDTO() {
+    }
+
+    public BulkStatusUpdateResultDTO(List<StatusTransitionResultDTO> results) {
+        this.results = results;
+        this.updatedCount = (int) results.stream()
+                .filter(result -> result.getOutcome() == StatusTransitionOutcome.ATUALIZADO)
+                .count();
+        this.rejectedCount = results.size() - updatedCount;
+    }
+
+    // Getters e Setters
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<StatusTransitionResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<StatusTransitionResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gerenciador.projeto.dto;
+
+import java.util.List;
+
+/**
+ * DTO de uma página da consulta incremental de alterações.
+ * Os registros vêm na ordem em que foram alterados; o cliente aplica as inclusões e alterações e depois as exclusões
+ * (IDs excluídos nunca são reutilizados) e envia a marca d'água na próxima consulta.
+ */
+public class ChangeSetDTO {
+
+    private List<ProjectChangeDTO> projects;
+    private List<AllocationChangeDTO> allocations;
+    private List<ChangeTombstoneDTO> deleted;
+    private String watermark; // Valor a ser enviado em 'since' na próxima consulta
+    private boolean hasMore; // Indica se há mais alterações além desta página
+
+    public ChangeSetDTO() {
+    }
+
+    public ChangeSetDTO(List<ProjectChangeDTO> projects, List<AllocationChangeDTO> allocations,
+                        List<ChangeTombstoneDTO> deleted, String watermark, boolean hasMore) {
+        this.projects = projects;
+        this.allocations = allocations;
+        this.deleted = deleted;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    // Getters e Setters
+    public List<ProjectChangeDTO> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<ProjectChangeDTO> projects) {
+        this.projects = projects;
+    }
+
+    public List<AllocationChangeDTO> getAllocations() {
+        return allocations;
+    }
+
+    public void setAllocations(List<AllocationChangeDTO> allocations) {
+        this.allocations = allocations;
+    }
+
+    public List<ChangeTombstoneDTO> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<ChangeTombstoneDTO> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.ChangeEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO da exclusão de um projeto ou de uma alocação, retornado pela consulta incremental de alterações.
+ */
+public class ChangeTombstoneDTO {
+
+    private ChangeEntityType entityType;
+    private Long entityId; // ID do projeto ou da alocação excluída
+    private Long projectId;
+    private LocalDateTime deletedAt;
+
+    // Getters e Setters
+    public ChangeEntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(ChangeEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.DomainEventType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO de um evento de domínio entregue pelo relay do outbox aos destinos configurados.
+ * O ID é o do registro no outbox e permite aos consumidores descartar entregas repetidas;
+ * a posição indica a ordem de publicação e é crescente entre lotes.
+ */
+public class DomainEventDTO {
+
+    private Long id;
+    private Long position;
+    private DomainEventType type;
+    private Long projectId;
+    private Long managerId;
+    private Map<String, Object> payload;
+    private LocalDateTime occurredAt;
+
+    public DomainEventDTO() {
+    }
+
+    public DomainEventDTO(Long id, Long position, DomainEventType type, Long projectId, Long managerId,
+                          Map<String, Object> payload, LocalDateTime occurredAt) {
+        this.id = id;
+        this.position = position;
+        this.type = type;
+        this.projectId = projectId;
+        this.managerId = managerId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public DomainEventType getType() {
+        return type;
+    }
+
+    public void setType(DomainEventType type) {
+        this.type = type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public Map<String, Object> getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Map<String, Object> payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
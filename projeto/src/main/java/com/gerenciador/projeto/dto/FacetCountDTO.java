@@ -0,0 +1,45 @@
+package com.gerenciador.projeto.dto;
+
+/**
+ * DTO com a quantidade de projetos para um valor de uma faceta (ex: status EM_ANDAMENTO: 12).
+ */
+public class FacetCountDTO {
+
+    private String value; // Código do status/nível de risco ou ID do gerente
+    private String label; // Descrição legível; nula para gerentes (nome obtido na API de membros pelo cliente)
+    private long count;
+
+    public FacetCountDTO() {
+    }
+
+    public FacetCountDTO(String value, String label, long count) {
+        this.value = value;
+        this.label = label;
+        this.count = count;
+    }
+
+    // Getters e Setters
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
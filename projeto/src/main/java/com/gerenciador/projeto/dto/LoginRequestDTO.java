@@ -0,0 +1,32 @@
+package com.gerenciador.projeto.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para receber as credenciais do usuário na emissão de um token de acesso.
+ */
+public class LoginRequestDTO {
+
+    @NotBlank(message = "O usuário é obrigatório.")
+    private String username;
+
+    @NotBlank(message = "A senha é obrigatória.")
+    private String password;
+
+    // Getters e Setters
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
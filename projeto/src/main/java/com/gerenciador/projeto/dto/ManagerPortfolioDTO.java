@@ -0,0 +1,82 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DTO com o resumo da carteira de projetos de um gerente.
+ * Projetos ativos são os que não estão encerrados nem cancelados.
+ */
+public class ManagerPortfolioDTO {
+
+    private Long managerId;
+    private long projectCount;
+    private long activeProjectCount;
+    private BigDecimal totalBudget; // Orçamento somado de todos os projetos do gerente
+    private BigDecimal activeBudget; // Orçamento sob gestão (apenas projetos ativos)
+    private long allocatedMembers; // Membros distintos alocados nos projetos ativos do gerente
+    private Map<ProjectStatus, Long> projectsByStatus = new EnumMap<>(ProjectStatus.class);
+
+    public ManagerPortfolioDTO() {
+    }
+
+    // Getters e Setters
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    public long getActiveProjectCount() {
+        return activeProjectCount;
+    }
+
+    public void setActiveProjectCount(long activeProjectCount) {
+        this.activeProjectCount = activeProjectCount;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public BigDecimal getActiveBudget() {
+        return activeBudget;
+    }
+
+    public void setActiveBudget(BigDecimal activeBudget) {
+        this.activeBudget = activeBudget;
+    }
+
+    public long getAllocatedMembers() {
+        return allocatedMembers;
+    }
+
+    public void setAllocatedMembers(long allocatedMembers) {
+        this.allocatedMembers = allocatedMembers;
+    }
+
+    public Map<ProjectStatus, Long> getProjectsByStatus() {
+        return projectsByStatus;
+    }
+
+    public void setProjectsByStatus(Map<ProjectStatus, Long> projectsByStatus) {
+        this.projectsByStatus = projectsByStatus;
+    }
+}
@@ -0,0 +1,69 @@
+package com.gerenciador.projeto.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com o resumo das alocações de um membro.
+ * Alocações ativas são as feitas em projetos que não estão encerrados nem cancelados.
+ */
+public class MemberPortfolioDTO {
+
+    private Long memberId;
+    private long projectCount; // Projetos em que o membro está ou esteve alocado
+    private long activeAllocations;
+    private BigDecimal totalBudget; // Orçamento somado dos projetos do membro
+    private BigDecimal activeBudget; // Orçamento somado apenas dos projetos ativos
+
+    public MemberPortfolioDTO() {
+    }
+
+    public MemberPortfolioDTO(Long memberId, long projectCount, long activeAllocations,
+                              BigDecimal totalBudget, BigDecimal activeBudget) {
+        this.memberId = memberId;
+        this.projectCount = projectCount;
+        this.activeAllocations = activeAllocations;
+        this.totalBudget = totalBudget;
+        this.activeBudget = activeBudget;
+    }
+
+    // Getters e Setters
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    public long getActiveAllocations() {
+        return activeAllocations;
+    }
+
+    public void setActiveAllocations(long activeAllocations) {
+        this.activeAllocations = activeAllocations;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public BigDecimal getActiveBudget() {
+        return activeBudget;
+    }
+
+    public void setActiveBudget(BigDecimal activeBudget) {
+        this.activeBudget = activeBudget;
+    }
+}
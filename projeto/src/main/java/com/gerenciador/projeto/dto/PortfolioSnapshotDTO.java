@@ -0,0 +1,94 @@
+package com.gerenciador.projeto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DTO com o resumo do portfólio registrado em uma data, usado na série histórica.
+ */
+public class PortfolioSnapshotDTO {
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate snapshotDate;
+    private long totalProjects;
+    private BigDecimal totalBudget;
+    private long uniqueMembers; // Membros distintos alocados em qualquer projeto
+    private double averageDurationOfFinishedProjects; // Em dias
+    private Map<ProjectStatus, Long> projectsByStatus = new EnumMap<>(ProjectStatus.class);
+    private Map<ProjectStatus, BigDecimal> totalBudgetByStatus = new EnumMap<>(ProjectStatus.class);
+    private Map<RiskLevel, Long> projectsByRiskLevel = new EnumMap<>(RiskLevel.class);
+
+    public PortfolioSnapshotDTO() {
+    }
+
+    // Getters e Setters
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public void setSnapshotDate(LocalDate snapshotDate) {
+        this.snapshotDate = snapshotDate;
+    }
+
+    public long getTotalProjects() {
+        return totalProjects;
+    }
+
+    public void setTotalProjects(long totalProjects) {
+        this.totalProjects = totalProjects;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public long getUniqueMembers() {
+        return uniqueMembers;
+    }
+
+    public void setUniqueMembers(long uniqueMembers) {
+        this.uniqueMembers = uniqueMembers;
+    }
+
+    public double getAverageDurationOfFinishedProjects() {
+        return averageDurationOfFinishedProjects;
+    }
+
+    public void setAverageDurationOfFinishedProjects(double averageDurationOfFinishedProjects) {
+        this.averageDurationOfFinishedProjects = averageDurationOfFinishedProjects;
+    }
+
+    public Map<ProjectStatus, Long> getProjectsByStatus() {
+        return projectsByStatus;
+    }
+
+    public void setProjectsByStatus(Map<ProjectStatus, Long> projectsByStatus) {
+        this.projectsByStatus = projectsByStatus;
+    }
+
+    public Map<ProjectStatus, BigDecimal> getTotalBudgetByStatus() {
+        return totalBudgetByStatus;
+    }
+
+    public void setTotalBudgetByStatus(Map<ProjectStatus, BigDecimal> totalBudgetByStatus) {
+        this.totalBudgetByStatus = totalBudgetByStatus;
+    }
+
+    public Map<RiskLevel, Long> getProjectsByRiskLevel() {
+        return projectsByRiskLevel;
+    }
+
+    public void setProjectsByRiskLevel(Map<RiskLevel, Long> projectsByRiskLevel) {
+        this.projectsByRiskLevel = projectsByRiskLevel;
+    }
+}
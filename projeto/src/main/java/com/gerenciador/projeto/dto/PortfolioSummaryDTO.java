@@ -1,5 +1,7 @@
 package com.gerenciador.projeto.dto;
 
+import com.gerenciador.projeto.enums.CountMode;
+
 import java.math.BigDecimal;
 import java.util.Map;
 
@@ -13,6 +15,8 @@ public class PortfolioSummaryDTO {
     private Map<String, BigDecimal> totalBudgetByStatus; // Total orçado por status
     private Double averageDurationOfFinishedProjects; // Média de duração dos projetos encerrados
     private Long totalUniqueMembersAllocated; // Total de membros únicos alocados
+    private CountMode uniqueMembersCountMode; // Exata ou aproximada (HyperLogLog)
+    private Double uniqueMembersStandardError; // Erro padrão relativo da contagem de membros; 0 quando exata
 
     // Getters e Setters
     public Map<String, Long> getProjectsByStatus() {
@@ -47,4 +51,19 @@ public class PortfolioSummaryDTO {
         this.totalUniqueMembersAllocated = totalUniqueMembersAllocated;
     }
 
+    public CountMode getUniqueMembersCountMode() {
+        return uniqueMembersCountMode;
+    }
+
+    public void setUniqueMembersCountMode(CountMode uniqueMembersCountMode) {
+        this.uniqueMembersCountMode = uniqueMembersCountMode;
+    }
+
+    public Double getUniqueMembersStandardError() {
+        return uniqueMembersStandardError;
+    }
+
+    public void setUniqueMembersStandardError(Double uniqueMembersStandardError) {
+        this.uniqueMembersStandardError = uniqueMembersStandardError;
+    }
 }
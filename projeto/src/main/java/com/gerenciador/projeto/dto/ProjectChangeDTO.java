@@ -0,0 +1,123 @@
+package com.gerenciador.projeto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gerenciador.projeto.enums.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de um projeto criado ou alterado, retornado pela consulta incremental de alterações.
+ * Contém apenas os dados persistidos, sem o nome do gerente e os membros (as alocações são reportadas à parte).
+ */
+public class ProjectChangeDTO {
+
+    private Long id;
+    private String name;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate forecastEndDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate actualEndDate;
+
+    private BigDecimal totalBudget;
+    private String description;
+    private Long managerId;
+    private ProjectStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getForecastEndDate() {
+        return forecastEndDate;
+    }
+
+    public void setForecastEndDate(LocalDate forecastEndDate) {
+        this.forecastEndDate = forecastEndDate;
+    }
+
+    public LocalDate getActualEndDate() {
+        return actualEndDate;
+    }
+
+    public void setActualEndDate(LocalDate actualEndDate) {
+        this.actualEndDate = actualEndDate;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
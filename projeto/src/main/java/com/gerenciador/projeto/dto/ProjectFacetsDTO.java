@@ -0,0 +1,49 @@
+package com.gerenciador.projeto.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO com as contagens de projetos por status, gerente e nível de risco para um conjunto de filtros.
+ * Status e níveis de risco aparecem sempre, inclusive com contagem zero; gerentes só aparecem se tiverem projetos.
+ */
+public class ProjectFacetsDTO {
+
+    private long total; // Total de projetos que atendem aos filtros
+    private List<FacetCountDTO> status = new ArrayList<>();
+    private List<FacetCountDTO> managers = new ArrayList<>(); // Ordenados pela quantidade de projetos, decrescente
+    private List<FacetCountDTO> riskLevels = new ArrayList<>();
+
+    // Getters e Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<FacetCountDTO> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<FacetCountDTO> status) {
+        this.status = status;
+    }
+
+    public List<FacetCountDTO> getManagers() {
+        return managers;
+    }
+
+    public void setManagers(List<FacetCountDTO> managers) {
+        this.managers = managers;
+    }
+
+    public List<FacetCountDTO> getRiskLevels() {
+        return riskLevels;
+    }
+
+    public void setRiskLevels(List<FacetCountDTO> riskLevels) {
+        this.riskLevels = riskLevels;
+    }
+}
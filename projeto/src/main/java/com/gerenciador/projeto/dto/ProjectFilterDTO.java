@@ -0,0 +1,147 @@
+package com.gerenciador.projeto.dto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO com os filtros da listagem de projetos, recebidos como parâmetros de consulta.
+ * Filtros de múltiplos valores aceitam o parâmetro repetido (status=INICIADO&status=PLANEJADO)
+ * ou separado por vírgulas (status=INICIADO,PLANEJADO); valores de um mesmo filtro são combinados com OU
+ * e filtros diferentes com E.
+ */
+public class ProjectFilterDTO {
+
+    @Parameter(description = "Filtra projetos por nome (case-insensitive, parcial)", example = "Portfólio")
+    private String name;
+
+    @Parameter(description = "Filtra projetos por um ou mais status (código ou descrição)", example = "EM_ANDAMENTO,PLANEJADO",
+            array = @ArraySchema(schema = @Schema(implementation = String.class, allowableValues = {"EM_ANALISE", "ANALISE_REALIZADA", "ANALISE_APROVADA", "INICIADO", "PLANEJADO", "EM_ANDAMENTO", "ENCERRADO", "CANCELADO"})))
+    private List<String> status;
+
+    @Parameter(description = "Filtra projetos por um ou mais IDs de gerente", example = "1,2")
+    private List<Long> managerId;
+
+    @Parameter(description = "Data de início mínima (formato dd/MM/yyyy)", example = "01/01/2023")
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate startDateFrom;
+
+    @Parameter(description = "Data de início máxima (formato dd/MM/yyyy)", example = "31/12/2023")
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate startDateTo;
+
+    @Parameter(description = "Orçamento total mínimo", example = "100000")
+    private BigDecimal minBudget;
+
+    @Parameter(description = "Orçamento total máximo", example = "500000")
+    private BigDecimal maxBudget;
+
+    @Parameter(description = "Data prevista de término mínima (formato dd/MM/yyyy)", example = "01/01/2024")
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate forecastEndDateFrom;
+
+    @Parameter(description = "Data prevista de término máxima (formato dd/MM/yyyy)", example = "31/12/2024")
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate forecastEndDateTo;
+
+    @Parameter(description = "Filtra projetos por um ou mais níveis de risco", example = "ALTO_RISCO",
+            array = @ArraySchema(schema = @Schema(implementation = String.class, allowableValues = {"BAIXO_RISCO", "MEDIO_RISCO", "ALTO_RISCO"})))
+    private List<String> riskLevel;
+
+    @Parameter(description = "Inclui os projetos arquivados (encerrados ou cancelados há mais tempo que o período de retenção)", example = "false")
+    private boolean includeArchived;
+
+    // Getters e Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<String> status) {
+        this.status = status;
+    }
+
+    public List<Long> getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(List<Long> managerId) {
+        this.managerId = managerId;
+    }
+
+    public LocalDate getStartDateFrom() {
+        return startDateFrom;
+    }
+
+    public void setStartDateFrom(LocalDate startDateFrom) {
+        this.startDateFrom = startDateFrom;
+    }
+
+    public LocalDate getStartDateTo() {
+        return startDateTo;
+    }
+
+    public void setStartDateTo(LocalDate startDateTo) {
+        this.startDateTo = startDateTo;
+    }
+
+    public BigDecimal getMinBudget() {
+        return minBudget;
+    }
+
+    public void setMinBudget(BigDecimal minBudget) {
+        this.minBudget = minBudget;
+    }
+
+    public BigDecimal getMaxBudget() {
+        return maxBudget;
+    }
+
+    public void setMaxBudget(BigDecimal maxBudget) {
+        this.maxBudget = maxBudget;
+    }
+
+    public LocalDate getForecastEndDateFrom() {
+        return forecastEndDateFrom;
+    }
+
+    public void setForecastEndDateFrom(LocalDate forecastEndDateFrom) {
+        this.forecastEndDateFrom = forecastEndDateFrom;
+    }
+
+    public LocalDate getForecastEndDateTo() {
+        return forecastEndDateTo;
+    }
+
+    public void setForecastEndDateTo(LocalDate forecastEndDateTo) {
+        this.forecastEndDateTo = forecastEndDateTo;
+    }
+
+    public List<String> getRiskLevel() {
+        return riskLevel;
+    }
+
+    public void setRiskLevel(List<String> riskLevel) {
+        this.riskLevel = riskLevel;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+}
@@ -34,6 +34,8 @@ public class ProjectResponseDTO {
     private RiskLevel riskLevel; //
 
     private List<MemberAllocationDTO> allocatedMembers; // Membros alocados no projeto
+    private boolean archived; // Indica se o projeto foi lido das tabelas de arquivo
+    private List<Long> unresolvedMemberIds; // Gerente/membros sem nome dentro do orçamento (só no enriquecimento assíncrono)
 
     // Getters e Setters
     public Long getId() {
@@ -131,4 +133,20 @@ public class ProjectResponseDTO {
     public void setAllocatedMembers(List<MemberAllocationDTO> allocatedMembers) {
         this.allocatedMembers = allocatedMembers;
     }
-}
\ No newline at end of file
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public List<Long> getUnresolvedMemberIds() {
+        return unresolvedMemberIds;
+    }
+
+    public void setUnresolvedMemberIds(List<Long> unresolvedMemberIds) {
+        this.unresolvedMemberIds = unresolvedMemberIds;
+    }
+}
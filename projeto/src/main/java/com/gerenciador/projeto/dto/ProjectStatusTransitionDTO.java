@@ -0,0 +1,41 @@
+package com.gerenciador.projeto.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para representar a transição de status de um projeto em uma requisição em lote.
+ */
+public class ProjectStatusTransitionDTO {
+
+    @NotNull(message = "O ID do projeto é obrigatório.")
+    private Long projectId;
+
+    @NotBlank(message = "O novo status é obrigatório.")
+    private String newStatus;
+
+    public ProjectStatusTransitionDTO() {
+    }
+
+    public ProjectStatusTransitionDTO(Long projectId, String newStatus) {
+        this.projectId = projectId;
+        this.newStatus = newStatus;
+    }
+
+    // Getters e Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public void setNewStatus(String newStatus) {
+        this.newStatus = newStatus;
+    }
+}
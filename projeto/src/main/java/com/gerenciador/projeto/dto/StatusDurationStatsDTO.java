@@ -0,0 +1,79 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+
+/**
+ * DTO com estatísticas do tempo (em dias) que os projetos permanecem em um status.
+ * Considera apenas passagens já concluídas, ou seja, em que o projeto já saiu do status.
+ */
+public class StatusDurationStatsDTO {
+
+    private ProjectStatus status;
+    private Long samples; // Quantidade de passagens concluídas pelo status
+    private Double averageDays;
+    private Double medianDays;
+    private Double p90Days;
+    private Double p95Days;
+
+    public StatusDurationStatsDTO() {
+    }
+
+    public StatusDurationStatsDTO(ProjectStatus status, Long samples, Double averageDays,
+                                  Double medianDays, Double p90Days, Double p95Days) {
+        this.status = status;
+        this.samples = samples;
+        this.averageDays = averageDays;
+        this.medianDays = medianDays;
+        this.p90Days = p90Days;
+        this.p95Days = p95Days;
+    }
+
+    // Getters e Setters
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectStatus status) {
+        this.status = status;
+    }
+
+    public Long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(Long samples) {
+        this.samples = samples;
+    }
+
+    public Double getAverageDays() {
+        return averageDays;
+    }
+
+    public void setAverageDays(Double averageDays) {
+        this.averageDays = averageDays;
+    }
+
+    public Double getMedianDays() {
+        return medianDays;
+    }
+
+    public void setMedianDays(Double medianDays) {
+        this.medianDays = medianDays;
+    }
+
+    public Double getP90Days() {
+        return p90Days;
+    }
+
+    public void setP90Days(Double p90Days) {
+        this.p90Days = p90Days;
+    }
+
+    public Double getP95Days() {
+        return p95Days;
+    }
+
+    public void setP95Days(Double p95Days) {
+        this.p95Days = p95Days;
+    }
+}
@@ -0,0 +1,61 @@
+package com.gerenciador.projeto.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gerenciador.projeto.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * DTO com a quantidade de projetos que entraram em um status em uma semana.
+ */
+public class StatusThroughputDTO {
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate weekStart; // Segunda-feira da semana
+    private ProjectStatus status;
+    private Long transitions; // Entradas no status durante a semana
+    private Long cumulativeTransitions; // Entradas acumuladas no status desde o início do período
+
+    public StatusThroughputDTO() {
+    }
+
+    public StatusThroughputDTO(LocalDate weekStart, ProjectStatus status, Long transitions, Long cumulativeTransitions) {
+        this.weekStart = weekStart;
+        this.status = status;
+        this.transitions = transitions;
+        this.cumulativeTransitions = cumulativeTransitions;
+    }
+
+    // Getters e Setters
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectStatus status) {
+        this.status = status;
+    }
+
+    public Long getTransitions() {
+        return transitions;
+    }
+
+    public void setTransitions(Long transitions) {
+        this.transitions = transitions;
+    }
+
+    public Long getCumulativeTransitions() {
+        return cumulativeTransitions;
+    }
+
+    public void setCumulativeTransitions(Long cumulativeTransitions) {
+        this.cumulativeTransitions = cumulativeTransitions;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gerenciador.projeto.dto;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.StatusTransitionOutcome;
+
+/**
+ * DTO compacto com o resultado da transição de status de um projeto em uma operação em lote.
+ * Não inclui dados de gerente ou membros para evitar chamadas à API externa.
+ */
+public class StatusTransitionResultDTO {
+
+    private Long projectId;
+    private ProjectStatus previousStatus; // Nulo se o projeto não foi encontrado
+    private ProjectStatus newStatus; // Nulo se o status informado é inválido
+    private StatusTransitionOutcome outcome;
+    private String message; // Motivo da rejeição, nulo quando atualizado
+
+    public StatusTransitionResultDTO() {
+    }
+
+    public StatusTransitionResultDTO(Long projectId, ProjectStatus previousStatus, ProjectStatus newStatus,
+                                     StatusTransitionOutcome outcome, String message) {
+        this.projectId = projectId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.outcome = outcome;
+        this.message = message;
+    }
+
+    // Getters e Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public ProjectStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(ProjectStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public ProjectStatus getNewStatus() {
+        return newStatus;
+    }
+
+    public void setNewStatus(ProjectStatus newStatus) {
+        this.newStatus = newStatus;
+    }
+
+    public StatusTransitionOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(StatusTransitionOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
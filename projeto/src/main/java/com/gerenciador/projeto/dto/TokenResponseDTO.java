@@ -0,0 +1,45 @@
+package com.gerenciador.projeto.dto;
+
+/**
+ * DTO de resposta da emissão de token: o token assinado, o tipo (Bearer) e a validade em segundos.
+ */
+public class TokenResponseDTO {
+
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+
+    public TokenResponseDTO() {
+    }
+
+    public TokenResponseDTO(String accessToken, String tokenType, long expiresIn) {
+        this.accessToken = accessToken;
+        this.tokenType = tokenType;
+        this.expiresIn = expiresIn;
+    }
+
+    // Getters e Setters
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
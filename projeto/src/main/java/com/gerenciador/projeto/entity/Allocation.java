@@ -1,6 +1,12 @@
 package com.gerenciador.projeto.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 /**
  * Representa a entidade de alocação de membros em projetos.
@@ -8,7 +14,10 @@ import jakarta.persistence.*;
  * Define o relacionamento N:M entre Projetos e Membros (o membro é externo).
  */
 @Entity
+// Tabela particionada por hash de project_id, criada pela migração V1 (db/migration) junto com seus índices
 @Table(name = "allocations")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Allocation {
 
     @Id
@@ -18,13 +27,23 @@ public class Allocation {
     // Relacionamento muitos-para-um com a entidade Project
     // FetchType.LAZY: Carrega o projeto apenas quando necessário
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "project_id", nullable = false) // Coluna de chave estrangeira
+    // Sem constraint no banco: 'project' é particionada por start_date e uma FK exigiria essa coluna em 'allocations'
+    @JoinColumn(name = "project_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Project project;
 
     // ID do membro, que é um recurso externo (não persistido diretamente nesta tabela)
     @Column(nullable = false)
     private Long memberId;
 
+    // Auditoria usada pela consulta incremental de alterações; a inserção em lote via JDBC preenche os valores explicitamente
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
     /**
      * Construtor padrão exigido pelo JPA.
      */
@@ -65,4 +84,20 @@ public class Allocation {
     public void setMemberId(Long memberId) {
         this.memberId = memberId;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,184 @@
+package com.gerenciador.projeto.entity;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Representa um projeto encerrado ou cancelado movido para o arquivo.
+ * Mapeada para a tabela 'project_archive', com os mesmos IDs e colunas de 'project'; os membros que estavam
+ * alocados ficam em 'allocations_archive'. As linhas são movidas em SQL por
+ * {@link com.gerenciador.projeto.repository.ProjectArchivingRepository}.
+ */
+@Entity
+@Table(name = "project_archive", indexes = {
+        @Index(name = "idx_project_archive_status_start_date", columnList = "status, start_date"),
+        @Index(name = "idx_project_archive_manager_status", columnList = "manager_id, status")
+})
+public class ArchivedProject {
+
+    // Colunas comuns às tabelas 'project' e 'project_archive', na mesma ordem
+    public static final String COLUMNS =
+            "id, name, start_date, forecast_end_date, actual_end_date, total_budget, description, manager_id, status";
+
+    // Projetos ativos e arquivados, para as consultas em SQL nativo com includeArchived
+    public static final String ALL_PROJECTS_SQL =
+            "(SELECT " + COLUMNS + " FROM project UNION ALL SELECT " + COLUMNS + " FROM project_archive)";
+
+    public static final String ALL_ALLOCATIONS_SQL =
+            "(SELECT project_id, member_id FROM allocations UNION ALL SELECT project_id, member_id FROM allocations_archive)";
+
+    // O ID é o do projeto original, não gerado
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    private LocalDate forecastEndDate;
+
+    private LocalDate actualEndDate;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBudget;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private Long managerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ProjectStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "allocations_archive", joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_allocations_archive_member", columnList = "member_id"))
+    @Column(name = "member_id", nullable = false)
+    private Set<Long> memberIds = new HashSet<>();
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public ArchivedProject() {
+    }
+
+    /**
+     * Fonte de projetos para consultas em SQL nativo: apenas a tabela ativa ou ativos e arquivados.
+     * @param includeArchived Se os projetos arquivados devem ser incluídos.
+     * @return A tabela ou a subconsulta, a ser seguida de um alias.
+     */
+    public static String projectsSource(boolean includeArchived) {
+        return includeArchived ? ALL_PROJECTS_SQL : "project";
+    }
+
+    /**
+     * Fonte de alocações para consultas em SQL nativo: apenas a tabela ativa ou ativas e arquivadas.
+     * @param includeArchived Se as alocações arquivadas devem ser incluídas.
+     * @return A tabela ou a subconsulta, a ser seguida de um alias.
+     */
+    public static String allocationsSource(boolean includeArchived) {
+        return includeArchived ? ALL_ALLOCATIONS_SQL : "allocations";
+    }
+
+    // Getters e Setters para todos os atributos
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getForecastEndDate() {
+        return forecastEndDate;
+    }
+
+    public void setForecastEndDate(LocalDate forecastEndDate) {
+        this.forecastEndDate = forecastEndDate;
+    }
+
+    public LocalDate getActualEndDate() {
+        return actualEndDate;
+    }
+
+    public void setActualEndDate(LocalDate actualEndDate) {
+        this.actualEndDate = actualEndDate;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public Set<Long> getMemberIds() {
+        return memberIds;
+    }
+
+    public void setMemberIds(Set<Long> memberIds) {
+        this.memberIds = memberIds;
+    }
+}
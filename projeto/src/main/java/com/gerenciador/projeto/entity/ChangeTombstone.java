@@ -0,0 +1,100 @@
+package com.gerenciador.projeto.entity;
+
+import com.gerenciador.projeto.enums.ChangeEntityType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa a exclusão de um projeto ou de uma alocação (tombstone).
+ * Mapeada para a tabela 'change_tombstone', que é somente de inserção: permite que a consulta incremental
+ * de alterações informe registros que deixaram de existir. As linhas são removidas após o período de retenção.
+ */
+@Entity
+@Table(name = "change_tombstone", indexes = {
+        // Leitura por faixa de (deleted_at, id) a partir da marca d'água do cliente
+        @Index(name = "idx_change_tombstone_deleted_at", columnList = "deleted_at, id")
+})
+public class ChangeTombstone {
+
+    // Sequence em vez de IDENTITY para permitir que o Hibernate agrupe os inserts em batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_tombstone_seq")
+    @SequenceGenerator(name = "change_tombstone_seq", sequenceName = "change_tombstone_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    // ID do projeto ou da alocação excluída
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public ChangeTombstone() {
+    }
+
+    /**
+     * Construtor para facilitar o registro de uma exclusão.
+     * @param entityType O tipo do registro excluído.
+     * @param entityId O ID do registro excluído.
+     * @param projectId O ID do projeto (o próprio projeto ou o projeto da alocação).
+     * @param deletedAt O momento da exclusão.
+     */
+    public ChangeTombstone(ChangeEntityType entityType, Long entityId, Long projectId, LocalDateTime deletedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.deletedAt = deletedAt;
+    }
+
+    // Getters e Setters para todos os atributos
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ChangeEntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(ChangeEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,160 @@
+package com.gerenciador.projeto.entity;
+
+import com.gerenciador.projeto.enums.DomainEventType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Representa um evento de domínio no outbox transacional.
+ * Mapeada para a tabela 'outbox_event': o evento é gravado na mesma transação da alteração que o originou
+ * e publicado depois pelo relay, que o reivindica (posição de publicação e 'claimed_until'), entrega aos destinos
+ * fora da transação e então preenche 'published_at'.
+ * Eventos publicados são removidos após o período de retenção.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        // Suporta a busca do relay pelos eventos pendentes (published_at IS NULL) em ordem de ID
+        @Index(name = "idx_outbox_event_published_at_id", columnList = "published_at, id"),
+        // Suporta a leitura do stream de eventos a partir de uma posição
+        @Index(name = "idx_outbox_event_position", columnList = "position")
+})
+public class OutboxEvent {
+
+    // Sequence em vez de IDENTITY para permitir que o Hibernate agrupe os inserts em batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private DomainEventType eventType;
+
+    // ID do projeto, sem chave estrangeira para que o evento de exclusão sobreviva ao projeto
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Gerente do projeto no momento do evento, para filtragem pelos consumidores
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    // Dados específicos do tipo de evento (ex: status anterior e novo, ID do membro)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false)
+    private Map<String, Object> payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // Ordem de publicação (sequence outbox_event_position_seq), atribuída quando o relay reivindica o evento
+    // e mantida nas novas tentativas de entrega; nula enquanto o evento não foi reivindicado
+    @Column(name = "position")
+    private Long position;
+
+    // Fim do prazo do relay que está entregando o evento; vencido o prazo (ex: instância encerrada durante a entrega),
+    // outro relay pode reivindicá-lo
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public OutboxEvent() {
+    }
+
+    /**
+     * Construtor para facilitar o registro de um evento.
+     * @param eventType O tipo do evento.
+     * @param projectId O ID do projeto afetado.
+     * @param managerId O ID do gerente do projeto.
+     * @param payload Os dados específicos do evento.
+     * @param occurredAt O momento da alteração.
+     */
+    public OutboxEvent(DomainEventType eventType, Long projectId, Long managerId, Map<String, Object> payload, LocalDateTime occurredAt) {
+        this.eventType = eventType;
+        this.projectId = projectId;
+        this.managerId = managerId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters e Setters para todos os atributos
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public DomainEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(DomainEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public Map<String, Object> getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Map<String, Object> payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public LocalDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+}
@@ -0,0 +1,176 @@
+package com.gerenciador.projeto.entity;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Representa o resumo do portfólio em um dia.
+ * Mapeada para a tabela 'portfolio_snapshot', com uma linha por dia; os totais por status ficam
+ * na tabela 'portfolio_snapshot_status'. Os snapshots são gravados em SQL por
+ * {@link com.gerenciador.projeto.repository.PortfolioSnapshotAnalyticsRepository}; o mapeamento define o esquema.
+ */
+@Entity
+@Table(name = "portfolio_snapshot")
+public class PortfolioSnapshot {
+
+    // A data é a própria chave primária, o que mantém a série ordenada e torna a gravação do dia idempotente
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "total_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBudget;
+
+    @Column(name = "unique_members", nullable = false)
+    private long uniqueMembers;
+
+    @Column(name = "average_duration_finished", nullable = false)
+    private double averageDurationOfFinishedProjects;
+
+    @Column(name = "low_risk_projects", nullable = false)
+    private long lowRiskProjects;
+
+    @Column(name = "medium_risk_projects", nullable = false)
+    private long mediumRiskProjects;
+
+    @Column(name = "high_risk_projects", nullable = false)
+    private long highRiskProjects;
+
+    // Apenas os status com projetos são gravados; os demais valem zero
+    @ElementCollection
+    @CollectionTable(name = "portfolio_snapshot_status", joinColumns = @JoinColumn(name = "snapshot_date"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "status", length = 50)
+    private Map<ProjectStatus, StatusTotals> totalsByStatus = new EnumMap<>(ProjectStatus.class);
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public PortfolioSnapshot() {
+    }
+
+    // Getters e Setters para todos os atributos
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public void setSnapshotDate(LocalDate snapshotDate) {
+        this.snapshotDate = snapshotDate;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(LocalDateTime takenAt) {
+        this.takenAt = takenAt;
+    }
+
+    public long getTotalProjects() {
+        return totalProjects;
+    }
+
+    public void setTotalProjects(long totalProjects) {
+        this.totalProjects = totalProjects;
+    }
+
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+
+    public long getUniqueMembers() {
+        return uniqueMembers;
+    }
+
+    public void setUniqueMembers(long uniqueMembers) {
+        this.uniqueMembers = uniqueMembers;
+    }
+
+    public double getAverageDurationOfFinishedProjects() {
+        return averageDurationOfFinishedProjects;
+    }
+
+    public void setAverageDurationOfFinishedProjects(double averageDurationOfFinishedProjects) {
+        this.averageDurationOfFinishedProjects = averageDurationOfFinishedProjects;
+    }
+
+    public long getLowRiskProjects() {
+        return lowRiskProjects;
+    }
+
+    public void setLowRiskProjects(long lowRiskProjects) {
+        this.lowRiskProjects = lowRiskProjects;
+    }
+
+    public long getMediumRiskProjects() {
+        return mediumRiskProjects;
+    }
+
+    public void setMediumRiskProjects(long mediumRiskProjects) {
+        this.mediumRiskProjects = mediumRiskProjects;
+    }
+
+    public long getHighRiskProjects() {
+        return highRiskProjects;
+    }
+
+    public void setHighRiskProjects(long highRiskProjects) {
+        this.highRiskProjects = highRiskProjects;
+    }
+
+    public Map<ProjectStatus, StatusTotals> getTotalsByStatus() {
+        return totalsByStatus;
+    }
+
+    public void setTotalsByStatus(Map<ProjectStatus, StatusTotals> totalsByStatus) {
+        this.totalsByStatus = totalsByStatus;
+    }
+
+    /**
+     * Quantidade de projetos e orçamento somado de um status no dia do snapshot.
+     */
+    @Embeddable
+    public static class StatusTotals {
+
+        @Column(name = "project_count", nullable = false)
+        private long projectCount;
+
+        @Column(name = "total_budget", nullable = false, precision = 19, scale = 2)
+        private BigDecimal totalBudget;
+
+        public StatusTotals() {
+        }
+
+        public long getProjectCount() {
+            return projectCount;
+        }
+
+        public void setProjectCount(long projectCount) {
+            this.projectCount = projectCount;
+        }
+
+        public BigDecimal getTotalBudget() {
+            return totalBudget;
+        }
+
+        public void setTotalBudget(BigDecimal totalBudget) {
+            this.totalBudget = totalBudget;
+        }
+    }
+}
@@ -7,22 +7,46 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set; // Usar Set para garantir unicidade e bom desempenho com relações
 
 /**
  * Entidade JPA que representa um projeto no portfólio.
  * Contém informações como nome, datas, orçamento, status e a lista de membros alocados.
+ * Elegível ao cache de segundo nível, que só é ativado no perfil "cache".
  */
 @Entity
+// Tabela particionada por start_date, criada pela migração V1 (db/migration) junto com seus índices:
+// o Hibernate não enxerga índices de tabelas particionadas e tentaria recriá-los a cada inicialização
+@Table(name = "project")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
+    public static final String DURATION_MONTHS_SQL =
+            "(extract(year from age(forecast_end_date, start_date)) * 12 + extract(month from age(forecast_end_date, start_date)))";
+
+    // Mesma regra de ProjectService.calculateRiskLevel, avaliada pelo banco nas facetas e nos snapshots do portfólio
+    public static final String RISK_LEVEL_SQL = String.format("""
+            CASE WHEN forecast_end_date IS NULL THEN 'BAIXO_RISCO'
+                 WHEN total_budget <= %1$s AND %3$s <= %4$d THEN 'BAIXO_RISCO'
+                 WHEN (total_budget > %1$s AND total_budget <= %2$s) OR (%3$s > %4$d AND %3$s <= %5$d) THEN 'MEDIO_RISCO'
+                 ELSE 'ALTO_RISCO' END""",
+            RiskLevel.LOW_RISK_MAX_BUDGET.toPlainString(), RiskLevel.MEDIUM_RISK_MAX_BUDGET.toPlainString(),
+            DURATION_MONTHS_SQL, RiskLevel.LOW_RISK_MAX_MONTHS, RiskLevel.MEDIUM_RISK_MAX_MONTHS);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -50,14 +74,30 @@ public class Project {
     @Column(nullable = false, length = 50)
     private ProjectStatus status;
 
+    // Auditoria usada pela consulta incremental de alterações; as atualizações em lote (JPQL) preenchem updatedAt explicitamente
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
     // Relação OneToMany com Allocation
     // mappedBy indica o campo na entidade Allocation que possui o mapeamento (o lado "muitos")
     // CascadeType.ALL significa que operações como persist, merge, remove serão propagadas para as alocações
     // orphanRemoval = true garante que alocações que não estão mais associadas a um projeto serão removidas
     // fetch = FetchType.LAZY para carregamento preguiçoso das alocações (melhor performance)
+    // @Cache mantém os IDs das alocações no cache de coleção, evitando a consulta à tabela 'allocations'
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Allocation> allocations = new HashSet<>();
 
+    // Duração prevista em meses completos, calculada pelo banco da mesma forma que ChronoUnit.MONTHS.between;
+    // permite filtrar por nível de risco na própria consulta (ver ProjectSpecifications.riskLevelIn)
+    @Formula(DURATION_MONTHS_SQL)
+    private Integer durationMonths;
+
     // O RiskLevel não é um campo persistido, é calculado em tempo de execução
     @Transient // Indica que este campo não será mapeado para o banco de dados
     private RiskLevel riskLevel;
@@ -0,0 +1,104 @@
+package com.gerenciador.projeto.entity;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa uma entrada do histórico de status de um projeto.
+ * Mapeada para a tabela 'project_status_history', que é somente de inserção:
+ * cada transição de status (e a criação do projeto) gera uma nova linha.
+ */
+@Entity
+@Table(name = "project_status_history", indexes = {
+        // Suporta a janela por projeto ordenada por data (LEAD) usada nos relatórios de tempo em status
+        @Index(name = "idx_status_history_project_changed_at", columnList = "project_id, changed_at"),
+        // Suporta os filtros por período dos relatórios
+        @Index(name = "idx_status_history_changed_at", columnList = "changed_at")
+})
+public class ProjectStatusHistory {
+
+    // Sequence em vez de IDENTITY para permitir que o Hibernate agrupe os inserts em batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_status_history_seq")
+    @SequenceGenerator(name = "project_status_history_seq", sequenceName = "project_status_history_seq", allocationSize = 50)
+    private Long id;
+
+    // ID do projeto, sem chave estrangeira para que o histórico sobreviva à exclusão do projeto
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Status anterior; nulo na entrada gerada pela criação do projeto
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 50)
+    private ProjectStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 50)
+    private ProjectStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public ProjectStatusHistory() {
+    }
+
+    /**
+     * Construtor para facilitar o registro de uma transição.
+     * @param projectId O ID do projeto.
+     * @param fromStatus O status anterior (nulo na criação do projeto).
+     * @param toStatus O novo status.
+     * @param changedAt O momento da transição.
+     */
+    public ProjectStatusHistory(Long projectId, ProjectStatus fromStatus, ProjectStatus toStatus, LocalDateTime changedAt) {
+        this.projectId = projectId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedAt = changedAt;
+    }
+
+    // Getters e Setters para todos os atributos
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public ProjectStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(ProjectStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public ProjectStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(ProjectStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
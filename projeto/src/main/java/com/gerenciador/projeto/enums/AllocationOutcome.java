@@ -0,0 +1,24 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define os possíveis resultados de um par projeto/membro em uma alocação em lote.
+ * Apenas {@link #ALOCADO} indica que a alocação foi efetivamente gravada.
+ */
+public enum AllocationOutcome {
+    ALOCADO("Alocado"),
+    PROJETO_NAO_ENCONTRADO("Projeto não encontrado"),
+    MEMBRO_NAO_ENCONTRADO("Membro não encontrado"),
+    CARGO_INVALIDO("Cargo inválido"),
+    JA_ALOCADO("Já alocado"),
+    LIMITE_PROJETOS_ATINGIDO("Limite de projetos atingido");
+
+    private final String description;
+
+    AllocationOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define os tipos de registro reportados pela consulta incremental de alterações.
+ */
+public enum ChangeEntityType {
+    PROJETO("Projeto"),
+    ALOCACAO("Alocação");
+
+    private final String description;
+
+    ChangeEntityType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
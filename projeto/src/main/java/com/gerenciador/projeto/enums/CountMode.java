@@ -0,0 +1,19 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define como contagens de valores distintos são calculadas nos relatórios.
+ */
+public enum CountMode {
+    EXATA("Exata"), // Conta cada valor distinto; memória proporcional à quantidade de valores
+    APROXIMADA("Aproximada"); // Estimativa HyperLogLog com memória fixa e erro padrão documentado
+
+    private final String description;
+
+    CountMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define os tipos de evento de domínio gravados no outbox a cada alteração de projetos e alocações.
+ */
+public enum DomainEventType {
+    PROJETO_CRIADO("Projeto criado"),
+    STATUS_ALTERADO("Status alterado"),
+    MEMBRO_ALOCADO("Membro alocado"),
+    MEMBRO_DESALOCADO("Membro desalocado"),
+    PROJETO_EXCLUIDO("Projeto excluído");
+
+    private final String description;
+
+    DomainEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
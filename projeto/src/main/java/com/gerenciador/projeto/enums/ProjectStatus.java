@@ -17,6 +17,32 @@ public enum ProjectStatus {
     private final String description;
     private final int order; // Ordem sequencial para validação de transição [cite: 64]
 
+    // Tabela de busca pré-calculada (endereçamento aberto) com os códigos e as descrições dos status,
+    // comparados sem diferenciar maiúsculas e com espaço equivalente a '_'. A busca não aloca objetos nem usa exceções.
+    private static final int LOOKUP_MASK = 63;
+    private static final String[] LOOKUP_KEYS = new String[LOOKUP_MASK + 1];
+    private static final ProjectStatus[] LOOKUP_STATUSES = new ProjectStatus[LOOKUP_MASK + 1];
+
+    // Matriz de transições permitidas, indexada por [status atual][novo status]
+    private static final boolean[][] TRANSITIONS;
+
+    static {
+        ProjectStatus[] statuses = values();
+        for (ProjectStatus status : statuses) {
+            register(status.name(), status);
+            if (resolve(status.description) == null) {
+                register(status.description, status);
+            }
+        }
+        TRANSITIONS = new boolean[statuses.length][statuses.length];
+        for (ProjectStatus current : statuses) {
+            for (ProjectStatus next : statuses) {
+                // Cancelamento pode ser aplicado a qualquer momento; os demais status seguem o fluxo sequencial
+                TRANSITIONS[current.ordinal()][next.ordinal()] = next == CANCELADO || next.order == current.order + 1;
+            }
+        }
+    }
+
     /**
      * Construtor para inicializar o status com uma descrição e ordem.
      * @param description A descrição legível do status.
@@ -35,14 +61,63 @@ public enum ProjectStatus {
         return order;
     }
 
+    /**
+     * Converte um texto para o status correspondente.
+     * Aceita o código (ex: "EM_ANALISE", "em analise") ou a descrição (ex: "Em Análise"), sem diferenciar maiúsculas.
+     * @param value O texto do status.
+     * @return O status correspondente, ou null se o texto for nulo ou não corresponder a nenhum status.
+     */
+    public static ProjectStatus resolve(String value) {
+        if (value == null) {
+            return null;
+        }
+        int slot = foldedHash(value) & LOOKUP_MASK;
+        String key;
+        while ((key = LOOKUP_KEYS[slot]) != null) {
+            if (foldedEquals(key, value)) {
+                return LOOKUP_STATUSES[slot];
+            }
+            slot = (slot + 1) & LOOKUP_MASK;
+        }
+        return null;
+    }
+
     //Verifica se é possível fazer a transição para um novo status.
 
     public boolean canTransitionTo(ProjectStatus newStatus) {
-        // Cancelamento pode ser aplicado a qualquer momento
-        if (newStatus == CANCELADO) {
-            return true;
+        return TRANSITIONS[ordinal()][newStatus.ordinal()];
+    }
+
+    private static void register(String key, ProjectStatus status) {
+        int slot = foldedHash(key) & LOOKUP_MASK;
+        while (LOOKUP_KEYS[slot] != null) {
+            slot = (slot + 1) & LOOKUP_MASK;
+        }
+        LOOKUP_KEYS[slot] = key;
+        LOOKUP_STATUSES[slot] = status;
+    }
+
+    private static char fold(char c) {
+        return c == ' ' ? '_' : Character.toUpperCase(c);
+    }
+
+    private static int foldedHash(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + fold(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean foldedEquals(String key, String value) {
+        if (key.length() != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (fold(key.charAt(i)) != fold(value.charAt(i))) {
+                return false;
+            }
         }
-        // A regra de fluxo do status é sequencial
-        return newStatus.getOrder() == this.order + 1;
+        return true;
     }
 }
@@ -1,5 +1,7 @@
 package com.gerenciador.projeto.enums;
 
+import java.math.BigDecimal;
+
 /**
  * Define os níveis de risco de um projeto.
  * [cite_start]O cálculo é dinâmico com base em orçamento e prazo. [cite: 8, 75]
@@ -9,6 +11,12 @@ public enum RiskLevel {
     MEDIO_RISCO("Médio Risco"),
     ALTO_RISCO("Alto Risco");
 
+    // Limites usados no cálculo (ProjectService.calculateRiskLevel) e nos filtros por risco (ProjectSpecifications)
+    public static final BigDecimal LOW_RISK_MAX_BUDGET = new BigDecimal("100000");
+    public static final BigDecimal MEDIUM_RISK_MAX_BUDGET = new BigDecimal("500000");
+    public static final int LOW_RISK_MAX_MONTHS = 3;
+    public static final int MEDIUM_RISK_MAX_MONTHS = 6;
+
     private final String description;
 
     RiskLevel(String description) {
@@ -19,4 +27,18 @@ public enum RiskLevel {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Converte um texto para o nível de risco correspondente, aceitando o código ou a descrição sem diferenciar maiúsculas.
+     * @param value O texto do nível de risco.
+     * @return O nível de risco correspondente, ou null se o texto for nulo ou inválido.
+     */
+    public static RiskLevel resolve(String value) {
+        for (RiskLevel level : values()) {
+            if (level.name().equalsIgnoreCase(value) || level.description.equalsIgnoreCase(value)) {
+                return level;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define a granularidade da série histórica do portfólio.
+ * Em granularidades maiores que a diária, cada período é representado pelo último snapshot registrado nele.
+ */
+public enum SnapshotGranularity {
+    DIARIA("Diária", "day"),
+    SEMANAL("Semanal", "week"),
+    MENSAL("Mensal", "month");
+
+    private final String description;
+    private final String truncUnit; // Unidade do date_trunc do PostgreSQL
+
+    SnapshotGranularity(String description, String truncUnit) {
+        this.description = description;
+        this.truncUnit = truncUnit;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+}
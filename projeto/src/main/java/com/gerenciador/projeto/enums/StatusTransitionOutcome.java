@@ -0,0 +1,24 @@
+package com.gerenciador.projeto.enums;
+
+/**
+ * Define os possíveis resultados de um projeto em uma atualização de status em lote.
+ * Apenas {@link #ATUALIZADO} indica que a transição foi efetivamente gravada.
+ */
+public enum StatusTransitionOutcome {
+    ATUALIZADO("Atualizado"),
+    PROJETO_NAO_ENCONTRADO("Projeto não encontrado"),
+    STATUS_INVALIDO("Status inválido"),
+    TRANSICAO_INVALIDA("Transição inválida"),
+    DUPLICADO("Projeto repetido no lote"),
+    CONFLITO("Status alterado por outra operação");
+
+    private final String description;
+
+    StatusTransitionOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,16 @@
+package com.gerenciador.projeto.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a marca d'água da consulta incremental é anterior ao período de retenção das exclusões,
+ * de modo que exclusões podem ter sido perdidas e o cliente precisa refazer a sincronização completa.
+ * Mapeia para o status HTTP 410 GONE.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeWatermarkExpiredException extends RuntimeException {
+    public ChangeWatermarkExpiredException(String message) {
+        super(message);
+    }
+}
@@ -44,6 +44,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Lida com a exceção {@link InvalidFilterException}.
+     * Retorna um status HTTP 400 BAD REQUEST.
+     * @param ex A exceção InvalidFilterException.
+     * @param request A requisição web.
+     * @return Uma ResponseEntity com detalhes do erro.
+     */
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidFilterException(InvalidFilterException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Lida com a exceção {@link ChangeWatermarkExpiredException}.
+     * Retorna um status HTTP 410 GONE.
+     * @param ex A exceção ChangeWatermarkExpiredException.
+     * @param request A requisição web.
+     * @return Uma ResponseEntity com detalhes do erro.
+     */
+    @ExceptionHandler(ChangeWatermarkExpiredException.class)
+    public ResponseEntity<ErrorDetails> handleChangeWatermarkExpiredException(ChangeWatermarkExpiredException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.GONE);
+    }
+
     /**
      * Lida com a exceção {@link ProjectDeletionException}.
      * Retorna um status HTTP 400 BAD REQUEST.
@@ -83,6 +109,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    /**
+     * Lida com a exceção {@link InvalidCredentialsException}.
+     * Retorna um status HTTP 401 UNAUTHORIZED.
+     * @param ex A exceção InvalidCredentialsException.
+     * @param request A requisição web.
+     * @return Uma ResponseEntity com detalhes do erro.
+     */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidCredentialsException(InvalidCredentialsException ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.UNAUTHORIZED);
+    }
+
     /**
      * Lida com exceções de validação de argumentos de método (@Valid).
      * Retorna um status HTTP 400 BAD REQUEST com detalhes dos erros de validação.
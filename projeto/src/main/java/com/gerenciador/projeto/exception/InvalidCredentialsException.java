@@ -0,0 +1,15 @@
+package com.gerenciador.projeto.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando usuário ou senha informados no login são inválidos.
+ * Mapeia para o status HTTP 401 UNAUTHORIZED.
+ */
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.gerenciador.projeto.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando os filtros de uma consulta de projetos são inválidos
+ * (ex: nível de risco desconhecido ou intervalo com início maior que o fim).
+ * Mapeia para o status HTTP 400 BAD REQUEST.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFilterException extends RuntimeException {
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
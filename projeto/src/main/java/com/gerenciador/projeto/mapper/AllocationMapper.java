@@ -1,5 +1,6 @@
 package com.gerenciador.projeto.mapper;
 
+import com.gerenciador.projeto.dto.AllocationChangeDTO;
 import com.gerenciador.projeto.dto.MemberAllocationDTO;
 import com.gerenciador.projeto.entity.Allocation;
 import org.springframework.stereotype.Component;
@@ -7,7 +8,7 @@ import org.springframework.stereotype.Component;
 import java.util.Optional;
 
 /**
- * Componente responsável por mapear entre Allocation entity e MemberAllocationDTO.
+ * Componente responsável por mapear Allocation entity para MemberAllocationDTO e AllocationChangeDTO.
  */
 @Component
 public class AllocationMapper {
@@ -25,4 +26,21 @@ public class AllocationMapper {
             return dto;
         }).orElse(null);
     }
+
+    /**
+     * Converte uma entidade Allocation para o AllocationChangeDTO da consulta incremental de alterações.
+     * @param allocation A entidade Allocation.
+     * @return O DTO com os dados persistidos e de auditoria da alocação.
+     */
+    public AllocationChangeDTO toChangeDto(Allocation allocation) {
+        return Optional.ofNullable(allocation).map(source -> {
+            AllocationChangeDTO dto = new AllocationChangeDTO();
+            dto.setId(source.getId());
+            dto.setProjectId(source.getProject().getId());
+            dto.setMemberId(source.getMemberId());
+            dto.setCreatedAt(source.getCreatedAt());
+            dto.setUpdatedAt(source.getUpdatedAt());
+            return dto;
+        }).orElse(null);
+    }
 }
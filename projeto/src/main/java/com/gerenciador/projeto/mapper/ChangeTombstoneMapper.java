@@ -0,0 +1,26 @@
+package com.gerenciador.projeto.mapper;
+
+import com.gerenciador.projeto.dto.ChangeTombstoneDTO;
+import com.gerenciador.projeto.entity.ChangeTombstone;
+import org.springframework.stereotype.Component;
+
+/**
+ * Componente responsável por mapear entre ChangeTombstone entity e ChangeTombstoneDTO.
+ */
+@Component
+public class ChangeTombstoneMapper {
+
+    /**
+     * Converte o registro de uma exclusão para o DTO da consulta incremental de alterações.
+     * @param tombstone A entidade ChangeTombstone.
+     * @return O DTO da exclusão.
+     */
+    public ChangeTombstoneDTO toDto(ChangeTombstone tombstone) {
+        ChangeTombstoneDTO dto = new ChangeTombstoneDTO();
+        dto.setEntityType(tombstone.getEntityType());
+        dto.setEntityId(tombstone.getEntityId());
+        dto.setProjectId(tombstone.getProjectId());
+        dto.setDeletedAt(tombstone.getDeletedAt());
+        return dto;
+    }
+}
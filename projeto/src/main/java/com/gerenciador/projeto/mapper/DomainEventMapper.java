@@ -0,0 +1,22 @@
+package com.gerenciador.projeto.mapper;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import com.gerenciador.projeto.entity.OutboxEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Componente responsável por mapear entre OutboxEvent entity e DomainEventDTO.
+ */
+@Component
+public class DomainEventMapper {
+
+    /**
+     * Converte um evento do outbox para o DTO entregue aos destinos e ao stream de eventos.
+     * @param event A entidade OutboxEvent.
+     * @return O DTO do evento.
+     */
+    public DomainEventDTO toDto(OutboxEvent event) {
+        return new DomainEventDTO(event.getId(), event.getPosition(), event.getEventType(), event.getProjectId(),
+                event.getManagerId(), event.getPayload(), event.getOccurredAt());
+    }
+}
@@ -1,9 +1,13 @@
 package com.gerenciador.projeto.mapper;
 
+import com.gerenciador.projeto.dto.ProjectChangeDTO;
 import com.gerenciador.projeto.dto.ProjectRequestDTO;
 import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ArchivedProject;
 import com.gerenciador.projeto.entity.Project;
 import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.exception.InvalidStatusTransitionException;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -34,7 +38,8 @@ public class ProjectMapper {
             // Converte a String do DTO para o enum ProjectStatus
             project.setStatus(
                     Optional.ofNullable(source.getStatus())
-                            .map(s -> ProjectStatus.valueOf(s.toUpperCase().replace(" ", "_")))
+                            .map(s -> Optional.ofNullable(ProjectStatus.resolve(s))
+                                    .orElseThrow(() -> new InvalidStatusTransitionException("Status inválido: " + s)))
                             .orElse(ProjectStatus.EM_ANALISE) // Define um status padrão se nulo
             );
             return project;
@@ -62,6 +67,29 @@ public class ProjectMapper {
         }).orElse(null);
     }
 
+    /**
+     * Converte uma entidade Project para o ProjectChangeDTO da consulta incremental de alterações.
+     * @param project A entidade Project.
+     * @return O DTO com os dados persistidos e de auditoria do projeto.
+     */
+    public ProjectChangeDTO toChangeDto(Project project) {
+        return Optional.ofNullable(project).map(source -> {
+            ProjectChangeDTO dto = new ProjectChangeDTO();
+            dto.setId(source.getId());
+            dto.setName(source.getName());
+            dto.setStartDate(source.getStartDate());
+            dto.setForecastEndDate(source.getForecastEndDate());
+            dto.setActualEndDate(source.getActualEndDate());
+            dto.setTotalBudget(source.getTotalBudget());
+            dto.setDescription(source.getDescription());
+            dto.setManagerId(source.getManagerId());
+            dto.setStatus(source.getStatus());
+            dto.setCreatedAt(source.getCreatedAt());
+            dto.setUpdatedAt(source.getUpdatedAt());
+            return dto;
+        }).orElse(null);
+    }
+
     /**
      * Atualiza os campos de uma entidade Project com base nos dados de um ProjectRequestDTO.
      * Este método é usado para operações de PUT/PATCH onde apenas alguns campos são alterados.
@@ -84,5 +112,26 @@ public class ProjectMapper {
         // O status é atualizado via um endpoint PATCH específico, não via este PUT genérico
     }
 
-
-}
\ No newline at end of file
+    /**
+     * Converte um projeto arquivado em uma entidade Project transitória, com as alocações reconstruídas
+     * a partir dos IDs de membros arquivados. O resultado não deve ser persistido.
+     * @param archived O projeto arquivado.
+     * @return A entidade Project correspondente.
+     */
+    public Project fromArchive(ArchivedProject archived) {
+        return Optional.ofNullable(archived).map(source -> {
+            Project project = new Project();
+            project.setId(source.getId());
+            project.setName(source.getName());
+            project.setStartDate(source.getStartDate());
+            project.setForecastEndDate(source.getForecastEndDate());
+            project.setActualEndDate(source.getActualEndDate());
+            project.setTotalBudget(source.getTotalBudget());
+            project.setDescription(source.getDescription());
+            project.setManagerId(source.getManagerId());
+            project.setStatus(source.getStatus());
+            source.getMemberIds().forEach(memberId -> project.addAllocation(new Allocation(project, memberId)));
+            return project;
+        }).orElse(null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.Allocation;
+
+import java.util.List;
+
+/**
+ * Fragmento de repositório para operações de alocação em lote que não passam pelo ciclo de vida do JPA.
+ * Implementado por {@link AllocationBatchRepositoryImpl}.
+ */
+public interface AllocationBatchRepository {
+
+    /**
+     * Insere as alocações usando batches JDBC.
+     * As entidades não são anexadas ao contexto de persistência e seus IDs não são preenchidos.
+     * @param allocations As alocações a serem inseridas.
+     */
+    void batchInsert(List<Allocation> allocations);
+}
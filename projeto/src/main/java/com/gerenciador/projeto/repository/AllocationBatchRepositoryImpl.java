@@ -0,0 +1,87 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação de {@link AllocationBatchRepository} baseada em {@link JdbcTemplate}.
+ * A tabela 'allocations' usa IDENTITY, o que impede o Hibernate de agrupar inserts;
+ * por isso a inserção em lote é feita diretamente via JDBC, participando da transação corrente.
+ * Como o Hibernate não enxerga esses inserts, as entradas afetadas do cache de segundo nível são invalidadas manualmente.
+ */
+public class AllocationBatchRepositoryImpl implements AllocationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO allocations (project_id, member_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String ALLOCATIONS_ROLE = Project.class.getName() + ".allocations";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+
+    public AllocationBatchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                         EntityManagerFactory entityManagerFactory,
+                                         @Value("${app.allocation.jdbc-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void batchInsert(List<Allocation> allocations) {
+        if (allocations == null || allocations.isEmpty()) {
+            return;
+        }
+        // Os inserts via JDBC não passam pelo @CreationTimestamp/@UpdateTimestamp da entidade
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, allocations, batchSize, (ps, allocation) -> {
+            ps.setLong(1, allocation.getProject().getId());
+            ps.setLong(2, allocation.getMemberId());
+            ps.setObject(3, now);
+            ps.setObject(4, now);
+        });
+        allocations.forEach(allocation -> {
+            allocation.setCreatedAt(now);
+            allocation.setUpdatedAt(now);
+        });
+
+        Set<Long> projectIds = allocations.stream()
+                .map(allocation -> allocation.getProject().getId())
+                .collect(Collectors.toSet());
+        evictAfterCommit(projectIds);
+    }
+
+    /**
+     * Invalida as coleções de alocações dos projetos afetados e as consultas em cache.
+     * A invalidação ocorre após o commit para que leituras concorrentes não recoloquem no cache o estado anterior.
+     * @param projectIds IDs dos projetos que receberam novas alocações.
+     */
+    private void evictAfterCommit(Set<Long> projectIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Runnable eviction = () -> {
+            projectIds.forEach(projectId -> cache.evictCollectionData(ALLOCATIONS_ROLE, projectId));
+            cache.evictQueryRegions();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.gerenciador.projeto.repository;
 
 import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repositório para a entidade {@link Allocation}.
- * Estende {@link JpaRepository} para operações CRUD básicas de alocações.
+ * Estende {@link JpaRepository} para operações CRUD básicas de alocações
+ * e {@link AllocationBatchRepository} para inserções em lote via JDBC.
  */
 @Repository
-public interface AllocationRepository extends JpaRepository<Allocation, Long> {
+public interface AllocationRepository extends JpaRepository<Allocation, Long>, AllocationBatchRepository {
 
     /**
      * Verifica se uma alocação específica (projeto-membro) já existe.
@@ -18,4 +27,62 @@ public interface AllocationRepository extends JpaRepository<Allocation, Long> {
      * @return true se a alocação existir, false caso contrário.
      */
     boolean existsByProjectIdAndMemberId(Long projectId, Long memberId);
+
+    /**
+     * Busca, em uma única consulta, as alocações existentes entre um conjunto de projetos e um conjunto de membros.
+     * O resultado é um superconjunto dos pares consultados e deve ser filtrado pelo chamador.
+     * @param projectIds Os IDs dos projetos.
+     * @param memberIds Os IDs dos membros.
+     * @return Os pares projeto/membro já alocados.
+     */
+    @Query("SELECT a.project.id AS projectId, a.memberId AS memberId FROM Allocation a " +
+            "WHERE a.project.id IN :projectIds AND a.memberId IN :memberIds")
+    List<ProjectMemberPair> findPairsByProjectIdsAndMemberIds(
+            @Param("projectIds") Collection<Long> projectIds,
+            @Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Conta, em uma única consulta agrupada, em quantos projetos cada membro está alocado,
+     * desconsiderando projetos com os status informados.
+     * Membros sem alocações não aparecem no resultado.
+     * @param memberIds Os IDs dos membros.
+     * @param excludedStatuses Os status de projeto a serem desconsiderados.
+     * @return A quantidade de projetos por membro.
+     */
+    @Query("SELECT a.memberId AS memberId, COUNT(DISTINCT a.project.id) AS projectCount FROM Allocation a " +
+            "WHERE a.memberId IN :memberIds AND a.project.status NOT IN :excludedStatuses GROUP BY a.memberId")
+    List<MemberProjectCount> countProjectsByMemberIdsAndStatusNotIn(
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("excludedStatuses") Collection<ProjectStatus> excludedStatuses);
+
+    /**
+     * Busca as alocações alteradas após a posição (updatedAt, id) informada, em ordem, até o limite de tempo.
+     * @param after Momento da última alteração já lida.
+     * @param afterId ID da última alocação já lida naquele momento.
+     * @param until Momento máximo das alterações retornadas.
+     * @param limit Quantidade máxima de alocações.
+     * @return As alocações ordenadas por momento da alteração e ID.
+     */
+    @Query("SELECT a FROM Allocation a WHERE a.updatedAt >= :after AND (a.updatedAt > :after OR a.id > :afterId) " +
+            "AND a.updatedAt <= :until ORDER BY a.updatedAt, a.id")
+    List<Allocation> findChangedAfter(@Param("after") LocalDateTime after,
+                                      @Param("afterId") long afterId,
+                                      @Param("until") LocalDateTime until,
+                                      Limit limit);
+
+    /**
+     * Projeção de um par projeto/membro alocado.
+     */
+    interface ProjectMemberPair {
+        Long getProjectId();
+        Long getMemberId();
+    }
+
+    /**
+     * Projeção da quantidade de projetos em que um membro está alocado.
+     */
+    interface MemberProjectCount {
+        Long getMemberId();
+        Long getProjectCount();
+    }
 }
@@ -0,0 +1,43 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.ChangeTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositório para a entidade {@link ChangeTombstone}.
+ */
+@Repository
+public interface ChangeTombstoneRepository extends JpaRepository<ChangeTombstone, Long> {
+
+    /**
+     * Busca as exclusões posteriores à posição (deletedAt, id) informada, em ordem, até o limite de tempo.
+     * @param after Momento da última exclusão já lida.
+     * @param afterId ID da última exclusão já lida naquele momento.
+     * @param until Momento máximo das exclusões retornadas.
+     * @param limit Quantidade máxima de exclusões.
+     * @return As exclusões ordenadas por momento e ID.
+     */
+    @Query("SELECT t FROM ChangeTombstone t WHERE t.deletedAt >= :after AND (t.deletedAt > :after OR t.id > :afterId) " +
+            "AND t.deletedAt <= :until ORDER BY t.deletedAt, t.id")
+    List<ChangeTombstone> findDeletedAfter(@Param("after") LocalDateTime after,
+                                           @Param("afterId") long afterId,
+                                           @Param("until") LocalDateTime until,
+                                           Limit limit);
+
+    /**
+     * Remove as exclusões registradas antes do momento informado.
+     * @param before O limite de registro.
+     * @return A quantidade de exclusões removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
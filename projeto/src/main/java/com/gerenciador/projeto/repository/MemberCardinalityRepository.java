@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.repository;
+
+/**
+ * Fragmento de repositório com a estimativa da quantidade de membros distintos alocados,
+ * implementado com HyperLogLog em {@link MemberCardinalityRepositoryImpl}.
+ */
+public interface MemberCardinalityRepository {
+
+    /**
+     * Quantidade de bits do hash usada para escolher o registrador (2^12 = 4096 registradores).
+     */
+    int PRECISION = 12;
+
+    /**
+     * Erro padrão relativo da estimativa: 1,04 / √4096 ≈ 1,6%.
+     */
+    double STANDARD_ERROR = 1.04 / Math.sqrt(1 << PRECISION);
+
+    /**
+     * Estima a quantidade de membros distintos alocados em projetos.
+     * O erro padrão relativo é {@link #STANDARD_ERROR};
+     * em cerca de 95% dos casos a estimativa fica a menos de duas vezes esse valor da contagem exata.
+     * @param includeArchived Se as alocações dos projetos arquivados devem ser consideradas.
+     * @return A quantidade estimada de membros distintos.
+     */
+    long estimateDistinctAllocatedMembers(boolean includeArchived);
+}
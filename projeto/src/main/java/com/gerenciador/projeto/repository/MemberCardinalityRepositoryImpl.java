@@ -0,0 +1,67 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.ArchivedProject;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Implementação de {@link MemberCardinalityRepository} com HyperLogLog calculado no PostgreSQL via {@link JdbcTemplate}.
+ * O banco distribui o hash de 64 bits de cada membro em 4096 registradores e devolve apenas um valor
+ * por registrador; a estimativa é feita aqui. A memória usada não depende da quantidade de membros ou alocações.
+ */
+public class MemberCardinalityRepositoryImpl implements MemberCardinalityRepository {
+
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    // Os bits baixos do hash escolhem o registrador; os demais, deslocados e mascarados para um valor não negativo,
+    // formam o sufixo. O menor sufixo de cada registrador é o que tem mais zeros à esquerda (o máximo do HyperLogLog).
+    private static final String REGISTERS_SQL = """
+            SELECT h & %1$d AS register, MIN((h >> %2$d) & %3$d) AS suffix
+            FROM (SELECT hashint8extended(member_id, 0) AS h FROM %4$s a) hashed
+            GROUP BY h & %1$d
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberCardinalityRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long estimateDistinctAllocatedMembers(boolean includeArchived) {
+        String sql = REGISTERS_SQL.formatted(REGISTERS - 1, PRECISION, (1L << (64 - PRECISION)) - 1,
+                ArchivedProject.allocationsSource(includeArchived));
+        byte[] ranks = new byte[REGISTERS];
+        jdbcTemplate.query(sql, rs -> {
+            ranks[rs.getInt("register")] = rank(rs.getLong("suffix"));
+        });
+        return estimate(ranks);
+    }
+
+    /**
+     * Posição do primeiro bit 1 do sufixo de 64 - PRECISION bits, contando a partir de 1.
+     */
+    static byte rank(long suffix) {
+        return (byte) (Long.numberOfLeadingZeros(suffix) - PRECISION + 1);
+    }
+
+    /**
+     * Estimativa HyperLogLog a partir dos registradores, com a correção por contagem linear para cardinalidades pequenas.
+     * Com hash de 64 bits não é necessária a correção para cardinalidades grandes.
+     */
+    static long estimate(byte[] ranks) {
+        double sum = 0;
+        int zeros = 0;
+        for (byte rank : ranks) {
+            sum += Math.scalb(1.0, -rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+        double raw = ALPHA * REGISTERS * REGISTERS / sum;
+        if (raw <= 2.5 * REGISTERS && zeros > 0) {
+            return Math.round(REGISTERS * Math.log((double) REGISTERS / zeros));
+        }
+        return Math.round(raw);
+    }
+}
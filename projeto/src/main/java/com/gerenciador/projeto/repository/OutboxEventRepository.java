@@ -0,0 +1,112 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para a entidade {@link OutboxEvent}.
+ * Estende {@link JpaRepository} para a gravação dos eventos junto com as alterações
+ * e declara as operações usadas pelo relay na publicação e na limpeza do outbox.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Bloqueia o próximo lote de eventos pendentes e não reivindicados (ou com o prazo da reivindicação vencido),
+     * em ordem de ID. Linhas já bloqueadas por outro relay (outra instância) são ignoradas em vez de aguardadas.
+     * @param limit O tamanho máximo do lote.
+     * @param now O momento atual, para comparar com o prazo das reivindicações.
+     * @return Os eventos pendentes bloqueados até o fim da transação.
+     */
+    @Query(value = "SELECT * FROM outbox_event WHERE published_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextUnpublished(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    /**
+     * Marca como publicados os eventos entregues a todos os destinos.
+     * @param ids Os IDs dos eventos.
+     * @param publishedAt O momento da publicação.
+     * @return A quantidade de eventos atualizados.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * Desfaz a reivindicação de eventos cuja entrega falhou, para que sejam reivindicados de novo após a espera do relay.
+     * @param ids Os IDs dos eventos.
+     * @return A quantidade de eventos atualizados.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int releaseClaim(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtém o lock consultivo de atribuição das posições de publicação, liberado no fim da transação.
+     * Serializa a publicação entre relays de instâncias diferentes, de modo que as posições são confirmadas em ordem.
+     * @return Sempre 1.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('outbox_event_position'))", nativeQuery = true)
+    int lockPositionAssignment();
+
+    /**
+     * Reserva posições de publicação consecutivas na sequence 'outbox_event_position_seq'.
+     * @param count A quantidade de posições.
+     * @return As posições, em ordem crescente.
+     */
+    @Query(value = "SELECT nextval('outbox_event_position_seq') FROM generate_series(1, :count) ORDER BY 1", nativeQuery = true)
+    List<Long> nextPositions(@Param("count") int count);
+
+    /**
+     * Busca eventos publicados após uma posição, em ordem de publicação, opcionalmente filtrados por projeto e gerente.
+     * Inclui os eventos que já receberam posição do relay e ainda estão sendo entregues aos destinos.
+     * @param after A posição a partir da qual buscar (exclusiva).
+     * @param projectId O ID do projeto, ou null para todos.
+     * @param managerId O ID do gerente, ou null para todos.
+     * @param limit A quantidade máxima de eventos.
+     * @return Os eventos encontrados.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.position > :after " +
+            "AND (:projectId IS NULL OR e.projectId = :projectId) AND (:managerId IS NULL OR e.managerId = :managerId) " +
+            "ORDER BY e.position")
+    List<OutboxEvent> findPublishedAfter(@Param("after") long after,
+                                         @Param("projectId") Long projectId,
+                                         @Param("managerId") Long managerId,
+                                         Limit limit);
+
+    /**
+     * @return A maior posição de publicação, ou null se não houver eventos publicados.
+     */
+    @Query("SELECT MAX(e.position) FROM OutboxEvent e")
+    Long findMaxPosition();
+
+    /**
+     * @return A menor posição de publicação ainda retida, ou null se não houver eventos publicados.
+     */
+    @Query("SELECT MIN(e.position) FROM OutboxEvent e")
+    Long findMinPosition();
+
+    /**
+     * Remove os eventos publicados antes do momento informado.
+     * @param before O limite de publicação.
+     * @return A quantidade de eventos removidos.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Conta os eventos ainda não publicados.
+     * @return A quantidade de eventos pendentes.
+     */
+    long countByPublishedAtIsNull();
+}
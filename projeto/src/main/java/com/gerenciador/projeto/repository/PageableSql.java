@@ -0,0 +1,44 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.exception.InvalidFilterException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tradução de {@link Pageable} para ORDER BY e LIMIT/OFFSET nas consultas em SQL nativo.
+ * A ordenação aceita apenas propriedades conhecidas, mapeadas para colunas, para não concatenar entrada do usuário no SQL.
+ */
+final class PageableSql {
+
+    private PageableSql() {
+    }
+
+    /**
+     * Traduz a ordenação da página para SQL, aceitando apenas as propriedades conhecidas.
+     * A coluna chave, única por linha, é sempre incluída no fim para que a paginação seja estável.
+     */
+    static String orderBy(Pageable pageable, Map<String, String> columns, String keyColumn) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String column = columns.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidFilterException("Ordenação inválida: " + order.getProperty() + ". Valores aceitos: " + columns.keySet());
+            }
+            if (!column.equals(keyColumn)) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            } else {
+                keyColumn = column + (order.isAscending() ? " ASC" : " DESC");
+            }
+        }
+        orders.add(keyColumn);
+        return "ORDER BY " + String.join(", ", orders);
+    }
+
+    static String limit(Pageable pageable) {
+        return pageable.isPaged() ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset() : "";
+    }
+}
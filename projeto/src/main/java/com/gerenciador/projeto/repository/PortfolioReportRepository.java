@@ -0,0 +1,48 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Fragmento de repositório com os relatórios de carteira por gerente e por membro.
+ * As agregações e a paginação são feitas no banco, sem carregar projetos ou alocações em memória.
+ * Implementado por {@link PortfolioReportRepositoryImpl}.
+ */
+public interface PortfolioReportRepository {
+
+    /**
+     * Resume a carteira de cada gerente que possui projetos.
+     * @param pageable Paginação; a ordenação aceita managerId, projectCount, activeProjectCount, totalBudget,
+     *                 activeBudget e allocatedMembers (padrão: managerId).
+     * @param includeArchived Se os projetos arquivados devem ser considerados.
+     * @return A página de resumos por gerente.
+     */
+    Page<ManagerPortfolioDTO> findManagerPortfolios(Pageable pageable, boolean includeArchived);
+
+    /**
+     * Resume a carteira de um gerente. Um gerente sem projetos tem todas as contagens zeradas.
+     * @param managerId O ID do gerente.
+     * @param includeArchived Se os projetos arquivados devem ser considerados.
+     * @return O resumo da carteira do gerente.
+     */
+    ManagerPortfolioDTO findManagerPortfolio(Long managerId, boolean includeArchived);
+
+    /**
+     * Resume as alocações de cada membro alocado em pelo menos um projeto.
+     * @param pageable Paginação; a ordenação aceita memberId, projectCount, activeAllocations, totalBudget
+     *                 e activeBudget (padrão: memberId).
+     * @param includeArchived Se os projetos arquivados devem ser considerados.
+     * @return A página de resumos por membro.
+     */
+    Page<MemberPortfolioDTO> findMemberPortfolios(Pageable pageable, boolean includeArchived);
+
+    /**
+     * Resume as alocações de um membro. Um membro sem alocações tem todas as contagens zeradas.
+     * @param memberId O ID do membro.
+     * @param includeArchived Se os projetos arquivados devem ser considerados.
+     * @return O resumo das alocações do membro.
+     */
+    MemberPortfolioDTO findMemberPortfolio(Long memberId, boolean includeArchived);
+}
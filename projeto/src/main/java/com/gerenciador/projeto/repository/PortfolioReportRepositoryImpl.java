@@ -0,0 +1,155 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import com.gerenciador.projeto.entity.ArchivedProject;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação de {@link PortfolioReportRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ * Cada relatório é um GROUP BY com LIMIT/OFFSET; a contagem de membros por gerente é calculada
+ * apenas para os gerentes da página.
+ */
+public class PortfolioReportRepositoryImpl implements PortfolioReportRepository {
+
+    private static final String ACTIVE_SQL = "status NOT IN ('ENCERRADO', 'CANCELADO')";
+
+    // Uma coluna COUNT(*) FILTER por status, para obter a distribuição na mesma leitura
+    private static final String STATUS_COUNTS_SQL = Arrays.stream(ProjectStatus.values())
+            .map(status -> "COUNT(*) FILTER (WHERE status = '" + status.name() + "') AS status_" + status.name().toLowerCase())
+            .collect(Collectors.joining(",\n                       "));
+
+    // Projetos arquivados nunca são ativos, então a contagem de membros alocados usa apenas as tabelas ativas
+    private static final String MANAGER_SQL = """
+            WITH managers AS (
+                SELECT manager_id,
+                       COUNT(*) AS project_count,
+                       COUNT(*) FILTER (WHERE %1$s) AS active_project_count,
+                       COALESCE(SUM(total_budget), 0) AS total_budget,
+                       COALESCE(SUM(total_budget) FILTER (WHERE %1$s), 0) AS active_budget,
+                       %2$s
+                FROM %%s project
+                %%s
+                GROUP BY manager_id
+            )
+            SELECT m.*,
+                   (SELECT COUNT(DISTINCT a.member_id)
+                    FROM allocations a JOIN project p ON p.id = a.project_id
+                    WHERE p.manager_id = m.manager_id AND p.%1$s) AS allocated_members
+            FROM managers m
+            %%s
+            """.formatted(ACTIVE_SQL, STATUS_COUNTS_SQL);
+
+    private static final String MEMBER_SQL = """
+            SELECT a.member_id,
+                   COUNT(*) AS project_count,
+                   COUNT(*) FILTER (WHERE p.%1$s) AS active_allocations,
+                   COALESCE(SUM(p.total_budget), 0) AS total_budget,
+                   COALESCE(SUM(p.total_budget) FILTER (WHERE p.%1$s), 0) AS active_budget
+            FROM %%s a JOIN %%s p ON p.id = a.project_id
+            %%s
+            GROUP BY a.member_id
+            %%s
+            """.formatted(ACTIVE_SQL);
+
+    // Propriedades de ordenação aceitas, mapeadas para as colunas do resultado
+    private static final Map<String, String> MANAGER_SORT_COLUMNS = Map.of(
+            "managerId", "manager_id",
+            "projectCount", "project_count",
+            "activeProjectCount", "active_project_count",
+            "totalBudget", "total_budget",
+            "activeBudget", "active_budget",
+            "allocatedMembers", "allocated_members");
+
+    private static final Map<String, String> MEMBER_SORT_COLUMNS = Map.of(
+            "memberId", "member_id",
+            "projectCount", "project_count",
+            "activeAllocations", "active_allocations",
+            "totalBudget", "total_budget",
+            "activeBudget", "active_budget");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PortfolioReportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Page<ManagerPortfolioDTO> findManagerPortfolios(Pageable pageable, boolean includeArchived) {
+        String projects = ArchivedProject.projectsSource(includeArchived);
+        String sql = String.format(MANAGER_SQL, projects, "",
+                PageableSql.orderBy(pageable, MANAGER_SORT_COLUMNS, "manager_id") + PageableSql.limit(pageable));
+        List<ManagerPortfolioDTO> content = jdbcTemplate.query(sql, MANAGER_ROW_MAPPER);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT manager_id) FROM " + projects + " project", Long.class));
+    }
+
+    @Override
+    public ManagerPortfolioDTO findManagerPortfolio(Long managerId, boolean includeArchived) {
+        String sql = String.format(MANAGER_SQL, ArchivedProject.projectsSource(includeArchived), "WHERE manager_id = ?", "");
+        List<ManagerPortfolioDTO> result = jdbcTemplate.query(sql, MANAGER_ROW_MAPPER, managerId);
+        if (!result.isEmpty()) {
+            return result.get(0);
+        }
+        ManagerPortfolioDTO empty = new ManagerPortfolioDTO();
+        empty.setManagerId(managerId);
+        empty.setTotalBudget(BigDecimal.ZERO);
+        empty.setActiveBudget(BigDecimal.ZERO);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            empty.getProjectsByStatus().put(status, 0L);
+        }
+        return empty;
+    }
+
+    @Override
+    public Page<MemberPortfolioDTO> findMemberPortfolios(Pageable pageable, boolean includeArchived) {
+        String allocations = ArchivedProject.allocationsSource(includeArchived);
+        String sql = String.format(MEMBER_SQL, allocations, ArchivedProject.projectsSource(includeArchived), "",
+                PageableSql.orderBy(pageable, MEMBER_SORT_COLUMNS, "member_id") + PageableSql.limit(pageable));
+        List<MemberPortfolioDTO> content = jdbcTemplate.query(sql, MEMBER_ROW_MAPPER);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT member_id) FROM " + allocations + " a", Long.class));
+    }
+
+    @Override
+    public MemberPortfolioDTO findMemberPortfolio(Long memberId, boolean includeArchived) {
+        String sql = String.format(MEMBER_SQL, ArchivedProject.allocationsSource(includeArchived),
+                ArchivedProject.projectsSource(includeArchived), "WHERE a.member_id = ?", "");
+        List<MemberPortfolioDTO> result = jdbcTemplate.query(sql, MEMBER_ROW_MAPPER, memberId);
+        return result.isEmpty()
+                ? new MemberPortfolioDTO(memberId, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO)
+                : result.get(0);
+    }
+
+    private static final RowMapper<ManagerPortfolioDTO> MANAGER_ROW_MAPPER = (rs, rowNum) -> {
+        ManagerPortfolioDTO dto = new ManagerPortfolioDTO();
+        dto.setManagerId(rs.getLong("manager_id"));
+        dto.setProjectCount(rs.getLong("project_count"));
+        dto.setActiveProjectCount(rs.getLong("active_project_count"));
+        dto.setTotalBudget(rs.getBigDecimal("total_budget"));
+        dto.setActiveBudget(rs.getBigDecimal("active_budget"));
+        dto.setAllocatedMembers(rs.getLong("allocated_members"));
+        for (ProjectStatus status : ProjectStatus.values()) {
+            dto.getProjectsByStatus().put(status, rs.getLong("status_" + status.name().toLowerCase()));
+        }
+        return dto;
+    };
+
+    private static final RowMapper<MemberPortfolioDTO> MEMBER_ROW_MAPPER = (rs, rowNum) -> new MemberPortfolioDTO(
+            rs.getLong("member_id"),
+            rs.getLong("project_count"),
+            rs.getLong("active_allocations"),
+            rs.getBigDecimal("total_budget"),
+            rs.getBigDecimal("active_budget"));
+}
@@ -0,0 +1,33 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fragmento de repositório com a gravação dos snapshots diários do portfólio e a consulta da série histórica.
+ * Implementado por {@link PortfolioSnapshotAnalyticsRepositoryImpl}.
+ */
+public interface PortfolioSnapshotAnalyticsRepository {
+
+    /**
+     * Calcula o resumo atual do portfólio e o grava como snapshot da data informada, em uma única leitura dos projetos.
+     * Se a data já possuir snapshot, ele é substituído; as demais datas nunca são alteradas.
+     * Deve ser chamado dentro de uma transação: gravações concorrentes da mesma data aguardam o commit da anterior.
+     * @param snapshotDate A data do snapshot.
+     * @param takenAt O momento da captura.
+     */
+    void saveSnapshot(LocalDate snapshotDate, LocalDateTime takenAt);
+
+    /**
+     * Lê a série histórica do portfólio sem consultar os projetos.
+     * @param from Data inicial (inclusiva).
+     * @param to Data final (inclusiva).
+     * @param granularity A granularidade; cada período é representado pelo seu último snapshot.
+     * @return Os snapshots do período, em ordem cronológica.
+     */
+    List<PortfolioSnapshotDTO> findTrend(LocalDate from, LocalDate to, SnapshotGranularity granularity);
+}
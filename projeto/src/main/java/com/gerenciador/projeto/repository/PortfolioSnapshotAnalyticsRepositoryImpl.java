@@ -0,0 +1,130 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
+import com.gerenciador.projeto.entity.ArchivedProject;
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação de {@link PortfolioSnapshotAnalyticsRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ */
+public class PortfolioSnapshotAnalyticsRepositoryImpl implements PortfolioSnapshotAnalyticsRepository {
+
+    // Serializa as gravações da mesma data até o fim da transação; sem isso, duas capturas concorrentes apagavam os totais
+    // por status e a segunda inserção falhava com chave duplicada em (snapshot_date, status)
+    private static final String LOCK_SNAPSHOT_DATE_SQL =
+            "SELECT 1 FROM pg_advisory_xact_lock(hashtext('portfolio_snapshot'), CAST(? AS date) - DATE '2000-01-01')";
+
+    private static final String DELETE_STATUS_TOTALS_SQL = "DELETE FROM portfolio_snapshot_status WHERE snapshot_date = ?";
+
+    // Inclui os projetos arquivados, para que o arquivamento não altere a série histórica.
+    // Agrega os projetos por status uma única vez; os totais por status e o resumo do dia são gravados a partir do mesmo resultado
+    private static final String SAVE_SNAPSHOT_SQL = """
+            WITH by_status AS (
+                SELECT status,
+                       COUNT(*) AS projects,
+                       COALESCE(SUM(total_budget), 0) AS budget,
+                       COUNT(*) FILTER (WHERE risk_level = 'BAIXO_RISCO') AS low_risk,
+                       COUNT(*) FILTER (WHERE risk_level = 'MEDIO_RISCO') AS medium_risk,
+                       COUNT(*) FILTER (WHERE risk_level = 'ALTO_RISCO') AS high_risk,
+                       SUM(actual_end_date - start_date) FILTER (WHERE status = 'ENCERRADO' AND actual_end_date IS NOT NULL) AS finished_days,
+                       COUNT(*) FILTER (WHERE status = 'ENCERRADO' AND actual_end_date IS NOT NULL) AS finished
+                FROM (SELECT status, total_budget, start_date, actual_end_date, %s AS risk_level FROM %s p) p
+                GROUP BY status
+            ), status_totals AS (
+                INSERT INTO portfolio_snapshot_status (snapshot_date, status, project_count, total_budget)
+                SELECT CAST(? AS date), status, projects, budget FROM by_status
+            )
+            INSERT INTO portfolio_snapshot (snapshot_date, taken_at, total_projects, total_budget, unique_members,
+                                            average_duration_finished, low_risk_projects, medium_risk_projects, high_risk_projects)
+            SELECT CAST(? AS date), ?,
+                   COALESCE(SUM(projects), 0),
+                   COALESCE(SUM(budget), 0),
+                   (SELECT COUNT(DISTINCT member_id) FROM %s a),
+                   COALESCE(CAST(SUM(finished_days) AS double precision) / NULLIF(SUM(finished), 0), 0),
+                   COALESCE(SUM(low_risk), 0),
+                   COALESCE(SUM(medium_risk), 0),
+                   COALESCE(SUM(high_risk), 0)
+            FROM by_status
+            ON CONFLICT (snapshot_date) DO UPDATE SET
+                taken_at = EXCLUDED.taken_at,
+                total_projects = EXCLUDED.total_projects,
+                total_budget = EXCLUDED.total_budget,
+                unique_members = EXCLUDED.unique_members,
+                average_duration_finished = EXCLUDED.average_duration_finished,
+                low_risk_projects = EXCLUDED.low_risk_projects,
+                medium_risk_projects = EXCLUDED.medium_risk_projects,
+                high_risk_projects = EXCLUDED.high_risk_projects
+            """.formatted(Project.RISK_LEVEL_SQL, ArchivedProject.ALL_PROJECTS_SQL, ArchivedProject.ALL_ALLOCATIONS_SQL);
+
+    // DISTINCT ON mantém o último snapshot de cada período; a unidade vem do enum e não de entrada do usuário
+    private static final String TREND_SQL = """
+            WITH selected AS (
+                SELECT DISTINCT ON (date_trunc('%1$s', snapshot_date)) *
+                FROM portfolio_snapshot
+                WHERE snapshot_date BETWEEN ? AND ?
+                ORDER BY date_trunc('%1$s', snapshot_date), snapshot_date DESC
+            )
+            SELECT s.snapshot_date, s.total_projects, s.total_budget, s.unique_members, s.average_duration_finished,
+                   s.low_risk_projects, s.medium_risk_projects, s.high_risk_projects,
+                   st.status, st.project_count AS status_projects, st.total_budget AS status_budget
+            FROM selected s
+            LEFT JOIN portfolio_snapshot_status st ON st.snapshot_date = s.snapshot_date
+            ORDER BY s.snapshot_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PortfolioSnapshotAnalyticsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveSnapshot(LocalDate snapshotDate, LocalDateTime takenAt) {
+        jdbcTemplate.queryForObject(LOCK_SNAPSHOT_DATE_SQL, Integer.class, snapshotDate);
+        jdbcTemplate.update(DELETE_STATUS_TOTALS_SQL, snapshotDate);
+        jdbcTemplate.update(SAVE_SNAPSHOT_SQL, snapshotDate, snapshotDate, takenAt);
+    }
+
+    @Override
+    public List<PortfolioSnapshotDTO> findTrend(LocalDate from, LocalDate to, SnapshotGranularity granularity) {
+        Map<LocalDate, PortfolioSnapshotDTO> snapshots = new LinkedHashMap<>();
+        jdbcTemplate.query(String.format(TREND_SQL, granularity.getTruncUnit()), rs -> {
+            LocalDate date = rs.getObject("snapshot_date", LocalDate.class);
+            PortfolioSnapshotDTO snapshot = snapshots.get(date);
+            if (snapshot == null) {
+                snapshot = new PortfolioSnapshotDTO();
+                snapshot.setSnapshotDate(date);
+                snapshot.setTotalProjects(rs.getLong("total_projects"));
+                snapshot.setTotalBudget(rs.getBigDecimal("total_budget"));
+                snapshot.setUniqueMembers(rs.getLong("unique_members"));
+                snapshot.setAverageDurationOfFinishedProjects(rs.getDouble("average_duration_finished"));
+                snapshot.getProjectsByRiskLevel().put(RiskLevel.BAIXO_RISCO, rs.getLong("low_risk_projects"));
+                snapshot.getProjectsByRiskLevel().put(RiskLevel.MEDIO_RISCO, rs.getLong("medium_risk_projects"));
+                snapshot.getProjectsByRiskLevel().put(RiskLevel.ALTO_RISCO, rs.getLong("high_risk_projects"));
+                for (ProjectStatus status : ProjectStatus.values()) {
+                    snapshot.getProjectsByStatus().put(status, 0L);
+                    snapshot.getTotalBudgetByStatus().put(status, BigDecimal.ZERO);
+                }
+                snapshots.put(date, snapshot);
+            }
+            String status = rs.getString("status");
+            if (status != null) {
+                snapshot.getProjectsByStatus().put(ProjectStatus.valueOf(status), rs.getLong("status_projects"));
+                snapshot.getTotalBudgetByStatus().put(ProjectStatus.valueOf(status), rs.getBigDecimal("status_budget"));
+            }
+        }, from, to);
+        return new ArrayList<>(snapshots.values());
+    }
+}
@@ -0,0 +1,16 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.PortfolioSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repositório para a entidade {@link PortfolioSnapshot}.
+ * Estende {@link JpaRepository} para consultas pontuais
+ * e {@link PortfolioSnapshotAnalyticsRepository} para a gravação e a série histórica em SQL.
+ */
+@Repository
+public interface PortfolioSnapshotRepository extends JpaRepository<PortfolioSnapshot, LocalDate>, PortfolioSnapshotAnalyticsRepository {
+}
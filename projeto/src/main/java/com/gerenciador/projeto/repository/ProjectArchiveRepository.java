@@ -0,0 +1,33 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.ArchivedProject;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para a entidade {@link ArchivedProject}.
+ * Estende {@link JpaRepository} para a leitura dos projetos arquivados
+ * e {@link ProjectArchivingRepository} para a movimentação em lotes feita em SQL.
+ */
+@Repository
+public interface ProjectArchiveRepository extends JpaRepository<ArchivedProject, Long>, ProjectArchivingRepository {
+
+    /**
+     * Busca projetos arquivados com os membros que estavam alocados já carregados.
+     * @param ids Os IDs dos projetos.
+     * @return Os projetos arquivados encontrados.
+     */
+    @EntityGraph(attributePaths = "memberIds")
+    List<ArchivedProject> findWithMemberIdsByIdIn(Collection<Long> ids);
+
+    /**
+     * Busca todos os projetos arquivados com os membros que estavam alocados já carregados.
+     * @return Os projetos arquivados.
+     */
+    @EntityGraph(attributePaths = "memberIds")
+    List<ArchivedProject> findAllWithMemberIdsBy();
+}
@@ -0,0 +1,24 @@
+package com.gerenciador.projeto.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fragmento de repositório que move projetos encerrados e cancelados para as tabelas de arquivo,
+ * implementado com SQL nativo em {@link ProjectArchivingRepositoryImpl}.
+ */
+public interface ProjectArchivingRepository {
+
+    /**
+     * Move um lote de projetos encerrados ou cancelados antes da data de corte, com suas alocações, para o arquivo.
+     * A data de fechamento é a data real de término ou, na falta dela, a da última entrada no status atual
+     * registrada no histórico; projetos sem nenhuma das duas não são arquivados.
+     * Projetos bloqueados por outras transações são ignorados e ficam para o próximo lote.
+     * @param cutoff Data de corte (exclusiva).
+     * @param batchSize Quantidade máxima de projetos do lote.
+     * @param archivedAt O momento do arquivamento.
+     * @return Os IDs dos projetos arquivados.
+     */
+    List<Long> archiveClosedBefore(LocalDate cutoff, int batchSize, LocalDateTime archivedAt);
+}
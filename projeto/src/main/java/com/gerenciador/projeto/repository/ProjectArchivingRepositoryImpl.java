@@ -0,0 +1,98 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ArchivedProject;
+import com.gerenciador.projeto.entity.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementação de {@link ProjectArchivingRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ * Como o Hibernate não enxerga a movimentação, os projetos arquivados são removidos do cache de segundo nível manualmente.
+ */
+public class ProjectArchivingRepositoryImpl implements ProjectArchivingRepository {
+
+    // Um único comando move o lote: seleciona e bloqueia os projetos (SKIP LOCKED não espera por linhas em uso),
+    // remove as alocações e os projetos e os insere no arquivo, sem deixar alocações órfãs visíveis a outras transações.
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT p.id
+                FROM project p
+                WHERE p.status IN ('ENCERRADO', 'CANCELADO')
+                  AND COALESCE(p.actual_end_date,
+                               (SELECT CAST(MAX(h.changed_at) AS date)
+                                FROM project_status_history h
+                                WHERE h.project_id = p.id AND h.to_status = p.status)) < ?
+                ORDER BY p.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved_allocations AS (
+                DELETE FROM allocations a USING batch b
+                WHERE a.project_id = b.id
+                RETURNING a.project_id, a.member_id
+            ), archived_allocations AS (
+                INSERT INTO allocations_archive (project_id, member_id)
+                SELECT DISTINCT project_id, member_id FROM moved_allocations
+            ), moved AS (
+                DELETE FROM project p USING batch b
+                WHERE p.id = b.id
+                RETURNING p.*
+            )
+            INSERT INTO project_archive (%1$s, archived_at)
+            SELECT %1$s, ? FROM moved
+            RETURNING id
+            """.formatted(ArchivedProject.COLUMNS);
+    private static final String ALLOCATIONS_ROLE = Project.class.getName() + ".allocations";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ProjectArchivingRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public List<Long> archiveClosedBefore(LocalDate cutoff, int batchSize, LocalDateTime archivedAt) {
+        List<Long> archivedIds = jdbcTemplate.queryForList(ARCHIVE_BATCH_SQL, Long.class, cutoff, batchSize, archivedAt);
+        if (!archivedIds.isEmpty()) {
+            evictAfterCommit(archivedIds);
+        }
+        return archivedIds;
+    }
+
+    /**
+     * Invalida os projetos arquivados, suas coleções de alocações e as consultas em cache após o commit.
+     * As alocações são invalidadas por região, pois os IDs das alocações removidas não são retornados.
+     * @param projectIds IDs dos projetos arquivados.
+     */
+    private void evictAfterCommit(List<Long> projectIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Runnable eviction = () -> {
+            projectIds.forEach(projectId -> {
+                cache.evictEntityData(Project.class, projectId);
+                cache.evictCollectionData(ALLOCATIONS_ROLE, projectId);
+            });
+            cache.evictEntityData(Allocation.class);
+            cache.evictQueryRegions();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
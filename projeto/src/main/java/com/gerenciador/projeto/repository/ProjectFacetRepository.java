@@ -0,0 +1,18 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+
+/**
+ * Fragmento de repositório para a contagem de facetas da listagem de projetos,
+ * implementado com SQL nativo em {@link ProjectFacetRepositoryImpl}.
+ */
+public interface ProjectFacetRepository {
+
+    /**
+     * Conta os projetos que atendem aos filtros, agrupados por status, por gerente e por nível de risco,
+     * em uma única consulta.
+     * @param filter Os filtros já validados.
+     * @return As contagens de cada faceta e o total.
+     */
+    ProjectFacetsDTO countFacets(ProjectFilter filter);
+}
@@ -0,0 +1,76 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.FacetCountDTO;
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+import com.gerenciador.projeto.entity.ArchivedProject;
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.RiskLevel;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação de {@link ProjectFacetRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ * GROUPING SETS calcula as três facetas e o total em uma única leitura dos projetos filtrados.
+ */
+public class ProjectFacetRepositoryImpl implements ProjectFacetRepository {
+
+    // GROUPING(coluna) = 1 indica que a linha não agrupa por aquela coluna; a linha com as três colunas agregadas é o total
+    private static final String FACETS_SQL = """
+            SELECT GROUPING(status) AS status_grouped,
+                   GROUPING(manager_id) AS manager_grouped,
+                   GROUPING(risk_level) AS risk_grouped,
+                   status, manager_id, risk_level,
+                   COUNT(*) AS projects
+            FROM (
+                SELECT status, manager_id, %s AS risk_level
+                FROM %s p
+                %s
+            ) filtered
+            GROUP BY GROUPING SETS ((status), (manager_id), (risk_level), ())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectFacetRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ProjectFacetsDTO countFacets(ProjectFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String sql = String.format(FACETS_SQL, Project.RISK_LEVEL_SQL,
+                ArchivedProject.projectsSource(filter.isIncludeArchived()), ProjectFilterSql.whereClause(filter, args));
+
+        ProjectFacetsDTO facets = new ProjectFacetsDTO();
+        Map<ProjectStatus, Long> byStatus = new EnumMap<>(ProjectStatus.class);
+        Map<RiskLevel, Long> byRiskLevel = new EnumMap<>(RiskLevel.class);
+        jdbcTemplate.query(sql, rs -> {
+            long count = rs.getLong("projects");
+            if (rs.getInt("status_grouped") == 0) {
+                byStatus.put(ProjectStatus.valueOf(rs.getString("status")), count);
+            } else if (rs.getInt("manager_grouped") == 0) {
+                facets.getManagers().add(new FacetCountDTO(String.valueOf(rs.getLong("manager_id")), null, count));
+            } else if (rs.getInt("risk_grouped") == 0) {
+                byRiskLevel.put(RiskLevel.valueOf(rs.getString("risk_level")), count);
+            } else {
+                facets.setTotal(count);
+            }
+        }, args.toArray());
+
+        for (ProjectStatus status : ProjectStatus.values()) {
+            facets.getStatus().add(new FacetCountDTO(status.name(), status.getDescription(), byStatus.getOrDefault(status, 0L)));
+        }
+        for (RiskLevel level : RiskLevel.values()) {
+            facets.getRiskLevels().add(new FacetCountDTO(level.name(), level.getDescription(), byRiskLevel.getOrDefault(level, 0L)));
+        }
+        facets.getManagers().sort(Comparator.comparingLong(FacetCountDTO::getCount).reversed()
+                .thenComparing(facet -> Long.parseLong(facet.getValue())));
+        return facets;
+    }
+}
@@ -0,0 +1,119 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Filtros da listagem de projetos já validados e convertidos para os tipos do domínio.
+ * Usado tanto pela consulta JPA ({@link ProjectSpecifications#matching}) quanto pela contagem
+ * de facetas em SQL nativo ({@link ProjectFacetRepositoryImpl}). Conjuntos vazios e valores nulos não filtram.
+ */
+public class ProjectFilter {
+
+    private String name;
+    private Set<ProjectStatus> statuses = EnumSet.noneOf(ProjectStatus.class);
+    private Set<Long> managerIds = new HashSet<>();
+    private LocalDate startDateFrom;
+    private LocalDate startDateTo;
+    private LocalDate forecastEndDateFrom;
+    private LocalDate forecastEndDateTo;
+    private BigDecimal minBudget;
+    private BigDecimal maxBudget;
+    private Set<RiskLevel> riskLevels = EnumSet.noneOf(RiskLevel.class);
+    private boolean includeArchived; // Consultas em SQL nativo passam a ler também as tabelas de arquivo
+
+    // Getters e Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<ProjectStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<ProjectStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<Long> getManagerIds() {
+        return managerIds;
+    }
+
+    public void setManagerIds(Set<Long> managerIds) {
+        this.managerIds = managerIds;
+    }
+
+    public LocalDate getStartDateFrom() {
+        return startDateFrom;
+    }
+
+    public void setStartDateFrom(LocalDate startDateFrom) {
+        this.startDateFrom = startDateFrom;
+    }
+
+    public LocalDate getStartDateTo() {
+        return startDateTo;
+    }
+
+    public void setStartDateTo(LocalDate startDateTo) {
+        this.startDateTo = startDateTo;
+    }
+
+    public LocalDate getForecastEndDateFrom() {
+        return forecastEndDateFrom;
+    }
+
+    public void setForecastEndDateFrom(LocalDate forecastEndDateFrom) {
+        this.forecastEndDateFrom = forecastEndDateFrom;
+    }
+
+    public LocalDate getForecastEndDateTo() {
+        return forecastEndDateTo;
+    }
+
+    public void setForecastEndDateTo(LocalDate forecastEndDateTo) {
+        this.forecastEndDateTo = forecastEndDateTo;
+    }
+
+    public BigDecimal getMinBudget() {
+        return minBudget;
+    }
+
+    public void setMinBudget(BigDecimal minBudget) {
+        this.minBudget = minBudget;
+    }
+
+    public BigDecimal getMaxBudget() {
+        return maxBudget;
+    }
+
+    public void setMaxBudget(BigDecimal maxBudget) {
+        this.maxBudget = maxBudget;
+    }
+
+    public Set<RiskLevel> getRiskLevels() {
+        return riskLevels;
+    }
+
+    public void setRiskLevels(Set<RiskLevel> riskLevels) {
+        this.riskLevels = riskLevels;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+}
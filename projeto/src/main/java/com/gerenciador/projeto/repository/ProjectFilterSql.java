@@ -0,0 +1,64 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.RiskLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tradução de {@link ProjectFilter} para SQL nativo, compartilhada pelas consultas que não passam pelo JPA
+ * (facetas e listagem com projetos arquivados). As colunas não são qualificadas, para valer tanto na tabela
+ * 'project' quanto na união com 'project_archive'.
+ */
+final class ProjectFilterSql {
+
+    private ProjectFilterSql() {
+    }
+
+    /**
+     * Traduz os filtros para SQL com os mesmos critérios de {@link ProjectSpecifications#matching}.
+     * @param filter Os filtros já validados.
+     * @param args Lista que recebe os parâmetros da consulta, na ordem dos placeholders.
+     * @return A cláusula WHERE, ou vazio se nenhum filtro foi informado.
+     */
+    static String whereClause(ProjectFilter filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getName() != null && !filter.getName().isEmpty()) {
+            conditions.add("lower(name) LIKE ?");
+            args.add("%" + filter.getName().toLowerCase() + "%");
+        }
+        if (!filter.getStatuses().isEmpty()) {
+            conditions.add("status IN (" + placeholders(filter.getStatuses().size()) + ")");
+            filter.getStatuses().forEach(status -> args.add(status.name()));
+        }
+        if (!filter.getManagerIds().isEmpty()) {
+            conditions.add("manager_id IN (" + placeholders(filter.getManagerIds().size()) + ")");
+            args.addAll(filter.getManagerIds());
+        }
+        addRange(conditions, args, "start_date", filter.getStartDateFrom(), filter.getStartDateTo());
+        addRange(conditions, args, "forecast_end_date", filter.getForecastEndDateFrom(), filter.getForecastEndDateTo());
+        addRange(conditions, args, "total_budget", filter.getMinBudget(), filter.getMaxBudget());
+        if (!filter.getRiskLevels().isEmpty() && filter.getRiskLevels().size() < RiskLevel.values().length) {
+            conditions.add(Project.RISK_LEVEL_SQL + " IN (" + placeholders(filter.getRiskLevels().size()) + ")");
+            filter.getRiskLevels().forEach(level -> args.add(level.name()));
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static void addRange(List<String> conditions, List<Object> args, String column, Object from, Object to) {
+        if (from != null) {
+            conditions.add(column + " >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            conditions.add(column + " <= ?");
+            args.add(to);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.gerenciador.projeto.repository;
+
+/**
+ * Fragmento de repositório para a manutenção das partições anuais da tabela 'project',
+ * implementado em {@link ProjectPartitionRepositoryImpl} com a função create_project_partitions (migrações V1 e V4).
+ */
+public interface ProjectPartitionRepository {
+
+    /**
+     * Cria as partições anuais ausentes de 'project' no intervalo informado.
+     * Projetos da partição padrão que pertencem a uma faixa criada são movidos para a nova partição.
+     * @param fromYear Primeiro ano (inclusivo).
+     * @param toYear Último ano (inclusivo).
+     * @return A quantidade de partições criadas.
+     */
+    int createYearlyPartitions(int fromYear, int toYear);
+}
@@ -0,0 +1,22 @@
+package com.gerenciador.projeto.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Implementação de {@link ProjectPartitionRepository} via {@link JdbcTemplate}.
+ */
+public class ProjectPartitionRepositoryImpl implements ProjectPartitionRepository {
+
+    private static final String CREATE_PARTITIONS_SQL = "SELECT create_project_partitions(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectPartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int createYearlyPartitions(int fromYear, int toYear) {
+        return jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Integer.class, fromYear, toYear);
+    }
+}
@@ -2,12 +2,20 @@ package com.gerenciador.projeto.repository;
 
 import com.gerenciador.projeto.entity.Project;
 import com.gerenciador.projeto.enums.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,18 +24,101 @@ import java.util.List;
  * e {@link JpaSpecificationExecutor} para consultas dinâmicas.
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project>,
+        ProjectFacetRepository, PortfolioReportRepository, MemberCardinalityRepository, ProjectSearchRepository,
+        ProjectPartitionRepository {
 
     /**
-     * Busca projetos nos quais um determinado membro está alocado,
+     * Conta os projetos nos quais um determinado membro está alocado,
      * excluindo projetos com status específicos.
-     * Usado para verificar a regra de limite de 3 projetos por membro.
+     * Usado na regra de limite de 3 projetos por membro; o resultado é mantido no cache de consultas
+     * quando o cache de segundo nível está ativo e é invalidado pelo Hibernate a cada escrita nas tabelas envolvidas.
      * @param memberId O ID do membro.
-     * @param excludedStatuses Uma lista de status a serem excluídos da busca.
-     * @return Uma lista de projetos onde o membro está alocado e que não possuem os status excluídos.
+     * @param excludedStatuses Uma lista de status a serem excluídos da contagem.
+     * @return A quantidade de projetos onde o membro está alocado e que não possuem os status excluídos.
      */
-    @Query("SELECT p FROM Project p JOIN p.allocations a WHERE a.memberId = :memberId AND p.status NOT IN :excludedStatuses")
-    List<Project> findProjectsByAllocatedMemberAndStatusNotIn(
+    @Query("SELECT COUNT(DISTINCT p.id) FROM Project p JOIN p.allocations a WHERE a.memberId = :memberId AND p.status NOT IN :excludedStatuses")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    long countProjectsByAllocatedMemberAndStatusNotIn(
             @Param("memberId") Long memberId,
             @Param("excludedStatuses") List<ProjectStatus> excludedStatuses);
+
+    /**
+     * Busca apenas o ID, o status atual e o gerente dos projetos informados, sem carregar as entidades.
+     * @param ids Os IDs dos projetos.
+     * @return O status atual de cada projeto encontrado.
+     */
+    @Query("SELECT p.id AS id, p.status AS status, p.managerId AS managerId FROM Project p WHERE p.id IN :ids")
+    List<ProjectStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bloqueia (FOR UPDATE) os projetos que ainda possuem o status informado, antes da atualização em lote.
+     * Os IDs retornados são exatamente os que o UPDATE seguinte altera: enquanto a transação não termina, nenhuma
+     * outra operação pode mudar o status nem remover esses projetos; os ausentes foram alterados ou removidos antes.
+     * @param ids Os IDs dos projetos.
+     * @param currentStatus O nome do status que os projetos devem possuir.
+     * @return Os IDs bloqueados.
+     */
+    @Query(value = "SELECT id FROM project WHERE id IN (:ids) AND status = :currentStatus FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("currentStatus") String currentStatus);
+
+    /**
+     * Atualiza o status de vários projetos com um único UPDATE.
+     * A condição sobre o status atual garante que projetos alterados concorrentemente não sejam sobrescritos.
+     * @param ids Os IDs dos projetos.
+     * @param currentStatus O status que os projetos devem possuir para serem atualizados.
+     * @param newStatus O novo status.
+     * @param updatedAt O momento da alteração (o UPDATE em lote não passa pelo {@code @UpdateTimestamp}).
+     * @return A quantidade de projetos atualizados.
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :newStatus, p.updatedAt = :updatedAt WHERE p.id IN :ids AND p.status = :currentStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatus") ProjectStatus currentStatus,
+                           @Param("newStatus") ProjectStatus newStatus,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Atualiza o status de vários projetos com um único UPDATE, preenchendo a data real de término
+     * dos projetos que ainda não a possuem.
+     * @param ids Os IDs dos projetos.
+     * @param currentStatus O status que os projetos devem possuir para serem atualizados.
+     * @param newStatus O novo status.
+     * @param actualEndDate A data real de término a ser aplicada quando ausente.
+     * @param updatedAt O momento da alteração.
+     * @return A quantidade de projetos atualizados.
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :newStatus, p.actualEndDate = COALESCE(p.actualEndDate, :actualEndDate), " +
+            "p.updatedAt = :updatedAt WHERE p.id IN :ids AND p.status = :currentStatus")
+    int updateStatusAndEndDateByIdIn(@Param("ids") Collection<Long> ids,
+                                     @Param("currentStatus") ProjectStatus currentStatus,
+                                     @Param("newStatus") ProjectStatus newStatus,
+                                     @Param("actualEndDate") LocalDate actualEndDate,
+                                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Busca os projetos alterados após a posição (updatedAt, id) informada, em ordem, até o limite de tempo.
+     * Atendida pelo índice (updated_at, id); a condição redundante sobre updatedAt delimita o início da faixa.
+     * @param after Momento da última alteração já lida.
+     * @param afterId ID do último projeto já lido naquele momento.
+     * @param until Momento máximo das alterações retornadas.
+     * @param limit Quantidade máxima de projetos.
+     * @return Os projetos ordenados por momento da alteração e ID.
+     */
+    @Query("SELECT p FROM Project p WHERE p.updatedAt >= :after AND (p.updatedAt > :after OR p.id > :afterId) " +
+            "AND p.updatedAt <= :until ORDER BY p.updatedAt, p.id")
+    List<Project> findChangedAfter(@Param("after") LocalDateTime after,
+                                   @Param("afterId") long afterId,
+                                   @Param("until") LocalDateTime until,
+                                   Limit limit);
+
+    /**
+     * Projeção com o ID, o status atual e o gerente de um projeto.
+     */
+    interface ProjectStatusView {
+        Long getId();
+        ProjectStatus getStatus();
+        Long getManagerId();
+    }
 }
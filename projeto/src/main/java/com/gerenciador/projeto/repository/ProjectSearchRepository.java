@@ -0,0 +1,21 @@
+package com.gerenciador.projeto.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Fragmento de repositório para a listagem de projetos que inclui os arquivados,
+ * implementado com SQL nativo em {@link ProjectSearchRepositoryImpl}.
+ */
+public interface ProjectSearchRepository {
+
+    /**
+     * Busca, entre projetos ativos e arquivados, os IDs da página que atende aos filtros.
+     * Os IDs são únicos entre as duas tabelas, pois o arquivo mantém o ID original do projeto.
+     * @param filter Os filtros já validados.
+     * @param pageable Paginação; a ordenação aceita os atributos de {@link com.gerenciador.projeto.entity.Project}
+     *                 (padrão: id).
+     * @return A página de IDs, na ordem solicitada.
+     */
+    Page<Long> findIdsIncludingArchived(ProjectFilter filter, Pageable pageable);
+}
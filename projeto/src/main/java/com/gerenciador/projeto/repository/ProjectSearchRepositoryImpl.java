@@ -0,0 +1,45 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.ArchivedProject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação de {@link ProjectSearchRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ * Os filtros são os mesmos da listagem JPA, traduzidos por {@link ProjectFilterSql}.
+ */
+public class ProjectSearchRepositoryImpl implements ProjectSearchRepository {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "startDate", "start_date",
+            "forecastEndDate", "forecast_end_date",
+            "actualEndDate", "actual_end_date",
+            "totalBudget", "total_budget",
+            "managerId", "manager_id",
+            "status", "status");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Page<Long> findIdsIncludingArchived(ProjectFilter filter, Pageable pageable) {
+        List<Object> args = new ArrayList<>();
+        String from = "FROM " + ArchivedProject.ALL_PROJECTS_SQL + " p " + ProjectFilterSql.whereClause(filter, args);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id " + from + " " + PageableSql.orderBy(pageable, SORT_COLUMNS, "id") + PageableSql.limit(pageable),
+                Long.class, args.toArray());
+        return PageableExecutionUtils.getPage(ids, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*) " + from, Long.class, args.toArray()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.RiskLevel;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Especificações reutilizáveis para consultas de {@link Project}.
+ * Filtros de múltiplos valores geram um único predicado IN, para que a consulta possa usar os índices compostos da tabela.
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    /**
+     * Combina todos os filtros informados.
+     * @param filter Os filtros já validados.
+     * @return A especificação correspondente (sem restrições se nenhum filtro foi informado).
+     */
+    public static Specification<Project> matching(ProjectFilter filter) {
+        List<Specification<Project>> specs = new ArrayList<>();
+        if (filter.getName() != null && !filter.getName().isEmpty()) {
+            specs.add(nameContains(filter.getName()));
+        }
+        if (!filter.getStatuses().isEmpty()) {
+            specs.add(statusIn(filter.getStatuses()));
+        }
+        if (!filter.getManagerIds().isEmpty()) {
+            specs.add(managerIdIn(filter.getManagerIds()));
+        }
+        if (filter.getStartDateFrom() != null || filter.getStartDateTo() != null) {
+            specs.add(startDateBetween(filter.getStartDateFrom(), filter.getStartDateTo()));
+        }
+        if (filter.getForecastEndDateFrom() != null || filter.getForecastEndDateTo() != null) {
+            specs.add(forecastEndDateBetween(filter.getForecastEndDateFrom(), filter.getForecastEndDateTo()));
+        }
+        if (filter.getMinBudget() != null || filter.getMaxBudget() != null) {
+            specs.add(totalBudgetBetween(filter.getMinBudget(), filter.getMaxBudget()));
+        }
+        // Filtrar pelos três níveis equivale a não filtrar
+        if (!filter.getRiskLevels().isEmpty() && filter.getRiskLevels().size() < RiskLevel.values().length) {
+            specs.add(riskLevelIn(filter.getRiskLevels()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Project> nameContains(String name) {
+        String pattern = "%" + name.toLowerCase() + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern);
+    }
+
+    public static Specification<Project> statusIn(Collection<ProjectStatus> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("status"), statuses.iterator().next())
+                : root.get("status").in(statuses);
+    }
+
+    public static Specification<Project> managerIdIn(Collection<Long> managerIds) {
+        return (root, query, cb) -> managerIds.size() == 1
+                ? cb.equal(root.get("managerId"), managerIds.iterator().next())
+                : root.get("managerId").in(managerIds);
+    }
+
+    public static Specification<Project> startDateBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> between(cb, root.get("startDate"), from, to);
+    }
+
+    public static Specification<Project> forecastEndDateBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> between(cb, root.get("forecastEndDate"), from, to);
+    }
+
+    public static Specification<Project> totalBudgetBetween(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> between(cb, root.get("totalBudget"), min, max);
+    }
+
+    /**
+     * Filtra projetos cujo nível de risco (ver ProjectService.calculateRiskLevel) está entre os informados.
+     * Os limites de orçamento de cada nível são expressos como comparações diretas sobre total_budget.
+     * @param levels Os níveis de risco aceitos.
+     */
+    public static Specification<Project> riskLevelIn(Set<RiskLevel> levels) {
+        return (root, query, cb) -> {
+            Expression<BigDecimal> budget = root.get("totalBudget");
+            Expression<Integer> months = root.get("durationMonths");
+            Predicate hasForecast = cb.isNotNull(root.get("forecastEndDate"));
+
+            Predicate lowBudget = cb.lessThanOrEqualTo(budget, RiskLevel.LOW_RISK_MAX_BUDGET);
+            Predicate mediumBudget = cb.and(cb.greaterThan(budget, RiskLevel.LOW_RISK_MAX_BUDGET),
+                    cb.lessThanOrEqualTo(budget, RiskLevel.MEDIUM_RISK_MAX_BUDGET));
+            Predicate highBudget = cb.greaterThan(budget, RiskLevel.MEDIUM_RISK_MAX_BUDGET);
+            Predicate mediumMonths = cb.and(cb.greaterThan(months, RiskLevel.LOW_RISK_MAX_MONTHS),
+                    cb.lessThanOrEqualTo(months, RiskLevel.MEDIUM_RISK_MAX_MONTHS));
+            Predicate highMonths = cb.greaterThan(months, RiskLevel.MEDIUM_RISK_MAX_MONTHS);
+
+            List<Predicate> alternatives = new ArrayList<>(levels.size());
+            if (levels.contains(RiskLevel.BAIXO_RISCO)) {
+                // Sem data prevista de término o projeto é considerado de baixo risco
+                alternatives.add(cb.or(cb.not(hasForecast),
+                        cb.and(lowBudget, cb.lessThanOrEqualTo(months, RiskLevel.LOW_RISK_MAX_MONTHS))));
+            }
+            if (levels.contains(RiskLevel.MEDIO_RISCO)) {
+                alternatives.add(cb.and(hasForecast, cb.or(mediumBudget, mediumMonths)));
+            }
+            if (levels.contains(RiskLevel.ALTO_RISCO)) {
+                alternatives.add(cb.and(hasForecast, cb.or(
+                        cb.and(highBudget, cb.not(mediumMonths)),
+                        cb.and(highMonths, cb.not(mediumBudget)))));
+            }
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate between(CriteriaBuilder cb, Expression<T> attribute, T from, T to) {
+        if (from != null && to != null) {
+            return cb.between(attribute, from, to);
+        }
+        return from != null ? cb.greaterThanOrEqualTo(attribute, from) : cb.lessThanOrEqualTo(attribute, to);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.entity.ProjectStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório para a entidade {@link ProjectStatusHistory}.
+ * Estende {@link JpaRepository} para o registro das transições
+ * e {@link StatusHistoryAnalyticsRepository} para os relatórios calculados em SQL.
+ */
+@Repository
+public interface ProjectStatusHistoryRepository extends JpaRepository<ProjectStatusHistory, Long>, StatusHistoryAnalyticsRepository {
+}
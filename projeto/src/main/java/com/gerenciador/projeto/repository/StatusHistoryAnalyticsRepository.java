@@ -0,0 +1,31 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
+import com.gerenciador.projeto.dto.StatusThroughputDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fragmento de repositório com os relatórios analíticos sobre o histórico de status.
+ * As agregações são feitas no banco com funções de janela, sem carregar o histórico em memória.
+ * Implementado por {@link StatusHistoryAnalyticsRepositoryImpl}.
+ */
+public interface StatusHistoryAnalyticsRepository {
+
+    /**
+     * Calcula média e percentis do tempo em cada status para as entradas no período.
+     * @param from Início do período (inclusivo).
+     * @param to Fim do período (exclusivo).
+     * @return As estatísticas por status.
+     */
+    List<StatusDurationStatsDTO> findTimeInStatusStatistics(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Conta as entradas em cada status por semana, com o total acumulado no período.
+     * @param from Início do período (inclusivo).
+     * @param to Fim do período (exclusivo).
+     * @return A vazão semanal por status, ordenada por semana e status.
+     */
+    List<StatusThroughputDTO> findWeeklyThroughput(LocalDateTime from, LocalDateTime to);
+}
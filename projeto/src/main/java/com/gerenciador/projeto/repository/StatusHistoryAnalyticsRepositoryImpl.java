@@ -0,0 +1,83 @@
+package com.gerenciador.projeto.repository;
+
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
+import com.gerenciador.projeto.dto.StatusThroughputDTO;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementação de {@link StatusHistoryAnalyticsRepository} com SQL nativo do PostgreSQL via {@link JdbcTemplate}.
+ */
+public class StatusHistoryAnalyticsRepositoryImpl implements StatusHistoryAnalyticsRepository {
+
+    // LEAD() obtém, para cada entrada, o momento em que o projeto saiu do status.
+    // O filtro inferior pode ser aplicado antes da janela, pois a entrada seguinte é sempre posterior;
+    // o filtro superior é aplicado depois, para não perder saídas ocorridas após o período.
+    private static final String TIME_IN_STATUS_SQL = """
+            WITH periods AS (
+                SELECT h.to_status AS status,
+                       h.changed_at AS entered_at,
+                       CAST(EXTRACT(EPOCH FROM (LEAD(h.changed_at) OVER (PARTITION BY h.project_id ORDER BY h.changed_at, h.id)
+                               - h.changed_at)) / 86400.0 AS double precision) AS days
+                FROM project_status_history h
+                WHERE h.changed_at >= ?
+            )
+            SELECT status,
+                   COUNT(*) AS samples,
+                   AVG(days) AS average_days,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY days) AS median_days,
+                   percentile_cont(0.9) WITHIN GROUP (ORDER BY days) AS p90_days,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY days) AS p95_days
+            FROM periods
+            WHERE days IS NOT NULL AND entered_at < ?
+            GROUP BY status
+            """;
+
+    private static final String WEEKLY_THROUGHPUT_SQL = """
+            SELECT week_start,
+                   status,
+                   transitions,
+                   SUM(transitions) OVER (PARTITION BY status ORDER BY week_start) AS cumulative_transitions
+            FROM (
+                SELECT CAST(date_trunc('week', h.changed_at) AS date) AS week_start,
+                       h.to_status AS status,
+                       COUNT(*) AS transitions
+                FROM project_status_history h
+                WHERE h.changed_at >= ? AND h.changed_at < ?
+                GROUP BY 1, 2
+            ) weekly
+            ORDER BY week_start, status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatusHistoryAnalyticsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<StatusDurationStatsDTO> findTimeInStatusStatistics(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(TIME_IN_STATUS_SQL, (rs, rowNum) -> new StatusDurationStatsDTO(
+                ProjectStatus.valueOf(rs.getString("status")),
+                rs.getLong("samples"),
+                rs.getDouble("average_days"),
+                rs.getDouble("median_days"),
+                rs.getDouble("p90_days"),
+                rs.getDouble("p95_days")
+        ), from, to);
+    }
+
+    @Override
+    public List<StatusThroughputDTO> findWeeklyThroughput(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(WEEKLY_THROUGHPUT_SQL, (rs, rowNum) -> new StatusThroughputDTO(
+                rs.getObject("week_start", LocalDate.class),
+                ProjectStatus.valueOf(rs.getString("status")),
+                rs.getLong("transitions"),
+                rs.getLong("cumulative_transitions")
+        ), from, to);
+    }
+}
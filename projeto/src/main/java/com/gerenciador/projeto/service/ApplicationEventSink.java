@@ -0,0 +1,34 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino em memória: republica cada evento no barramento de eventos do Spring,
+ * para consumo na própria aplicação com {@code @EventListener} sobre {@link DomainEventDTO}.
+ * Os listeners executam na thread do relay e devem ser rápidos.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.in-memory.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventSink implements DomainEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return "in-memory";
+    }
+
+    @Override
+    public void publish(List<DomainEventDTO> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
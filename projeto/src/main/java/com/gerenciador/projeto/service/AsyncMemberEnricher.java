@@ -0,0 +1,200 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.config.ThrottledLogger;
+import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.MemberDTO;
+import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Preenche os nomes de gerentes e membros nas respostas de projetos de forma assíncrona (opcional).
+ * Os DTOs já vêm mapeados do banco; os IDs distintos da requisição são buscados em paralelo na API de membros,
+ * em threads virtuais, e a requisição espera no máximo o orçamento de tempo configurado. Os nomes que não
+ * chegaram a tempo recebem {@link #UNRESOLVED_NAME} e os IDs são listados em {@code unresolvedMemberIds},
+ * de modo que a latência da resposta é limitada pelo orçamento e não pela busca mais lenta.
+ * O número de buscas simultâneas é limitado para não sobrecarregar a API de membros quando ela está lenta.
+ */
+@Component
+public class AsyncMemberEnricher implements AutoCloseable {
+
+    public static final String UNAVAILABLE_NAME = "[Nome indisponível]";
+    public static final String UNRESOLVED_NAME = "[Nome não resolvido]";
+
+    private static final ThrottledLogger LOG = new ThrottledLogger(LoggerFactory.getLogger(AsyncMemberEnricher.class), Duration.ofMinutes(1));
+
+    private final MemberApiClient memberApiClient;
+    private final boolean enabled;
+    private final Duration budget;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final Counter resolvedCounter;
+    private final Counter failedCounter;
+    private final Counter unresolvedCounter;
+
+    public AsyncMemberEnricher(MemberApiClient memberApiClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.member-api.enrichment.async:false}") boolean enabled,
+                               @Value("${app.member-api.enrichment.budget:300ms}") Duration budget,
+                               @Value("${app.member-api.enrichment.max-concurrency:64}") int maxConcurrency) {
+        this.memberApiClient = memberApiClient;
+        this.enabled = enabled;
+        this.budget = budget;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.resolvedCounter = outcomeCounter(meterRegistry, "resolved");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        this.unresolvedCounter = outcomeCounter(meterRegistry, "unresolved");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("projeto.members.enrichment")
+                .description("Buscas de nomes de membros no enriquecimento assíncrono, por resultado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true se o enriquecimento assíncrono estiver ativo (app.member-api.enrichment.async).
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Preenche os nomes do gerente e dos membros alocados de todos os projetos com um único orçamento de tempo.
+     * @param projects Os projetos já mapeados, com os IDs do gerente e dos membros.
+     */
+    public void enrichProjects(List<ProjectResponseDTO> projects) {
+        Set<Long> memberIds = new LinkedHashSet<>();
+        projects.forEach(project -> {
+            memberIds.add(project.getManagerId());
+            project.getAllocatedMembers().forEach(member -> memberIds.add(member.getMemberId()));
+        });
+        Map<Long, String> names = resolveNames(memberIds);
+        projects.forEach(project -> {
+            Set<Long> unresolved = new LinkedHashSet<>();
+            project.setManagerName(nameOf(project.getManagerId(), names, unresolved));
+            project.getAllocatedMembers().forEach(member -> member.setMemberName(nameOf(member.getMemberId(), names, unresolved)));
+            project.setUnresolvedMemberIds(new ArrayList<>(unresolved));
+        });
+    }
+
+    /**
+     * Preenche os nomes dos membros alocados com um único orçamento de tempo.
+     * @param members Os membros já mapeados a partir das alocações.
+     */
+    public void enrichMembers(List<MemberAllocationDTO> members) {
+        Map<Long, String> names = resolveNames(members.stream().map(MemberAllocationDTO::getMemberId).toList());
+        members.forEach(member -> member.setMemberName(nameOf(member.getMemberId(), names, new LinkedHashSet<>())));
+    }
+
+    private static String nameOf(Long memberId, Map<Long, String> names, Set<Long> unresolved) {
+        String name = names.getOrDefault(memberId, UNRESOLVED_NAME);
+        if (UNAVAILABLE_NAME.equals(name) || UNRESOLVED_NAME.equals(name)) {
+            unresolved.add(memberId);
+        }
+        return name;
+    }
+
+    /**
+     * Dispara as buscas dos IDs distintos e aguarda até o fim do orçamento.
+     * @param memberIds Os IDs dos membros.
+     * @return O nome de cada membro, {@link #UNAVAILABLE_NAME} quando a busca falhou ou {@link #UNRESOLVED_NAME} quando não terminou a tempo.
+     */
+    private Map<Long, String> resolveNames(Collection<Long> memberIds) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        Map<String, String> logContext = MDC.getCopyOfContextMap(); // ID de correlação nos logs e nas chamadas Feign
+        Map<Long, CompletableFuture<MemberDTO>> lookups = new HashMap<>();
+        for (Long memberId : memberIds) {
+            lookups.computeIfAbsent(memberId, id -> CompletableFuture.supplyAsync(() -> fetch(id, deadline, logContext), executor));
+        }
+        try {
+            CompletableFuture.allOf(lookups.values().toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Buscas pendentes ou com falha são classificadas individualmente abaixo
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        lookups.forEach((memberId, lookup) -> names.put(memberId, nameOf(memberId, lookup)));
+        return names;
+    }
+
+    private String nameOf(Long memberId, CompletableFuture<MemberDTO> lookup) {
+        Future.State state = lookup.state();
+        if (state == Future.State.SUCCESS) {
+            resolvedCounter.increment();
+            return lookup.resultNow().getName();
+        }
+        if (state == Future.State.FAILED && !(lookup.exceptionNow() instanceof TimeoutException)) {
+            Throwable cause = lookup.exceptionNow();
+            LOG.warn(cause, "Erro ao buscar nome do membro {}: {}", memberId, cause.getMessage());
+            failedCounter.increment();
+            return UNAVAILABLE_NAME;
+        }
+        // A busca continua até o timeout do Feign, mas o resultado é descartado; a vaga só é liberada ao final dela
+        lookup.cancel(false);
+        unresolvedCounter.increment();
+        return UNRESOLVED_NAME;
+    }
+
+    private MemberDTO fetch(Long memberId, long deadline, Map<String, String> logContext) {
+        if (logContext != null) {
+            MDC.setContextMap(logContext);
+        }
+        try {
+            return fetch(memberId, deadline);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private MemberDTO fetch(Long memberId, long deadline) {
+        try {
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new CompletionException(new TimeoutException("Sem vaga para buscar o membro " + memberId + " dentro do orçamento."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(new TimeoutException("Busca do membro " + memberId + " interrompida."));
+        }
+        try {
+            return memberApiClient.getMemberById(memberId);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.LoginRequestDTO;
+import com.gerenciador.projeto.dto.TokenResponseDTO;
+import com.gerenciador.projeto.exception.InvalidCredentialsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Implementação do serviço de emissão de tokens de acesso.
+ * Disponível apenas com o modo de autenticação por token ativo (ver TokenAuthConfig).
+ */
+@Service
+@ConditionalOnProperty(name = "app.security.token.enabled", havingValue = "true")
+public class AuthService implements IAuthService {
+
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtEncoder jwtEncoder;
+    private final String issuer;
+    private final Duration tokenTtl;
+    private final Clock clock;
+
+    @Autowired
+    public AuthService(AuthenticationManager authenticationManager,
+                       JwtEncoder jwtEncoder,
+                       @Value("${app.security.token.issuer:projeto}") String issuer,
+                       @Value("${app.security.token.ttl:30m}") Duration tokenTtl) {
+        this(authenticationManager, jwtEncoder, issuer, tokenTtl, Clock.systemUTC());
+    }
+
+    AuthService(AuthenticationManager authenticationManager, JwtEncoder jwtEncoder, String issuer, Duration tokenTtl, Clock clock) {
+        this.authenticationManager = authenticationManager;
+        this.jwtEncoder = jwtEncoder;
+        this.issuer = issuer;
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public TokenResponseDTO issueToken(LoginRequestDTO loginRequest) {
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(loginRequest.getUsername(), loginRequest.getPassword()));
+        } catch (AuthenticationException e) {
+            throw new InvalidCredentialsException("Usuário ou senha inválidos.");
+        }
+
+        Instant now = clock.instant();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(authentication.getName())
+                .id(UUID.randomUUID().toString()) // identifica o login, inclusive entre clientes do mesmo usuário
+                .issuedAt(now)
+                .expiresAt(now.plus(tokenTtl))
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new TokenResponseDTO(token, TOKEN_TYPE, tokenTtl.toSeconds());
+    }
+}
@@ -0,0 +1,24 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos de domínio publicados pelo {@link OutboxRelay}.
+ * Cada lote é entregue a todos os destinos ativos antes de ser marcado como publicado; se algum destino
+ * lançar exceção, o lote inteiro é reenviado na próxima execução (entrega ao menos uma vez, em ordem de ID por lote).
+ */
+public interface DomainEventSink {
+
+    /**
+     * @return O nome do destino, usado nas métricas do relay.
+     */
+    String getName();
+
+    /**
+     * Entrega um lote de eventos.
+     * @param events Os eventos, em ordem de ID.
+     */
+    void publish(List<DomainEventDTO> events);
+}
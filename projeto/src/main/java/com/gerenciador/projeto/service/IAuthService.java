@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.LoginRequestDTO;
+import com.gerenciador.projeto.dto.TokenResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Interface que define o contrato para a emissão de tokens de acesso.
+ */
+@Tag(name = "Autenticação", description = "Operações para emissão de tokens de acesso assinados.")
+public interface IAuthService {
+
+    @Operation(summary = "Emite um token de acesso",
+            description = "Verifica usuário e senha uma única vez e retorna um token assinado (HS256) para ser enviado como 'Authorization: Bearer <token>'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token emitido com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TokenResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Usuário ou senha inválidos",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Usuário ou senha inválidos.\"}")))
+    })
+    TokenResponseDTO issueToken(LoginRequestDTO loginRequest);
+}
@@ -0,0 +1,31 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.ArchiveResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Interface que define o contrato para o arquivamento de projetos encerrados e cancelados.
+ */
+@Tag(name = "Arquivamento", description = "Operações para mover projetos fechados para as tabelas de arquivo.")
+public interface IProjectArchiveService {
+
+    @Operation(summary = "Arquiva projetos encerrados e cancelados",
+            description = "Move para as tabelas de arquivo os projetos encerrados ou cancelados há mais dias que o período de retenção, " +
+                    "com suas alocações, em lotes com uma transação cada. Os projetos arquivados continuam disponíveis na listagem, " +
+                    "nas facetas e nos relatórios com includeArchived=true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivamento executado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchiveResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Período de retenção negativo",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"O período de retenção não pode ser negativo.\"}")))
+    })
+    ArchiveResultDTO archiveClosedProjects(
+            @Parameter(description = "Dias, desde o fechamento, que um projeto permanece nas tabelas principais", example = "90")
+            int retentionDays);
+}
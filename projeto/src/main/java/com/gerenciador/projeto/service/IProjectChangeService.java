@@ -0,0 +1,36 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.ChangeSetDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Interface que define o contrato para a consulta incremental de alterações de projetos e alocações.
+ */
+@Tag(name = "Sincronização", description = "Consulta incremental para sistemas que mantêm uma cópia do portfólio.")
+public interface IProjectChangeService {
+
+    @Operation(summary = "Lista as alterações desde a última sincronização",
+            description = "Retorna os projetos e alocações criados ou alterados e as exclusões registradas após a marca d'água informada, " +
+                    "na ordem das alterações. A resposta traz a nova marca d'água, a ser enviada em 'since' na próxima consulta; " +
+                    "enquanto hasMore for verdadeiro, há mais páginas. Sem 'since', retorna todas as alterações desde o início. " +
+                    "Alterações mais recentes que a margem de confirmação (app.sync.commit-grace) aparecem na consulta seguinte.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChangeSetDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Marca d'água ou tamanho de página inválido",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Marca d'água inválida: abc\"}"))),
+            @ApiResponse(responseCode = "410", description = "Marca d'água anterior à retenção das exclusões; é necessária uma sincronização completa",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"A marca d'água é anterior ao período de retenção das exclusões.\"}")))
+    })
+    ChangeSetDTO getChangesSince(
+            @Parameter(description = "Marca d'água da consulta anterior ou data/hora ISO-8601 inicial", example = "2024-01-31T00:00:00")
+            String since,
+            @Parameter(description = "Quantidade máxima de registros na página", example = "500")
+            Integer limit);
+}
@@ -0,0 +1,33 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Interface que define o contrato para o stream (Server-Sent Events) de alterações de projetos e alocações.
+ */
+@Tag(name = "Eventos", description = "Notificação em tempo real das alterações de projetos e alocações.")
+public interface IProjectEventStreamService {
+
+    @Operation(summary = "Abre o stream de eventos de projetos",
+            description = "Envia, via Server-Sent Events, os eventos de domínio (criação, transições de status, alocações, " +
+                    "desalocações e exclusões) à medida que são publicados. O ID de cada evento SSE é a posição de publicação: " +
+                    "ao reconectar com o cabeçalho Last-Event-ID, os eventos perdidos são reenviados antes dos novos. " +
+                    "Se não for possível reenviar todos (limite de reenvio ou eventos já removidos pela retenção), " +
+                    "é enviado o evento 'reinicio' e o cliente deve recarregar o estado completo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = DomainEventDTO.class)))
+    })
+    SseEmitter subscribe(
+            @Parameter(description = "Envia apenas eventos deste projeto", example = "1") Long projectId,
+            @Parameter(description = "Envia apenas eventos de projetos deste gerente", example = "1") Long managerId,
+            @Parameter(description = "Posição do último evento recebido (cabeçalho Last-Event-ID)", example = "120") Long lastEventId);
+}
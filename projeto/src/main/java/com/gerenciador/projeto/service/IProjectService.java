@@ -1,9 +1,14 @@
 package com.gerenciador.projeto.service;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gerenciador.projeto.dto.AllocationPairDTO;
+import com.gerenciador.projeto.dto.BulkAllocationResultDTO;
+import com.gerenciador.projeto.dto.BulkStatusUpdateResultDTO;
 import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+import com.gerenciador.projeto.dto.ProjectFilterDTO;
 import com.gerenciador.projeto.dto.ProjectRequestDTO;
 import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import com.gerenciador.projeto.dto.ProjectStatusTransitionDTO;
 import com.gerenciador.projeto.dto.ProjectStatusUpdateDTO;
 import com.gerenciador.projeto.enums.RiskLevel;
 import org.springframework.data.domain.Page;
@@ -57,22 +62,28 @@ public interface IProjectService {
             Long id);
 
     @Operation(summary = "Lista todos os projetos com filtros e paginação",
-            description = "Permite buscar projetos por nome, status, ID do gerente e intervalo de datas de início.")
+            description = "Permite buscar projetos por nome, um ou mais status, gerentes e níveis de risco, e intervalos de início, término previsto e orçamento, em uma única consulta.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de projetos retornada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
-            @ApiResponse(responseCode = "400", description = "Status de projeto inválido",
+            @ApiResponse(responseCode = "400", description = "Status, nível de risco ou intervalo inválido",
                     content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Status inválido: XYZ\"}")))
     })
     Page<ProjectResponseDTO> getAllProjects(
-            @Parameter(description = "Filtra projetos por nome (case-insensitive, parcial)", example = "Meu Projeto") String name,
-            @Parameter(description = "Filtra projetos por status", example = "EM_ANDAMENTO",
-                    schema = @Schema(implementation = String.class, allowableValues = {"EM_ANALISE", "ANALISE_REALIZADA", "ANALISE_APROVADA", "INICIADO", "PLANEJADO", "EM_ANDAMENTO", "ENCERRADO", "CANCELADO"})) String status,
-            @Parameter(description = "Filtra projetos por ID do gerente", example = "101") Long managerId,
-            @Parameter(description = "Data de início mínima (dd/MM/yyyy)", example = "01/01/2023") @JsonFormat(pattern = "dd/MM/yyyy") LocalDate startDateFrom,
-            @Parameter(description = "Data de início máxima (dd/MM/yyyy)", example = "31/12/2023") @JsonFormat(pattern = "dd/MM/yyyy") LocalDate startDateTo,
+            @Parameter(description = "Filtros da listagem") ProjectFilterDTO filter,
             @Parameter(description = "Configurações de paginação e ordenação") Pageable pageable);
 
+    @Operation(summary = "Conta os projetos por status, gerente e nível de risco",
+            description = "Aceita os mesmos filtros da listagem e retorna, em uma única consulta, as contagens de cada faceta e o total.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectFacetsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Status, nível de risco ou intervalo inválido",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Nível de risco inválido: XYZ\"}")))
+    })
+    ProjectFacetsDTO getProjectFacets(
+            @Parameter(description = "Filtros da listagem") ProjectFilterDTO filter);
+
     @Operation(summary = "Atualiza os dados de um projeto existente",
             description = "Altera informações como nome, datas, orçamento e descrição de um projeto. A mudança de status deve ser feita via PATCH.")
     @ApiResponses(value = {
@@ -107,6 +118,18 @@ public interface IProjectService {
             @Parameter(description = "Novo status do projeto", required = true)
             ProjectStatusUpdateDTO statusUpdateDTO);
 
+    @Operation(summary = "Atualiza o status de vários projetos em lote",
+            description = "Valida as regras de transição de todos os projetos em memória e aplica as transições válidas com UPDATEs em conjunto, preenchendo a data real de término ao encerrar. Retorna um resultado compacto por projeto, sem consultar a API de membros.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; o resultado de cada projeto é retornado",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkStatusUpdateResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou inválido",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Deve informar ao menos uma transição de status.\"}")))
+    })
+    BulkStatusUpdateResultDTO updateProjectStatusInBulk(
+            @Parameter(description = "Transições de status a serem aplicadas", required = true)
+            List<ProjectStatusTransitionDTO> transitions);
+
     @Operation(summary = "Exclui um projeto",
             description = "Remove um projeto do sistema. A exclusão é permitida apenas se o projeto não estiver em 'Em Andamento', 'Encerrado' ou 'Planejado'.")
     @ApiResponses(value = {
@@ -138,6 +161,20 @@ public interface IProjectService {
             @Parameter(description = "Lista de IDs dos membros a serem alocados", required = true, example = "[10, 11]")
             List<Long> memberIds);
 
+    @Operation(summary = "Aloca membros em vários projetos em lote",
+            description = "Processa pares projeto/membro em uma única transação, aplicando as mesmas regras da alocação individual (apenas 'funcionários', sem duplicidade e no máximo 3 projetos ativos por membro). Pares inválidos são rejeitados individualmente, sem abortar o lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; o resultado de cada par é retornado",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkAllocationResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou inválido",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Deve informar ao menos um par projeto/membro para alocação.\"}"))),
+            @ApiResponse(responseCode = "503", description = "Serviço de membros indisponível",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Erro ao buscar membros em lote na API externa.\"}")))
+    })
+    BulkAllocationResultDTO allocateMembersInBulk(
+            @Parameter(description = "Pares projeto/membro a serem alocados", required = true)
+            List<AllocationPairDTO> pairs);
+
     @Operation(summary = "Desaloca um membro de um projeto",
             description = "Remove a associação de um membro com um projeto específico.")
     @ApiResponses(value = {
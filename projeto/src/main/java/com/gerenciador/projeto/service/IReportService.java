@@ -1,12 +1,25 @@
 package com.gerenciador.projeto.service;
 
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
 import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
+import com.gerenciador.projeto.dto.StatusThroughputDTO;
+import com.gerenciador.projeto.enums.CountMode;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Interface que define o contrato para as operações de serviço de relatórios.
@@ -25,5 +38,88 @@ public interface IReportService {
             @ApiResponse(responseCode = "503", description = "Serviço de membros indisponível (pode impactar a contagem de membros únicos)",
                     content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Erro ao buscar membros na API externa...\"}")))
     })
-    PortfolioSummaryDTO generatePortfolioSummary();
-}
\ No newline at end of file
+    PortfolioSummaryDTO generatePortfolioSummary(
+            @Parameter(description = "Contagem de membros únicos: EXATA ou APROXIMADA (HyperLogLog, erro padrão de ~1,6%)", example = "EXATA")
+            CountMode uniqueMembersMode,
+            @Parameter(description = "Inclui os projetos arquivados", example = "false") boolean includeArchived);
+
+    @Operation(summary = "Calcula o tempo em cada status",
+            description = "Retorna média, mediana e percentis 90/95 do tempo (em dias) que os projetos permaneceram em cada status, considerando as entradas em status ocorridas no período.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas calculadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatusDurationStatsDTO.class)))
+    })
+    List<StatusDurationStatsDTO> getTimeInStatusStatistics(
+            @Parameter(description = "Data inicial do período", example = "01/01/2024") LocalDate from,
+            @Parameter(description = "Data final do período", example = "31/12/2024") LocalDate to);
+
+    @Operation(summary = "Calcula a vazão semanal por status",
+            description = "Retorna, para cada semana do período, quantos projetos entraram em cada status e o total acumulado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vazão calculada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatusThroughputDTO.class)))
+    })
+    List<StatusThroughputDTO> getWeeklyStatusThroughput(
+            @Parameter(description = "Data inicial do período", example = "01/01/2024") LocalDate from,
+            @Parameter(description = "Data final do período", example = "31/12/2024") LocalDate to);
+
+    @Operation(summary = "Lista o resumo da carteira de cada gerente",
+            description = "Retorna, por gerente, a quantidade de projetos (total, ativos e por status), o orçamento total e sob gestão " +
+                    "e os membros distintos alocados nos projetos ativos. Calculado no banco e paginado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Propriedade de ordenação inválida",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Ordenação inválida: name...\"}")))
+    })
+    Page<ManagerPortfolioDTO> getManagerPortfolios(Pageable pageable, @Parameter(description = "Inclui os projetos arquivados", example = "false") boolean includeArchived);
+
+    @Operation(summary = "Gera o resumo da carteira de um gerente",
+            description = "Retorna o resumo da carteira do gerente informado; um gerente sem projetos tem as contagens zeradas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ManagerPortfolioDTO.class)))
+    })
+    ManagerPortfolioDTO getManagerPortfolio(@Parameter(description = "ID do gerente", example = "1") Long managerId,
+                                            @Parameter(description = "Inclui os projetos arquivados", example = "false") boolean includeArchived);
+
+    @Operation(summary = "Lista o resumo das alocações de cada membro",
+            description = "Retorna, por membro, a quantidade de projetos e de alocações ativas e o orçamento somado dos projetos. " +
+                    "Calculado no banco e paginado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Propriedade de ordenação inválida",
+                    content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"timestamp\":\"...\",\"message\":\"Ordenação inválida: name...\"}")))
+    })
+    Page<MemberPortfolioDTO> getMemberPortfolios(Pageable pageable, @Parameter(description = "Inclui os projetos arquivados", example = "false") boolean includeArchived);
+
+    @Operation(summary = "Gera o resumo das alocações de um membro",
+            description = "Retorna o resumo das alocações do membro informado; um membro sem alocações tem as contagens zeradas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MemberPortfolioDTO.class)))
+    })
+    MemberPortfolioDTO getMemberPortfolio(@Parameter(description = "ID do membro", example = "2") Long memberId,
+                                          @Parameter(description = "Inclui os projetos arquivados", example = "false") boolean includeArchived);
+
+    @Operation(summary = "Grava o snapshot do portfólio do dia",
+            description = "Calcula o resumo atual do portfólio (status, orçamentos, membros únicos e riscos) e o grava como snapshot do dia. " +
+                    "Executado diariamente de forma automática; uma nova execução no mesmo dia substitui o snapshot do dia.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot gravado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortfolioSnapshotDTO.class)))
+    })
+    PortfolioSnapshotDTO capturePortfolioSnapshot();
+
+    @Operation(summary = "Consulta a evolução do portfólio",
+            description = "Retorna os snapshots gravados no período, um por dia, semana ou mês (o último de cada período), sem recalcular os projetos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Série histórica retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortfolioSnapshotDTO.class)))
+    })
+    List<PortfolioSnapshotDTO> getPortfolioTrend(
+            @Parameter(description = "Data inicial do período", example = "01/01/2024") LocalDate from,
+            @Parameter(description = "Data final do período", example = "31/12/2024") LocalDate to,
+            @Parameter(description = "Granularidade da série", example = "MENSAL") SnapshotGranularity granularity);
+}
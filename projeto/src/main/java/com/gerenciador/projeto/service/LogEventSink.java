@@ -0,0 +1,31 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino de log: registra uma linha por evento no logger 'projeto.events', útil em desenvolvimento
+ * e para auditoria simples.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.log.enabled", havingValue = "true")
+public class LogEventSink implements DomainEventSink {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("projeto.events");
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void publish(List<DomainEventDTO> events) {
+        events.forEach(event -> EVENTS.info("evento {} {} projeto={} gerente={} dados={}",
+                event.getId(), event.getType(), event.getProjectId(), event.getManagerId(), event.getPayload()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import com.gerenciador.projeto.entity.OutboxEvent;
+import com.gerenciador.projeto.mapper.DomainEventMapper;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publica os eventos do outbox nos destinos configurados ({@link DomainEventSink}), em três etapas:
+ * <ol>
+ *     <li>uma transação curta reivindica o lote (prazo em claimed_until) e atribui as posições de publicação;</li>
+ *     <li>o lote é entregue a todos os destinos fora de transação, sem locks nem conexão presos durante as
+ *     chamadas externas (ex: webhook);</li>
+ *     <li>uma segunda transação curta marca o lote como publicado.</li>
+ * </ol>
+ * Se um destino falhar, a reivindicação é desfeita e o lote volta a ser entregue após um intervalo crescente
+ * (dobrado a cada falha consecutiva, até app.outbox.relay.max-backoff), sem sobrecarregar um destino fora do ar.
+ * A entrega é "pelo menos uma vez": se a instância parar entre a entrega e a marcação, o lote é reivindicado de novo
+ * quando o prazo vencer, com as mesmas posições, que os consumidores podem usar para descartar repetições.
+ * Com várias instâncias, os relays não disputam os mesmos eventos, pois cada lote ignora as linhas bloqueadas ou
+ * reivindicadas, e as posições são atribuídas sob um lock consultivo, para que sejam confirmadas em ordem crescente.
+ * Desativado com app.outbox.relay.enabled=false (os eventos continuam sendo gravados).
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventSink> sinks;
+    private final DomainEventMapper domainEventMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter publishedCounter;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration retention;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Duration claimTimeout;
+    // Estado do backoff; acessado apenas pela thread do agendador
+    private int consecutiveFailures;
+    private long retryAt;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<DomainEventSink> sinks,
+                       DomainEventMapper domainEventMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${app.outbox.relay.max-batches:50}") int maxBatches,
+                       @Value("${app.outbox.retention:7d}") Duration retention,
+                       @Value("${app.outbox.relay.interval-ms:500}") long intervalMs,
+                       @Value("${app.outbox.relay.max-backoff:1m}") Duration maxBackoff,
+                       @Value("${app.outbox.relay.claim-timeout:1m}") Duration claimTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.domainEventMapper = domainEventMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.publishedCounter = Counter.builder("projeto.outbox.published")
+                .description("Eventos do outbox entregues a todos os destinos")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.retention = retention;
+        this.initialBackoffNanos = Duration.ofMillis(intervalMs).toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.claimTimeout = claimTimeout;
+    }
+
+    /**
+     * Publica os eventos pendentes em lotes, até encontrar um lote incompleto ou atingir o limite de lotes da execução.
+     * Após uma falha, as execuções seguintes são ignoradas até o fim do intervalo de espera.
+     * @return A quantidade de eventos publicados.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:500}")
+    public int publishPending() {
+        if (consecutiveFailures > 0 && System.nanoTime() - retryAt < 0) {
+            return 0;
+        }
+        int published = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<OutboxEvent> events = transactionTemplate.execute(status -> claimNextBatch());
+                if (events.isEmpty()) {
+                    break;
+                }
+                deliver(events);
+                List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+                publishedCounter.increment(events.size());
+                published += events.size();
+                if (events.size() < batchSize) {
+                    break;
+                }
+            }
+            consecutiveFailures = 0;
+        } catch (RuntimeException e) {
+            long backoff = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(consecutiveFailures, 20));
+            consecutiveFailures++;
+            retryAt = System.nanoTime() + backoff;
+            LOG.warn("Falha ao publicar eventos do outbox ({} consecutivas); nova tentativa em {} ms: {}",
+                    consecutiveFailures, Duration.ofNanos(backoff).toMillis(), e.toString());
+        }
+        return published;
+    }
+
+    /**
+     * Reivindica o próximo lote e atribui posições aos eventos que ainda não têm (os de uma entrega anterior
+     * que falhou mantêm as suas). Executado em transação própria, gravada antes da entrega.
+     */
+    private List<OutboxEvent> claimNextBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockNextUnpublished(batchSize, now);
+        if (events.isEmpty()) {
+            return events;
+        }
+        List<OutboxEvent> withoutPosition = events.stream().filter(event -> event.getPosition() == null).toList();
+        if (!withoutPosition.isEmpty()) {
+            outboxEventRepository.lockPositionAssignment();
+            List<Long> positions = outboxEventRepository.nextPositions(withoutPosition.size());
+            for (int i = 0; i < withoutPosition.size(); i++) {
+                withoutPosition.get(i).setPosition(positions.get(i));
+            }
+        }
+        LocalDateTime claimedUntil = now.plus(claimTimeout);
+        events.forEach(event -> event.setClaimedUntil(claimedUntil));
+        return events;
+    }
+
+    // Entrega o lote a todos os destinos, fora de transação; em caso de falha, libera o lote para nova tentativa
+    private void deliver(List<OutboxEvent> events) {
+        List<DomainEventDTO> dtos = events.stream().map(domainEventMapper::toDto).toList();
+        for (DomainEventSink sink : sinks) {
+            try {
+                sink.publish(dtos);
+            } catch (RuntimeException e) {
+                meterRegistry.counter("projeto.outbox.failures", "sink", sink.getName()).increment();
+                List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> outboxEventRepository.releaseClaim(ids));
+                } catch (RuntimeException releaseFailure) {
+                    // O prazo da reivindicação vence e o lote é reivindicado de novo do mesmo jeito
+                    e.addSuppressed(releaseFailure);
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Os eventos publicados ficam disponíveis pelo período de retenção (ex: para consumidores retomarem a leitura)
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 15 4 * * *}")
+    public void deletePublishedEvents() {
+        transactionTemplate.executeWithoutResult(
+                status -> outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+    }
+}
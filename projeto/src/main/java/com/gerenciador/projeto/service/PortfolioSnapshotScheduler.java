@@ -0,0 +1,27 @@
+package com.gerenciador.projeto.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agenda a gravação diária do snapshot do portfólio.
+ * Com várias instâncias, cada uma grava o mesmo dia: as gravações da mesma data são serializadas por um lock consultivo
+ * e a última a obter o lock substitui o snapshot das anteriores.
+ * Desativado com app.report.snapshot.enabled=false.
+ */
+@Component
+@ConditionalOnProperty(name = "app.report.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class PortfolioSnapshotScheduler {
+
+    private final IReportService reportService;
+
+    public PortfolioSnapshotScheduler(IReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Scheduled(cron = "${app.report.snapshot.cron:0 55 23 * * *}")
+    public void captureDailySnapshot() {
+        reportService.capturePortfolioSnapshot();
+    }
+}
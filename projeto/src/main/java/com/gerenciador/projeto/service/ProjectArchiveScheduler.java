@@ -0,0 +1,30 @@
+package com.gerenciador.projeto.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agenda o arquivamento periódico dos projetos encerrados e cancelados.
+ * Com várias instâncias, execuções simultâneas não disputam os mesmos projetos, pois cada lote ignora as linhas bloqueadas.
+ * Ativado com app.archive.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class ProjectArchiveScheduler {
+
+    private final IProjectArchiveService archiveService;
+    private final int retentionDays;
+
+    public ProjectArchiveScheduler(IProjectArchiveService archiveService,
+                                   @Value("${app.archive.retention-days:90}") int retentionDays) {
+        this.archiveService = archiveService;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void archiveClosedProjects() {
+        archiveService.archiveClosedProjects(retentionDays);
+    }
+}
@@ -0,0 +1,71 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.ArchiveResultDTO;
+import com.gerenciador.projeto.exception.InvalidFilterException;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementação do serviço de arquivamento.
+ * Cada lote é movido em uma transação própria e curta, de modo que os bloqueios sobre os projetos e alocações
+ * movidos são liberados a cada lote e as demais operações não esperam pelo arquivamento completo.
+ */
+@Service
+@Timed(value = "projeto.service", histogram = true) // Timer por método público (tags class, method e exception)
+public class ProjectArchiveService implements IProjectArchiveService {
+
+    private final ProjectArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ProjectArchiveService(ProjectArchiveRepository archiveRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.archive.batch-size:500}") int batchSize,
+                                 @Value("${app.archive.max-batches:200}") int maxBatches) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * Arquiva, em lotes, os projetos fechados antes da data de corte (hoje menos o período de retenção).
+     * Para quando um lote vem incompleto ou quando o limite de lotes da execução é atingido;
+     * os projetos restantes ficam para a próxima execução.
+     * @param retentionDays Dias, desde o fechamento, que um projeto permanece nas tabelas principais.
+     * @return A quantidade de projetos arquivados e de lotes executados.
+     * @throws InvalidFilterException Se o período de retenção for negativo.
+     */
+    @Override
+    public ArchiveResultDTO archiveClosedProjects(int retentionDays) {
+        if (retentionDays < 0) {
+            throw new InvalidFilterException("O período de retenção não pode ser negativo.");
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        LocalDate cutoff = archivedAt.toLocalDate().minusDays(retentionDays);
+
+        int archivedCount = 0;
+        int batchCount = 0;
+        boolean complete = false;
+        while (batchCount < maxBatches) {
+            List<Long> archivedIds = transactionTemplate.execute(
+                    status -> archiveRepository.archiveClosedBefore(cutoff, batchSize, archivedAt));
+            batchCount++;
+            archivedCount += archivedIds.size();
+            if (archivedIds.size() < batchSize) {
+                complete = true;
+                break;
+            }
+        }
+        return new ArchiveResultDTO(cutoff, archivedCount, batchCount, complete);
+    }
+}
@@ -0,0 +1,246 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.AllocationChangeDTO;
+import com.gerenciador.projeto.dto.ChangeSetDTO;
+import com.gerenciador.projeto.dto.ChangeTombstoneDTO;
+import com.gerenciador.projeto.dto.ProjectChangeDTO;
+import com.gerenciador.projeto.exception.ChangeWatermarkExpiredException;
+import com.gerenciador.projeto.exception.InvalidFilterException;
+import com.gerenciador.projeto.mapper.AllocationMapper;
+import com.gerenciador.projeto.mapper.ChangeTombstoneMapper;
+import com.gerenciador.projeto.mapper.ProjectMapper;
+import com.gerenciador.projeto.repository.AllocationRepository;
+import com.gerenciador.projeto.repository.ChangeTombstoneRepository;
+import com.gerenciador.projeto.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementação da consulta incremental de alterações.
+ * Projetos, alocações e exclusões são lidos por faixa de (momento, ID) a partir da marca d'água, cada um pelo
+ * seu índice, e intercalados em uma única ordem (momento, origem, ID). A marca d'água codifica a última posição
+ * entregue nessa ordem, o que permite retomar no meio de um grupo de registros alterados no mesmo instante.
+ * Só são lidas alterações anteriores a agora menos a margem de confirmação: uma transação que grava o momento da
+ * alteração e confirma depois (ou uma réplica atrasada) não fica para trás de uma marca d'água já entregue.
+ */
+@Service
+public class ProjectChangeService implements IProjectChangeService {
+
+    // Origens na ordem de desempate das alterações de um mesmo instante
+    private static final int PROJECTS = 0;
+    private static final int ALLOCATIONS = 1;
+    private static final int TOMBSTONES = 2;
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String SEPARATOR = "|";
+
+    private final ProjectRepository projectRepository;
+    private final AllocationRepository allocationRepository;
+    private final ChangeTombstoneRepository changeTombstoneRepository;
+    private final ProjectMapper projectMapper;
+    private final AllocationMapper allocationMapper;
+    private final ChangeTombstoneMapper changeTombstoneMapper;
+    private final Duration commitGrace;
+    private final Duration tombstoneRetention;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final Clock clock;
+
+    @Autowired
+    public ProjectChangeService(ProjectRepository projectRepository,
+                                AllocationRepository allocationRepository,
+                                ChangeTombstoneRepository changeTombstoneRepository,
+                                ProjectMapper projectMapper,
+                                AllocationMapper allocationMapper,
+                                ChangeTombstoneMapper changeTombstoneMapper,
+                                @Value("${app.sync.commit-grace:1m}") Duration commitGrace,
+                                @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention,
+                                @Value("${app.sync.page-size:500}") int defaultPageSize,
+                                @Value("${app.sync.max-page-size:5000}") int maxPageSize) {
+        this(projectRepository, allocationRepository, changeTombstoneRepository, projectMapper, allocationMapper,
+                changeTombstoneMapper, commitGrace, tombstoneRetention, defaultPageSize, maxPageSize, Clock.systemDefaultZone());
+    }
+
+    ProjectChangeService(ProjectRepository projectRepository, AllocationRepository allocationRepository,
+                         ChangeTombstoneRepository changeTombstoneRepository, ProjectMapper projectMapper,
+                         AllocationMapper allocationMapper, ChangeTombstoneMapper changeTombstoneMapper,
+                         Duration commitGrace, Duration tombstoneRetention, int defaultPageSize, int maxPageSize, Clock clock) {
+        this.projectRepository = projectRepository;
+        this.allocationRepository = allocationRepository;
+        this.changeTombstoneRepository = changeTombstoneRepository;
+        this.projectMapper = projectMapper;
+        this.allocationMapper = allocationMapper;
+        this.changeTombstoneMapper = changeTombstoneMapper;
+        this.commitGrace = commitGrace;
+        this.tombstoneRetention = tombstoneRetention;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetDTO getChangesSince(String since, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : limit;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidFilterException("O tamanho da página deve estar entre 1 e " + maxPageSize + ".");
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Cursor from = since == null || since.isBlank() ? new Cursor(BEGINNING, PROJECTS, Long.MIN_VALUE) : parseSince(since.trim());
+        if (since != null && !since.isBlank() && from.at().isBefore(now.minus(tombstoneRetention))) {
+            throw new ChangeWatermarkExpiredException("A marca d'água é anterior ao período de retenção das exclusões (" +
+                    tombstoneRetention.toDays() + " dias); refaça a sincronização completa.");
+        }
+        LocalDateTime until = now.minus(commitGrace);
+
+        // Cada origem lê uma página a mais para indicar se há continuação; a intercalação mantém as primeiras pageSize
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Change> changes = new ArrayList<>();
+        projectRepository.findChangedAfter(from.at(), from.afterIdFor(PROJECTS), until, fetch).forEach(project ->
+                changes.add(new Change(new Cursor(project.getUpdatedAt(), PROJECTS, project.getId()), projectMapper.toChangeDto(project))));
+        allocationRepository.findChangedAfter(from.at(), from.afterIdFor(ALLOCATIONS), until, fetch).forEach(allocation ->
+                changes.add(new Change(new Cursor(allocation.getUpdatedAt(), ALLOCATIONS, allocation.getId()), allocationMapper.toChangeDto(allocation))));
+        changeTombstoneRepository.findDeletedAfter(from.at(), from.afterIdFor(TOMBSTONES), until, fetch).forEach(tombstone ->
+                changes.add(new Change(new Cursor(tombstone.getDeletedAt(), TOMBSTONES, tombstone.getId()), changeTombstoneMapper.toDto(tombstone))));
+        changes.sort(Comparator.comparing(Change::cursor, Cursor.ORDER));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<Change> page = hasMore ? changes.subList(0, pageSize) : changes;
+        List<ProjectChangeDTO> projects = new ArrayList<>();
+        List<AllocationChangeDTO> allocations = new ArrayList<>();
+        List<ChangeTombstoneDTO> deleted = new ArrayList<>();
+        page.forEach(change -> {
+            switch (change.cursor().source()) {
+                case PROJECTS -> projects.add((ProjectChangeDTO) change.dto());
+                case ALLOCATIONS -> allocations.add((AllocationChangeDTO) change.dto());
+                default -> deleted.add((ChangeTombstoneDTO) change.dto());
+            }
+        });
+
+        // Sem continuação, tudo até 'until' foi entregue e a marca d'água avança até ele, mesmo sem alterações:
+        // clientes de portfólios pouco alterados não ficam presos a uma marca d'água que expiraria com a retenção
+        Cursor next = hasMore ? page.get(page.size() - 1).cursor() : new Cursor(until, TOMBSTONES, Long.MAX_VALUE);
+        if (Cursor.ORDER.compare(next, from) < 0) {
+            next = from;
+        }
+        return new ChangeSetDTO(projects, allocations, deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Remove os registros de exclusão mais antigos que o período de retenção.
+     * Clientes com marca d'água anterior a esse período recebem 410 e refazem a sincronização completa.
+     */
+    @Scheduled(cron = "${app.sync.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void deleteExpiredTombstones() {
+        changeTombstoneRepository.deleteDeletedBefore(LocalDateTime.now(clock).minus(tombstoneRetention));
+    }
+
+    /**
+     * Interpreta o parâmetro 'since': uma marca d'água devolvida por uma consulta anterior
+     * ou uma data/hora ISO-8601, a partir da qual (inclusive) as alterações são retornadas.
+     */
+    private static Cursor parseSince(String since) {
+        try {
+            return new Cursor(LocalDateTime.parse(since), PROJECTS, Long.MIN_VALUE);
+        } catch (DateTimeParseException notADateTime) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException(since);
+                }
+                int source = Integer.parseInt(parts[1]);
+                if (source < PROJECTS || source > TOMBSTONES) {
+                    throw new IllegalArgumentException(since);
+                }
+                return new Cursor(LocalDateTime.parse(parts[0]), source, Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new InvalidFilterException("Marca d'água inválida: " + since);
+            }
+        }
+    }
+
+    /**
+     * Posição na ordem (momento, origem, ID) das alterações.
+     */
+    private static final class Cursor {
+
+        static final Comparator<Cursor> ORDER = Comparator.comparing(Cursor::at)
+                .thenComparingInt(Cursor::source)
+                .thenComparingLong(Cursor::id);
+
+        private final LocalDateTime at;
+        private final int source;
+        private final long id;
+
+        Cursor(LocalDateTime at, int source, long id) {
+            this.at = at;
+            this.source = source;
+            this.id = id;
+        }
+
+        LocalDateTime at() {
+            return at;
+        }
+
+        int source() {
+            return source;
+        }
+
+        long id() {
+            return id;
+        }
+
+        /**
+         * ID a partir do qual uma origem é lida no instante da marca d'água: origens anteriores na ordem
+         * de desempate já foram entregues por completo nesse instante e as posteriores ainda não.
+         */
+        long afterIdFor(int otherSource) {
+            if (otherSource < source) {
+                return Long.MAX_VALUE;
+            }
+            return otherSource == source ? id : Long.MIN_VALUE;
+        }
+
+        String encode() {
+            String raw = at + SEPARATOR + source + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Alteração lida de uma das origens, com sua posição na ordem de entrega.
+     */
+    private static final class Change {
+
+        private final Cursor cursor;
+        private final Object dto;
+
+        Change(Cursor cursor, Object dto) {
+            this.cursor = cursor;
+            this.dto = dto;
+        }
+
+        Cursor cursor() {
+            return cursor;
+        }
+
+        Object dto() {
+            return dto;
+        }
+    }
+}
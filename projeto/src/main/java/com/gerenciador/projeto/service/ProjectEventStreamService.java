@@ -0,0 +1,298 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import com.gerenciador.projeto.entity.OutboxEvent;
+import com.gerenciador.projeto.mapper.DomainEventMapper;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementação do stream de eventos de projetos.
+ * Uma única leitura periódica do outbox por instância, a partir da última posição publicada, alimenta todas as conexões;
+ * como o cursor é a posição de publicação, o stream inclui os eventos publicados pelos relays de todas as instâncias.
+ * A leitura periódica e o reenvio na reconexão só enfileiram os eventos na fila de cada conexão, sob o mesmo lock,
+ * para que nenhum evento seja perdido ou repetido entre o reenvio e os eventos novos. O envio (bloqueante) é feito
+ * fora do lock, por uma thread por conexão com eventos pendentes: um cliente lento não atrasa os demais nem a thread
+ * do agendador, compartilhada com as outras tarefas periódicas. As threads são de plataforma porque o envio do
+ * SseEmitter é synchronized: em uma thread virtual, um cliente que não lê prenderia a thread portadora.
+ * Clientes cuja fila enche ou cujo envio passa do tempo limite são desconectados e, ao reconectar com o
+ * Last-Event-ID, recebem o que perderam.
+ */
+@Service
+public class ProjectEventStreamService implements IProjectEventStreamService, AutoCloseable {
+
+    static final String RESET_EVENT = "reinicio";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventMapper domainEventMapper;
+    private final long timeoutMillis;
+    private final int replayLimit;
+    private final int pollBatchSize;
+    private final long heartbeatNanos;
+    private final int queueCapacity;
+    private final long sendTimeoutNanos;
+    private final Executor senders;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // Última posição lida do outbox; protegida pelo lock. Null até a primeira leitura.
+    private Long tailPosition;
+    private long lastHeartbeat = System.nanoTime();
+
+    @Autowired
+    public ProjectEventStreamService(OutboxEventRepository outboxEventRepository,
+                                     DomainEventMapper domainEventMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.events.timeout:30m}") Duration timeout,
+                                     @Value("${app.events.replay-limit:1000}") int replayLimit,
+                                     @Value("${app.events.poll-batch-size:500}") int pollBatchSize,
+                                     @Value("${app.events.heartbeat:15s}") Duration heartbeat,
+                                     @Value("${app.events.subscriber-queue-size:2000}") int queueSize,
+                                     @Value("${app.events.send-timeout:10s}") Duration sendTimeout) {
+        this(outboxEventRepository, domainEventMapper, meterRegistry, timeout, replayLimit, pollBatchSize, heartbeat,
+                queueSize, sendTimeout, Executors.newCachedThreadPool(Thread.ofPlatform().name("sse-envio-", 0).daemon().factory()));
+    }
+
+    ProjectEventStreamService(OutboxEventRepository outboxEventRepository, DomainEventMapper domainEventMapper,
+                              MeterRegistry meterRegistry, Duration timeout, int replayLimit, int pollBatchSize,
+                              Duration heartbeat, int queueSize, Duration sendTimeout, Executor senders) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.domainEventMapper = domainEventMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.replayLimit = replayLimit;
+        this.pollBatchSize = pollBatchSize;
+        this.heartbeatNanos = heartbeat.toNanos();
+        // O reenvio completo (ou o evento de reinício) precisa caber na fila de uma conexão nova
+        this.queueCapacity = Math.max(queueSize, replayLimit + 1);
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senders = senders;
+        meterRegistry.gaugeCollectionSize("projeto.events.subscriptions", List.of(), subscriptions);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long projectId, Long managerId, Long lastEventId) {
+        Subscription subscription = new Subscription(createEmitter(), projectId, managerId, queueCapacity);
+        subscription.emitter.onCompletion(() -> subscriptions.remove(subscription));
+        subscription.emitter.onTimeout(() -> subscriptions.remove(subscription));
+        subscription.emitter.onError(error -> subscriptions.remove(subscription));
+
+        lock.lock();
+        try {
+            long current = currentTailPosition();
+            if (lastEventId != null && lastEventId < current) {
+                replay(subscription, lastEventId, current);
+            }
+            subscriptions.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        return subscription.emitter;
+    }
+
+    /**
+     * Enfileira os eventos publicados entre a posição informada pelo cliente e a posição atual do stream.
+     */
+    private void replay(Subscription subscription, long lastEventId, long current) {
+        Long minPosition = outboxEventRepository.findMinPosition();
+        List<OutboxEvent> missed = outboxEventRepository.findPublishedAfter(lastEventId, subscription.projectId,
+                subscription.managerId, Limit.of(replayLimit + 1));
+        missed = missed.stream().filter(event -> event.getPosition() <= current).toList();
+        // Eventos removidos pela retenção ou acima do limite de reenvio: o cliente precisa recarregar o estado
+        boolean incomplete = missed.size() > replayLimit || minPosition == null || minPosition > lastEventId + 1;
+        if (incomplete) {
+            enqueue(subscription, SseEmitter.event().id(String.valueOf(current)).name(RESET_EVENT).data(current));
+            return;
+        }
+        missed.forEach(event -> enqueue(subscription, toEvent(domainEventMapper.toDto(event))));
+    }
+
+    /**
+     * Lê os eventos publicados desde a última leitura e os enfileira nas conexões interessadas.
+     * Sem conexões abertas, apenas avança a posição para não reenviar eventos antigos a futuras conexões.
+     */
+    @Scheduled(fixedDelayString = "${app.events.poll-interval-ms:500}")
+    public void pollPublishedEvents() {
+        lock.lock();
+        try {
+            if (subscriptions.isEmpty()) {
+                tailPosition = Objects.requireNonNullElse(outboxEventRepository.findMaxPosition(), 0L);
+                return;
+            }
+            long after = currentTailPosition();
+            List<OutboxEvent> events;
+            do {
+                events = outboxEventRepository.findPublishedAfter(after, null, null, Limit.of(pollBatchSize));
+                for (OutboxEvent event : events) {
+                    DomainEventDTO dto = domainEventMapper.toDto(event);
+                    SseEmitter.SseEventBuilder sseEvent = null;
+                    for (Subscription subscription : subscriptions) {
+                        if (subscription.accepts(dto)) {
+                            sseEvent = sseEvent != null ? sseEvent : toEvent(dto);
+                            enqueue(subscription, sseEvent);
+                        }
+                    }
+                    after = event.getPosition();
+                }
+                tailPosition = after;
+            } while (events.size() == pollBatchSize);
+            sendHeartbeatIfDue();
+        } finally {
+            lock.unlock();
+        }
+        closeStalledSubscriptions();
+    }
+
+    // Envio parado além do tempo limite (cliente que não lê): a conexão deixa de receber eventos e é encerrada;
+    // a thread presa no envio só é liberada quando a escrita falha pelo timeout do servidor
+    private void closeStalledSubscriptions() {
+        long now = System.nanoTime();
+        subscriptions.stream()
+                .filter(subscription -> {
+                    long startedAt = subscription.sendStartedAt;
+                    return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+                })
+                .forEach(this::close);
+    }
+
+    // Comentário periódico: mantém a conexão aberta em proxies e detecta clientes desconectados
+    private void sendHeartbeatIfDue() {
+        long now = System.nanoTime();
+        if (now - lastHeartbeat < heartbeatNanos) {
+            return;
+        }
+        lastHeartbeat = now;
+        subscriptions.forEach(subscription -> enqueue(subscription, SseEmitter.event().comment("ping")));
+    }
+
+    private long currentTailPosition() {
+        if (tailPosition == null) {
+            tailPosition = Objects.requireNonNullElse(outboxEventRepository.findMaxPosition(), 0L);
+        }
+        return tailPosition;
+    }
+
+    /**
+     * Coloca o evento na fila da conexão, sem bloquear, e garante que haja uma thread enviando a fila.
+     * Fila cheia significa que o cliente não acompanha o ritmo dos eventos: a conexão é encerrada.
+     */
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.closed.get()) {
+            return;
+        }
+        if (!subscription.queue.offer(event)) {
+            close(subscription);
+            return;
+        }
+        if (subscription.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    // Envia a fila da conexão até esvaziá-la; só uma thread por conexão, o que preserva a ordem dos eventos
+    private void drain(Subscription subscription) {
+        while (true) {
+            SseEmitter.SseEventBuilder event = subscription.queue.poll();
+            if (event == null) {
+                subscription.draining.set(false);
+                // Evento enfileirado entre o poll e a liberação: retoma, a menos que outra thread já o tenha feito
+                if (subscription.queue.isEmpty() || !subscription.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (subscription.closed.get()) {
+                subscription.queue.clear();
+                continue;
+            }
+            subscription.sendStartedAt = System.nanoTime();
+            try {
+                subscription.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou conexão já encerrada
+                if (subscription.closed.compareAndSet(false, true)) {
+                    subscriptions.remove(subscription);
+                    subscription.emitter.completeWithError(e);
+                }
+            } finally {
+                subscription.sendStartedAt = 0;
+            }
+        }
+    }
+
+    /**
+     * Encerra a conexão de um cliente atrasado. O encerramento roda nas threads de envio, porque o emitter
+     * aguarda o término de um envio em andamento.
+     */
+    private void close(Subscription subscription) {
+        if (subscription.closed.compareAndSet(false, true)) {
+            subscriptions.remove(subscription);
+            subscription.queue.clear();
+            senders.execute(subscription.emitter::complete);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(DomainEventDTO event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getPosition()))
+                .name(event.getType().name())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    // Ponto de extensão para os testes
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Uma conexão aberta, seus filtros e sua fila de envio.
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Long projectId;
+        private final Long managerId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Início (System.nanoTime) do envio em andamento, ou 0 se nenhum
+        private volatile long sendStartedAt;
+
+        private Subscription(SseEmitter emitter, Long projectId, Long managerId, int queueCapacity) {
+            this.emitter = emitter;
+            this.projectId = projectId;
+            this.managerId = managerId;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private boolean accepts(DomainEventDTO event) {
+            return (projectId == null || projectId.equals(event.getProjectId()))
+                    && (managerId == null || managerId.equals(event.getManagerId()));
+        }
+    }
+}
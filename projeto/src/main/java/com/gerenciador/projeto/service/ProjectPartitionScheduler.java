@@ -0,0 +1,55 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+
+/**
+ * Mantém as partições anuais da tabela 'project' criadas com antecedência, para que projetos com início
+ * nos próximos anos não caiam na partição padrão (que não é descartada pelo planejador nos filtros de data de início).
+ * Executado na inicialização e mensalmente; a criação é idempotente e serializada no banco (lock consultivo),
+ * então várias instâncias podem executá-la ao mesmo tempo. Uma falha na inicialização é registrada sem impedir
+ * a aplicação de subir: as partições existentes e a partição padrão continuam atendendo, e a execução mensal tenta de novo.
+ * Desativado com app.partition.enabled=false.
+ */
+@Component
+@ConditionalOnProperty(name = "app.partition.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectPartitionScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectPartitionScheduler.class);
+
+    private final ProjectRepository projectRepository;
+    private final int yearsAhead;
+
+    public ProjectPartitionScheduler(ProjectRepository projectRepository,
+                                     @Value("${app.partition.years-ahead:2}") int yearsAhead) {
+        this.projectRepository = projectRepository;
+        this.yearsAhead = yearsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        try {
+            createUpcomingPartitions();
+        } catch (RuntimeException e) {
+            LOG.error("Falha ao criar as partições anuais de projetos na inicialização; nova tentativa na execução agendada.", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.partition.cron:0 0 3 1 * *}")
+    public void createUpcomingPartitions() {
+        int currentYear = Year.now().getValue();
+        int created = projectRepository.createYearlyPartitions(currentYear, currentYear + yearsAhead);
+        if (created > 0) {
+            LOG.info("Partições anuais de projetos criadas: {} (até {}).", created, currentYear + yearsAhead);
+        }
+    }
+}
@@ -1,30 +1,59 @@
 package com.gerenciador.projeto.service;
 
 import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.config.ThrottledLogger;
 import com.gerenciador.projeto.dto.*;
 import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ChangeTombstone;
+import com.gerenciador.projeto.entity.OutboxEvent;
 import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.entity.ProjectStatusHistory;
+import com.gerenciador.projeto.enums.AllocationOutcome;
+import com.gerenciador.projeto.enums.ChangeEntityType;
+import com.gerenciador.projeto.enums.DomainEventType;
 import com.gerenciador.projeto.enums.ProjectStatus;
 import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.enums.StatusTransitionOutcome;
 import com.gerenciador.projeto.exception.*;
 import com.gerenciador.projeto.mapper.AllocationMapper;
 import com.gerenciador.projeto.mapper.ProjectMapper;
 import com.gerenciador.projeto.repository.AllocationRepository;
+import com.gerenciador.projeto.repository.ChangeTombstoneRepository;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
+import com.gerenciador.projeto.repository.ProjectFilter;
 import com.gerenciador.projeto.repository.ProjectRepository;
+import com.gerenciador.projeto.repository.ProjectSpecifications;
+import com.gerenciador.projeto.repository.ProjectStatusHistoryRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 /**
@@ -34,128 +63,252 @@ import org.springframework.transaction.annotation.Transactional;
  */
 
 @Service
+@Timed(value = "projeto.service", histogram = true) // Timer por método público (tags class, method e exception)
 public class ProjectService implements IProjectService {
 
+    private static final String ALLOCATABLE_ROLE = "funcionário";
+    private static final int MAX_ACTIVE_PROJECTS_PER_MEMBER = 3;
+    private static final List<ProjectStatus> INACTIVE_STATUSES = List.of(ProjectStatus.ENCERRADO, ProjectStatus.CANCELADO);
+    // Com a API de membros fora do ar, cada resposta falharia uma vez por membro: os avisos repetidos são agrupados
+    private static final ThrottledLogger LOG = new ThrottledLogger(LoggerFactory.getLogger(ProjectService.class), Duration.ofMinutes(1));
+
     private final ProjectRepository projectRepository;
     private final AllocationRepository allocationRepository;
     private final ProjectMapper projectMapper;
     private final AllocationMapper allocationMapper;
     private final MemberApiClient memberApiClient; // Cliente para a API externa de membros
+    private final ProjectStatusHistoryRepository statusHistoryRepository;
+    private final ProjectArchiveRepository projectArchiveRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeTombstoneRepository changeTombstoneRepository;
+    private final AsyncMemberEnricher memberEnricher; // Enriquecimento com orçamento de tempo (quando ativo)
+    // Transações curtas para os métodos que chamam a API de membros antes ou depois de acessar o banco
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     public ProjectService(ProjectRepository projectRepository,
                           AllocationRepository allocationRepository,
                           ProjectMapper projectMapper,
                           AllocationMapper allocationMapper,
-                          MemberApiClient memberApiClient) {
+                          MemberApiClient memberApiClient,
+                          ProjectStatusHistoryRepository statusHistoryRepository,
+                          ProjectArchiveRepository projectArchiveRepository,
+                          OutboxEventRepository outboxEventRepository,
+                          ChangeTombstoneRepository changeTombstoneRepository,
+                          AsyncMemberEnricher memberEnricher,
+                          PlatformTransactionManager transactionManager) {
         this.projectRepository = projectRepository;
         this.allocationRepository = allocationRepository;
         this.projectMapper = projectMapper;
         this.allocationMapper = allocationMapper;
         this.memberApiClient = memberApiClient;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.projectArchiveRepository = projectArchiveRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeTombstoneRepository = changeTombstoneRepository;
+        this.memberEnricher = memberEnricher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true); // atendida por uma réplica quando o roteamento está ativo
     }
 
+    // Sem @Transactional: o gerente é validado na API de membros antes da transação e os nomes são preenchidos
+    // depois do commit, para que nenhuma conexão fique presa durante as chamadas externas
     @Override
-    @Transactional
     public ProjectResponseDTO createProject(ProjectRequestDTO projectRequestDTO) {
         validateMemberExists(projectRequestDTO.getManagerId());
 
-        Project project = projectMapper.toEntity(projectRequestDTO);
-        project = projectRepository.save(project);
-        return mapProjectToResponseDTO(project);
+        ProjectResponseDTO responseDTO = transactionTemplate.execute(status -> {
+            Project project = projectRepository.save(projectMapper.toEntity(projectRequestDTO));
+            // Registra o status inicial para que o tempo no primeiro status também seja mensurável
+            statusHistoryRepository.save(new ProjectStatusHistory(project.getId(), null, project.getStatus(), LocalDateTime.now()));
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("name", project.getName());
+            payload.put("status", project.getStatus().name());
+            payload.put("startDate", String.valueOf(project.getStartDate()));
+            outboxEventRepository.save(newEvent(DomainEventType.PROJETO_CRIADO, project, payload));
+            return toResponseDTO(project);
+        });
+        enrichResponseDTOs(List.of(responseDTO));
+        return responseDTO;
     }
 
+    // Sem @Transactional: o projeto e as alocações são lidos por findById (atendido pelo cache de segundo nível,
+    // quando ativo) e mapeados em uma transação somente leitura curta; a conexão é devolvida ao pool
+    // antes das chamadas à API de membros (com threads virtuais o pool passaria a ser o gargalo)
     @Override
-    @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
-        return mapProjectToResponseDTO(project);
+        ProjectResponseDTO responseDTO = readOnlyTransactionTemplate.execute(status -> toResponseDTO(projectRepository.findById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id))));
+        enrichResponseDTOs(List.of(responseDTO));
+        return responseDTO;
+    }
+
+    // Sem @Transactional pelo mesmo motivo de getProjectById: a página é mapeada na transação e enriquecida depois dela
+    @Override
+    public Page<ProjectResponseDTO> getAllProjects(ProjectFilterDTO filter, Pageable pageable) {
+        ProjectFilter projectFilter = resolveFilter(filter);
+        Page<ProjectResponseDTO> page = readOnlyTransactionTemplate.execute(status -> {
+            if (projectFilter.isIncludeArchived()) {
+                return getProjectsIncludingArchived(projectFilter, pageable);
+            }
+            Specification<Project> spec = ProjectSpecifications.matching(projectFilter);
+
+            Page<Project> projectPage = projectRepository.findAll(spec, pageable);
+            return new PageImpl<>(toResponseDTOs(projectPage.getContent()), pageable, projectPage.getTotalElements());
+        });
+        enrichResponseDTOs(page.getContent());
+        return page;
     }
 
+    // Sem enriquecimento pela API de membros: a resposta contém apenas contagens
     @Override
     @Transactional(readOnly = true)
-    public Page<ProjectResponseDTO> getAllProjects(String name, String status, Long managerId, LocalDate startDateFrom, LocalDate startDateTo, Pageable pageable) {
-        Specification<Project> spec = Specification.where(null);
+    public ProjectFacetsDTO getProjectFacets(ProjectFilterDTO filter) {
+        return projectRepository.countFacets(resolveFilter(filter));
+    }
 
-        if (name != null && !name.isEmpty()) {
-            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
-        }
-        if (status != null && !status.isEmpty()) {
-            try {
-                ProjectStatus projectStatus = ProjectStatus.valueOf(status.toUpperCase().replace(" ", "_"));
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), projectStatus));
-            } catch (IllegalArgumentException e) {
-                throw new InvalidStatusTransitionException("Status inválido: " + status);
+    // Sem @Transactional pelo mesmo motivo de createProject: a troca de gerente é validada antes da transação,
+    // a partir de uma leitura prévia do projeto (normalmente atendida pelo cache de segundo nível, quando ativo)
+    @Override
+    public ProjectResponseDTO updateProject(Long id, ProjectRequestDTO projectRequestDTO) {
+        if (projectRequestDTO.getManagerId() != null) {
+            Project currentProject = projectRepository.findById(id)
+                    .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
+            if (!projectRequestDTO.getManagerId().equals(currentProject.getManagerId())) {
+                validateMemberExists(projectRequestDTO.getManagerId());
             }
         }
-        if (managerId != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("managerId"), managerId));
-        }
-        if (startDateFrom != null) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), startDateFrom));
-        }
-        if (startDateTo != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDate"), startDateTo));
-        }
 
-        Page<Project> projectPage = projectRepository.findAll(spec, pageable);
-        List<ProjectResponseDTO> dtoList = projectPage.getContent().stream()
-                .map(this::mapProjectToResponseDTO)
-                .collect(Collectors.toList());
+        ProjectResponseDTO responseDTO = transactionTemplate.execute(status -> {
+            Project existingProject = projectRepository.findById(id)
+                    .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
+
+            projectMapper.updateProjectFromDto(projectRequestDTO, existingProject);
+
+            if (projectRequestDTO.getStatus() != null) {
+                ProjectStatus newStatus = resolveStatus(projectRequestDTO.getStatus());
+                if (existingProject.getStatus() != newStatus) {
+                    throw new InvalidStatusTransitionException("Alteração de status deve ser feita via endpoint PATCH /status.");
+                }
+            }
 
-        return new PageImpl<>(dtoList, pageable, projectPage.getTotalElements());
+            return toResponseDTO(projectRepository.save(existingProject));
+        });
+        enrichResponseDTOs(List.of(responseDTO));
+        return responseDTO;
     }
 
+    // Sem @Transactional: a alteração é gravada em uma transação curta e os nomes são preenchidos depois do commit
     @Override
-    @Transactional
-    public ProjectResponseDTO updateProject(Long id, ProjectRequestDTO projectRequestDTO) {
-        Project existingProject = projectRepository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
+    public ProjectResponseDTO updateProjectStatus(Long id, ProjectStatusUpdateDTO statusUpdateDTO) {
+        ProjectResponseDTO responseDTO = transactionTemplate.execute(status -> {
+            Project project = projectRepository.findById(id)
+                    .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
 
-        if (projectRequestDTO.getManagerId() != null && !projectRequestDTO.getManagerId().equals(existingProject.getManagerId())) {
-            validateMemberExists(projectRequestDTO.getManagerId());
-        }
+            ProjectStatus newStatus = resolveStatus(statusUpdateDTO.getNewStatus());
 
-        projectMapper.updateProjectFromDto(projectRequestDTO, existingProject);
+            if (!project.getStatus().canTransitionTo(newStatus)) {
+                throw new InvalidStatusTransitionException(
+                        "Transição de status inválida de '" + project.getStatus().getDescription() +
+                                "' para '" + newStatus.getDescription() + "'."
+                );
+            }
 
-        if (projectRequestDTO.getStatus() != null) {
-            ProjectStatus newStatus = ProjectStatus.valueOf(projectRequestDTO.getStatus().toUpperCase().replace(" ", "_"));
-            if (existingProject.getStatus() != newStatus) {
-                throw new InvalidStatusTransitionException("Alteração de status deve ser feita via endpoint PATCH /status.");
+            ProjectStatus previousStatus = project.getStatus();
+            project.setStatus(newStatus);
+            if (newStatus == ProjectStatus.ENCERRADO && project.getActualEndDate() == null) {
+                project.setActualEndDate(LocalDate.now());
             }
-        }
 
-        Project updatedProject = projectRepository.save(existingProject);
-        return mapProjectToResponseDTO(updatedProject);
+            Project savedProject = projectRepository.save(project);
+            statusHistoryRepository.save(new ProjectStatusHistory(savedProject.getId(), previousStatus, newStatus, LocalDateTime.now()));
+            outboxEventRepository.save(newEvent(DomainEventType.STATUS_ALTERADO, savedProject, statusChangePayload(previousStatus, newStatus)));
+            return toResponseDTO(savedProject);
+        });
+        enrichResponseDTOs(List.of(responseDTO));
+        return responseDTO;
     }
 
     @Override
     @Transactional
-    public ProjectResponseDTO updateProjectStatus(Long id, ProjectStatusUpdateDTO statusUpdateDTO) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + id));
-
-        ProjectStatus newStatus;
-        try {
-            newStatus = ProjectStatus.valueOf(statusUpdateDTO.getNewStatus().toUpperCase().replace(" ", "_"));
-        } catch (IllegalArgumentException e) {
-            throw new InvalidStatusTransitionException("Status inválido: " + statusUpdateDTO.getNewStatus());
+    public BulkStatusUpdateResultDTO updateProjectStatusInBulk(List<ProjectStatusTransitionDTO> transitions) {
+        if (transitions == null || transitions.isEmpty()) {
+            throw new InvalidStatusTransitionException("Deve informar ao menos uma transição de status.");
         }
 
-        if (!project.getStatus().canTransitionTo(newStatus)) {
-            throw new InvalidStatusTransitionException(
-                    "Transição de status inválida de '" + project.getStatus().getDescription() +
-                            "' para '" + newStatus.getDescription() + "'."
-            );
+        Set<Long> projectIds = transitions.stream().map(ProjectStatusTransitionDTO::getProjectId).collect(Collectors.toSet());
+        Map<Long, ProjectStatus> currentStatusById = new HashMap<>();
+        Map<Long, Long> managerIdById = new HashMap<>();
+        projectRepository.findStatusesByIdIn(projectIds).forEach(view -> {
+            currentStatusById.put(view.getId(), view.getStatus());
+            managerIdById.put(view.getId(), view.getManagerId());
+        });
+
+        // Valida todas as transições em memória e agrupa as válidas por (status atual, novo status)
+        Map<ProjectStatus, Map<ProjectStatus, List<Long>>> idsByTransition = new EnumMap<>(ProjectStatus.class);
+        Map<Long, StatusTransitionResultDTO> acceptedById = new HashMap<>();
+        Set<Long> seenProjectIds = new HashSet<>();
+        List<StatusTransitionResultDTO> results = new ArrayList<>(transitions.size());
+        for (ProjectStatusTransitionDTO transition : transitions) {
+            Long projectId = transition.getProjectId();
+            ProjectStatus currentStatus = currentStatusById.get(projectId);
+            ProjectStatus newStatus = ProjectStatus.resolve(transition.getNewStatus());
+            StatusTransitionResultDTO result;
+
+            if (!seenProjectIds.add(projectId)) {
+                result = new StatusTransitionResultDTO(projectId, currentStatus, newStatus, StatusTransitionOutcome.DUPLICADO,
+                        "Projeto com ID " + projectId + " informado mais de uma vez no lote.");
+            } else if (currentStatus == null) {
+                result = new StatusTransitionResultDTO(projectId, null, newStatus, StatusTransitionOutcome.PROJETO_NAO_ENCONTRADO,
+                        "Projeto não encontrado com ID: " + projectId);
+            } else if (newStatus == null) {
+                result = new StatusTransitionResultDTO(projectId, currentStatus, null, StatusTransitionOutcome.STATUS_INVALIDO,
+                        "Status inválido: " + transition.getNewStatus());
+            } else if (!currentStatus.canTransitionTo(newStatus)) {
+                result = new StatusTransitionResultDTO(projectId, currentStatus, newStatus, StatusTransitionOutcome.TRANSICAO_INVALIDA,
+                        "Transição de status inválida de '" + currentStatus.getDescription() +
+                                "' para '" + newStatus.getDescription() + "'.");
+            } else {
+                result = new StatusTransitionResultDTO(projectId, currentStatus, newStatus, StatusTransitionOutcome.ATUALIZADO, null);
+                acceptedById.put(projectId, result);
+                idsByTransition.computeIfAbsent(currentStatus, key -> new EnumMap<>(ProjectStatus.class))
+                        .computeIfAbsent(newStatus, key -> new ArrayList<>())
+                        .add(projectId);
+            }
+            results.add(result);
         }
 
-        project.setStatus(newStatus);
-        if (newStatus == ProjectStatus.ENCERRADO && project.getActualEndDate() == null) {
-            project.setActualEndDate(LocalDate.now());
-        }
+        // Aplica cada grupo de transições com um único UPDATE, restrito aos projetos bloqueados ainda no status lido
+        LocalDateTime changedAt = LocalDateTime.now();
+        LocalDate today = changedAt.toLocalDate();
+        idsByTransition.forEach((currentStatus, idsByNewStatus) -> idsByNewStatus.forEach((newStatus, ids) -> {
+            List<Long> appliedIds = projectRepository.lockIdsByIdInAndStatus(ids, currentStatus.name());
+            if (!appliedIds.isEmpty()) {
+                if (newStatus == ProjectStatus.ENCERRADO) {
+                    projectRepository.updateStatusAndEndDateByIdIn(appliedIds, currentStatus, newStatus, today, changedAt);
+                } else {
+                    projectRepository.updateStatusByIdIn(appliedIds, currentStatus, newStatus, changedAt);
+                }
+            }
+            if (appliedIds.size() < ids.size()) {
+                markConcurrentlyChangedProjects(ids, appliedIds, acceptedById);
+            }
+        }));
 
-        project = projectRepository.save(project);
-        return mapProjectToResponseDTO(project);
+        // Registra no histórico e no outbox apenas as transições efetivamente aplicadas (inserts agrupados em batch)
+        List<StatusTransitionResultDTO> applied = acceptedById.values().stream()
+                .filter(result -> result.getOutcome() == StatusTransitionOutcome.ATUALIZADO)
+                .collect(Collectors.toList());
+        statusHistoryRepository.saveAll(applied.stream()
+                .map(result -> new ProjectStatusHistory(result.getProjectId(), result.getPreviousStatus(), result.getNewStatus(), changedAt))
+                .collect(Collectors.toList()));
+        outboxEventRepository.saveAll(applied.stream()
+                .map(result -> new OutboxEvent(DomainEventType.STATUS_ALTERADO, result.getProjectId(), managerIdById.get(result.getProjectId()),
+                        statusChangePayload(result.getPreviousStatus(), result.getNewStatus()), changedAt))
+                .collect(Collectors.toList()));
+
+        return new BulkStatusUpdateResultDTO(results);
     }
 
     @Override
@@ -167,42 +320,134 @@ public class ProjectService implements IProjectService {
         if (project.getStatus() == ProjectStatus.EM_ANDAMENTO || project.getStatus() == ProjectStatus.ENCERRADO || project.getStatus() == ProjectStatus.PLANEJADO) {
             throw new ProjectDeletionException("Não é possível excluir o projeto com o status '" + project.getStatus().getDescription() + "'.");
         }
+        // Registra a exclusão do projeto e das alocações removidas em cascata para a consulta incremental
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<ChangeTombstone> tombstones = new ArrayList<>();
+        tombstones.add(new ChangeTombstone(ChangeEntityType.PROJETO, project.getId(), project.getId(), deletedAt));
+        project.getAllocations().forEach(allocation -> tombstones.add(
+                new ChangeTombstone(ChangeEntityType.ALOCACAO, allocation.getId(), project.getId(), deletedAt)));
         projectRepository.delete(project);
+        changeTombstoneRepository.saveAll(tombstones);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("name", project.getName());
+        payload.put("status", project.getStatus().name());
+        outboxEventRepository.save(newEvent(DomainEventType.PROJETO_EXCLUIDO, project, payload));
     }
 
+    // Sem @Transactional pelo mesmo motivo de createProject: o cargo dos membros é validado na API de membros antes
+    // da transação, que apenas confere as alocações existentes e grava as novas
     @Override
-    @Transactional
     public ProjectResponseDTO allocateMembersToProject(Long projectId, List<Long> memberIds) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + projectId));
-
         if (memberIds == null || memberIds.isEmpty() || memberIds.size() > 10) {
             throw new MemberAllocationException("Deve alocar entre 1 e 10 membros por vez.");
         }
 
         for (Long memberId : memberIds) {
             MemberDTO member = getMemberFromExternalApi(memberId);
-            if (!"funcionário".equalsIgnoreCase(member.getRole())) {
+            if (!ALLOCATABLE_ROLE.equalsIgnoreCase(member.getRole())) {
                 throw new MemberAllocationException("Membro com ID " + memberId + " não é um funcionário e não pode ser alocado.");
             }
+        }
 
-            if (allocationRepository.existsByProjectIdAndMemberId(projectId, memberId)) {
-                throw new MemberAllocationException("Membro com ID " + memberId + " já está alocado neste projeto.");
-            }
+        ProjectResponseDTO responseDTO = transactionTemplate.execute(status -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + projectId));
+
+            for (Long memberId : memberIds) {
+                if (allocationRepository.existsByProjectIdAndMemberId(projectId, memberId)) {
+                    throw new MemberAllocationException("Membro com ID " + memberId + " já está alocado neste projeto.");
+                }
+
+                long activeProjectsCount = projectRepository.countProjectsByAllocatedMemberAndStatusNotIn(memberId, INACTIVE_STATUSES);
 
-            List<ProjectStatus> excludedStatuses = List.of(ProjectStatus.ENCERRADO, ProjectStatus.CANCELADO);
-            long activeProjectsCount = projectRepository.findProjectsByAllocatedMemberAndStatusNotIn(memberId, excludedStatuses).size();
+                if (activeProjectsCount >= MAX_ACTIVE_PROJECTS_PER_MEMBER) {
+                    throw new MemberAllocationException("Membro com ID " + memberId + " já está alocado em 3 projetos em andamento/planejado/iniciado.");
+                }
 
-            if (activeProjectsCount >= 3) {
-                throw new MemberAllocationException("Membro com ID " + memberId + " já está alocado em 3 projetos em andamento/planejado/iniciado.");
+                Allocation allocation = new Allocation(project, memberId);
+                project.addAllocation(allocation);
             }
 
-            Allocation allocation = new Allocation(project, memberId);
-            project.addAllocation(allocation);
+            Project updatedProject = projectRepository.save(project);
+            outboxEventRepository.saveAll(memberIds.stream()
+                    .map(memberId -> newEvent(DomainEventType.MEMBRO_ALOCADO, project, Map.of("memberId", memberId)))
+                    .collect(Collectors.toList()));
+            return toResponseDTO(updatedProject);
+        });
+        enrichResponseDTOs(List.of(responseDTO));
+        return responseDTO;
+    }
+
+    // Sem @Transactional: os membros são buscados em lote na API de membros antes da transação
+    @Override
+    public BulkAllocationResultDTO allocateMembersInBulk(List<AllocationPairDTO> pairs) {
+        if (pairs == null || pairs.isEmpty()) {
+            throw new MemberAllocationException("Deve informar ao menos um par projeto/membro para alocação.");
         }
 
-        Project updatedProject = projectRepository.save(project);
-        return mapProjectToResponseDTO(updatedProject);
+        Set<Long> projectIds = pairs.stream().map(AllocationPairDTO::getProjectId).collect(Collectors.toSet());
+        Set<Long> memberIds = pairs.stream().map(AllocationPairDTO::getMemberId).collect(Collectors.toSet());
+
+        Map<Long, MemberDTO> membersById = getMembersFromExternalApi(memberIds).stream()
+                .collect(Collectors.toMap(MemberDTO::getId, Function.identity(), (first, second) -> first));
+
+        return transactionTemplate.execute(status -> {
+            // Carrega projetos, alocações existentes e contagem de projetos ativos com consultas em conjunto
+            Map<Long, Project> projectsById = projectRepository.findAllById(projectIds).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+            Map<Long, Set<Long>> allocatedMembersByProject = new HashMap<>();
+            allocationRepository.findPairsByProjectIdsAndMemberIds(projectIds, memberIds)
+                    .forEach(pair -> allocatedMembersByProject
+                            .computeIfAbsent(pair.getProjectId(), key -> new HashSet<>())
+                            .add(pair.getMemberId()));
+
+            Map<Long, Long> activeProjectsByMember = new HashMap<>();
+            allocationRepository.countProjectsByMemberIdsAndStatusNotIn(memberIds, INACTIVE_STATUSES)
+                    .forEach(count -> activeProjectsByMember.put(count.getMemberId(), count.getProjectCount()));
+
+            // Valida cada par em memória, considerando também as alocações aceitas anteriormente no mesmo lote
+            List<Allocation> newAllocations = new ArrayList<>();
+            List<AllocationPairResultDTO> results = new ArrayList<>(pairs.size());
+            for (AllocationPairDTO pair : pairs) {
+                Long projectId = pair.getProjectId();
+                Long memberId = pair.getMemberId();
+                Project project = projectsById.get(projectId);
+                MemberDTO member = membersById.get(memberId);
+                Set<Long> allocatedMembers = allocatedMembersByProject.computeIfAbsent(projectId, key -> new HashSet<>());
+                long activeProjectsCount = activeProjectsByMember.getOrDefault(memberId, 0L);
+
+                if (project == null) {
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.PROJETO_NAO_ENCONTRADO,
+                            "Projeto não encontrado com ID: " + projectId));
+                } else if (member == null) {
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.MEMBRO_NAO_ENCONTRADO,
+                            "Membro com ID " + memberId + " não encontrado na API externa."));
+                } else if (!ALLOCATABLE_ROLE.equalsIgnoreCase(member.getRole())) {
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.CARGO_INVALIDO,
+                            "Membro com ID " + memberId + " não é um funcionário e não pode ser alocado."));
+                } else if (allocatedMembers.contains(memberId)) {
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.JA_ALOCADO,
+                            "Membro com ID " + memberId + " já está alocado neste projeto."));
+                } else if (activeProjectsCount >= MAX_ACTIVE_PROJECTS_PER_MEMBER) {
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.LIMITE_PROJETOS_ATINGIDO,
+                            "Membro com ID " + memberId + " já está alocado em 3 projetos em andamento/planejado/iniciado."));
+                } else {
+                    allocatedMembers.add(memberId);
+                    if (!INACTIVE_STATUSES.contains(project.getStatus())) {
+                        activeProjectsByMember.put(memberId, activeProjectsCount + 1);
+                    }
+                    newAllocations.add(new Allocation(project, memberId));
+                    results.add(new AllocationPairResultDTO(projectId, memberId, AllocationOutcome.ALOCADO, null));
+                }
+            }
+
+            allocationRepository.batchInsert(newAllocations);
+            outboxEventRepository.saveAll(newAllocations.stream()
+                    .map(allocation -> newEvent(DomainEventType.MEMBRO_ALOCADO, allocation.getProject(), Map.of("memberId", allocation.getMemberId())))
+                    .collect(Collectors.toList()));
+            return new BulkAllocationResultDTO(results);
+        });
     }
 
     @Override
@@ -221,27 +466,34 @@ public class ProjectService implements IProjectService {
 
         project.removeAllocation(allocationToRemove.get());
         projectRepository.save(project);
+        changeTombstoneRepository.save(new ChangeTombstone(ChangeEntityType.ALOCACAO, allocationToRemove.get().getId(),
+                projectId, LocalDateTime.now()));
+        outboxEventRepository.save(newEvent(DomainEventType.MEMBRO_DESALOCADO, project, Map.of("memberId", memberId)));
     }
 
+    // Sem @Transactional pelo mesmo motivo de getProjectById
     @Override
-    @Transactional(readOnly = true)
     public List<MemberAllocationDTO> getAllocatedMembers(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + projectId));
-
-        return project.getAllocations().stream()
-                .map(allocation -> {
-                    MemberAllocationDTO dto = allocationMapper.toDto(allocation);
-                    try {
-                        MemberDTO member = memberApiClient.getMemberById(allocation.getMemberId());
-                        dto.setMemberName(member.getName());
-                    } catch (Exception e) {
-                        System.err.println("Erro ao buscar nome do membro " + allocation.getMemberId() + ": " + e.getMessage());
-                        dto.setMemberName("[Nome indisponível]");
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        List<MemberAllocationDTO> members = readOnlyTransactionTemplate.execute(status -> projectRepository.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Projeto não encontrado com ID: " + projectId))
+                .getAllocations().stream()
+                .map(allocationMapper::toDto)
+                .collect(Collectors.toList()));
+
+        if (memberEnricher.isEnabled()) {
+            memberEnricher.enrichMembers(members);
+            return members;
+        }
+        members.forEach(dto -> {
+            try {
+                MemberDTO member = memberApiClient.getMemberById(dto.getMemberId());
+                dto.setMemberName(member.getName());
+            } catch (Exception e) {
+                LOG.warn(e, "Erro ao buscar nome do membro {}: {}", dto.getMemberId(), e.getMessage());
+                dto.setMemberName("[Nome indisponível]");
+            }
+        });
+        return members;
     }
 
     @Override
@@ -252,53 +504,204 @@ public class ProjectService implements IProjectService {
 
         long monthsDuration = ChronoUnit.MONTHS.between(startDate, forecastEndDate);
 
-        if (budget.compareTo(new BigDecimal("100000")) <= 0 && monthsDuration <= 3) {
+        if (budget.compareTo(RiskLevel.LOW_RISK_MAX_BUDGET) <= 0 && monthsDuration <= RiskLevel.LOW_RISK_MAX_MONTHS) {
             return RiskLevel.BAIXO_RISCO;
-        } else if ((budget.compareTo(new BigDecimal("100000")) > 0 && budget.compareTo(new BigDecimal("500000")) <= 0) ||
-                (monthsDuration > 3 && monthsDuration <= 6)) {
+        } else if ((budget.compareTo(RiskLevel.LOW_RISK_MAX_BUDGET) > 0 && budget.compareTo(RiskLevel.MEDIUM_RISK_MAX_BUDGET) <= 0) ||
+                (monthsDuration > RiskLevel.LOW_RISK_MAX_MONTHS && monthsDuration <= RiskLevel.MEDIUM_RISK_MAX_MONTHS)) {
             return RiskLevel.MEDIO_RISCO;
-        } else if (budget.compareTo(new BigDecimal("500000")) > 0 || monthsDuration > 6) {
+        } else if (budget.compareTo(RiskLevel.MEDIUM_RISK_MAX_BUDGET) > 0 || monthsDuration > RiskLevel.MEDIUM_RISK_MAX_MONTHS) {
             return RiskLevel.ALTO_RISCO;
         }
         return RiskLevel.BAIXO_RISCO;
     }
 
     /**
-     * Método auxiliar para mapear uma entidade Project para ProjectResponseDTO
-     * e preencher dados adicionais como nome do gerente e membros alocados,
-     * e calcular o nível de risco.
+     * Mapeia um projeto para o DTO de resposta, com as alocações e o nível de risco, sem os nomes da API de membros.
+     * Deve ser chamado com o projeto ainda na transação, já que as alocações podem ser carregadas sob demanda.
      * @param project Entidade Project.
-     * @return DTO de resposta completo.
+     * @return DTO de resposta, a ser enriquecido por {@link #enrichResponseDTOs(List)}.
      */
-    private ProjectResponseDTO mapProjectToResponseDTO(Project project) {
+    private ProjectResponseDTO toResponseDTO(Project project) {
         ProjectResponseDTO responseDTO = projectMapper.toResponseDto(project);
+        responseDTO.setAllocatedMembers(project.getAllocations().stream()
+                .map(allocationMapper::toDto)
+                .collect(Collectors.toList()));
+        responseDTO.setRiskLevel(calculateRiskLevel(project.getTotalBudget(), project.getStartDate(), project.getForecastEndDate()));
+        return responseDTO;
+    }
 
-        try {
-            MemberDTO manager = memberApiClient.getMemberById(project.getManagerId());
-            responseDTO.setManagerName(manager.getName());
-        } catch (Exception e) {
-            System.err.println("Erro ao buscar nome do gerente " + project.getManagerId() + ": " + e.getMessage());
-            responseDTO.setManagerName("[Nome indisponível]");
+    private List<ProjectResponseDTO> toResponseDTOs(List<Project> projects) {
+        return projects.stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Preenche os nomes do gerente e dos membros alocados na API de membros.
+     * Com o enriquecimento assíncrono ativo, os nomes de todos os gerentes e membros da lista
+     * são buscados juntos, dentro de um único orçamento de tempo.
+     * @param responseDTOs DTOs já mapeados, com os IDs do gerente e dos membros.
+     */
+    private void enrichResponseDTOs(List<ProjectResponseDTO> responseDTOs) {
+        if (memberEnricher.isEnabled()) {
+            memberEnricher.enrichProjects(responseDTOs);
+            return;
         }
+        for (ProjectResponseDTO responseDTO : responseDTOs) {
+            try {
+                MemberDTO manager = memberApiClient.getMemberById(responseDTO.getManagerId());
+                responseDTO.setManagerName(manager.getName());
+            } catch (Exception e) {
+                LOG.warn(e, "Erro ao buscar nome do gerente {}: {}", responseDTO.getManagerId(), e.getMessage());
+                responseDTO.setManagerName("[Nome indisponível]");
+            }
+            for (MemberAllocationDTO memberDto : responseDTO.getAllocatedMembers()) {
+                try {
+                    MemberDTO member = memberApiClient.getMemberById(memberDto.getMemberId());
+                    memberDto.setMemberName(member.getName());
+                } catch (Exception e) {
+                    LOG.warn(e, "Erro ao buscar nome do membro alocado {}: {}", memberDto.getMemberId(), e.getMessage());
+                    memberDto.setMemberName("[Nome indisponível]");
+                }
+            }
+        }
+    }
 
-        List<MemberAllocationDTO> allocatedMembers = project.getAllocations().stream()
-                .map(allocation -> {
-                    MemberAllocationDTO memberDto = allocationMapper.toDto(allocation);
-                    try {
-                        MemberDTO member = memberApiClient.getMemberById(allocation.getMemberId());
-                        memberDto.setMemberName(member.getName());
-                    } catch (Exception e) {
-                        System.err.println("Erro ao buscar nome do membro alocado " + allocation.getMemberId() + ": " + e.getMessage());
-                        memberDto.setMemberName("[Nome indisponível]");
-                    }
-                    return memberDto;
-                })
+    /**
+     * Lista projetos ativos e arquivados: a página de IDs é obtida em SQL sobre as duas tabelas
+     * e as entidades são carregadas de cada tabela, mantendo a ordem da página.
+     * @param filter Os filtros já validados.
+     * @param pageable Paginação e ordenação.
+     * @return A página de projetos, com os arquivados marcados e ainda sem os nomes da API de membros.
+     */
+    private Page<ProjectResponseDTO> getProjectsIncludingArchived(ProjectFilter filter, Pageable pageable) {
+        Page<Long> idPage = projectRepository.findIdsIncludingArchived(filter, pageable);
+        Map<Long, Project> byId = new HashMap<>();
+        projectRepository.findAllById(idPage.getContent())
+                .forEach(project -> byId.put(project.getId(), project));
+        List<Long> archivedIds = idPage.getContent().stream().filter(id -> !byId.containsKey(id)).toList();
+        if (!archivedIds.isEmpty()) {
+            projectArchiveRepository.findWithMemberIdsByIdIn(archivedIds)
+                    .forEach(archived -> byId.put(archived.getId(), projectMapper.fromArchive(archived)));
+        }
+        // Projetos removidos entre a consulta de IDs e a carga das entidades são omitidos da página
+        List<Project> projects = idPage.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        responseDTO.setAllocatedMembers(allocatedMembers);
+        List<ProjectResponseDTO> dtoList = toResponseDTOs(projects);
+        dtoList.forEach(dto -> dto.setArchived(archivedIds.contains(dto.getId())));
+        return new PageImpl<>(dtoList, pageable, idPage.getTotalElements());
+    }
 
-        responseDTO.setRiskLevel(calculateRiskLevel(project.getTotalBudget(), project.getStartDate(), project.getForecastEndDate()));
+    /**
+     * Marca como conflito as transições que o UPDATE não aplicou, porque o projeto foi alterado
+     * (inclusive para o mesmo status de destino) ou removido por outra operação entre a leitura e a escrita.
+     * @param ids IDs dos projetos do grupo de transição.
+     * @param appliedIds IDs efetivamente atualizados por esta operação.
+     * @param acceptedById Resultados das transições aceitas, indexados pelo ID do projeto.
+     */
+    private void markConcurrentlyChangedProjects(List<Long> ids, List<Long> appliedIds,
+                                                 Map<Long, StatusTransitionResultDTO> acceptedById) {
+        Set<Long> applied = new HashSet<>(appliedIds);
+        ids.stream()
+                .filter(id -> !applied.contains(id))
+                .forEach(id -> {
+                    StatusTransitionResultDTO result = acceptedById.get(id);
+                    result.setOutcome(StatusTransitionOutcome.CONFLITO);
+                    result.setMessage("O projeto com ID " + id + " foi alterado ou removido por outra operação.");
+                });
+    }
 
-        return responseDTO;
+    /**
+     * Cria o evento de domínio de um projeto para o outbox, gravado na transação corrente.
+     * @param type O tipo do evento.
+     * @param project O projeto afetado.
+     * @param payload Os dados específicos do evento.
+     * @return O evento a ser salvo.
+     */
+    private static OutboxEvent newEvent(DomainEventType type, Project project, Map<String, Object> payload) {
+        return new OutboxEvent(type, project.getId(), project.getManagerId(), payload, LocalDateTime.now());
+    }
+
+    private static Map<String, Object> statusChangePayload(ProjectStatus previousStatus, ProjectStatus newStatus) {
+        return Map.of("previousStatus", previousStatus.name(), "newStatus", newStatus.name());
+    }
+
+    /**
+     * Valida os filtros da listagem e os converte para os tipos do domínio.
+     * Valores repetidos são descartados; cada filtro de múltiplos valores vira um único IN na consulta.
+     * @param dto Os filtros recebidos na requisição (pode ser nulo).
+     * @return Os filtros convertidos.
+     * @throws InvalidStatusTransitionException Se algum status for inválido.
+     * @throws InvalidFilterException Se algum nível de risco ou intervalo for inválido.
+     */
+    private ProjectFilter resolveFilter(ProjectFilterDTO dto) {
+        ProjectFilter filter = new ProjectFilter();
+        if (dto == null) {
+            return filter;
+        }
+        filter.setName(dto.getName());
+        filter.setStatuses(resolveAll(dto.getStatus(), this::resolveStatus, ProjectStatus.class));
+        if (dto.getManagerId() != null) {
+            filter.setManagerIds(dto.getManagerId().stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+        }
+        validateRange("data de início", dto.getStartDateFrom(), dto.getStartDateTo());
+        filter.setStartDateFrom(dto.getStartDateFrom());
+        filter.setStartDateTo(dto.getStartDateTo());
+        validateRange("data prevista de término", dto.getForecastEndDateFrom(), dto.getForecastEndDateTo());
+        filter.setForecastEndDateFrom(dto.getForecastEndDateFrom());
+        filter.setForecastEndDateTo(dto.getForecastEndDateTo());
+        validateRange("orçamento", dto.getMinBudget(), dto.getMaxBudget());
+        filter.setMinBudget(dto.getMinBudget());
+        filter.setMaxBudget(dto.getMaxBudget());
+        filter.setRiskLevels(resolveAll(dto.getRiskLevel(), value -> {
+            RiskLevel level = RiskLevel.resolve(value);
+            if (level == null) {
+                throw new InvalidFilterException("Nível de risco inválido: " + value);
+            }
+            return level;
+        }, RiskLevel.class));
+        filter.setIncludeArchived(dto.isIncludeArchived());
+        return filter;
+    }
+
+    private static <E extends Enum<E>> Set<E> resolveAll(List<String> values, Function<String, E> resolver, Class<E> type) {
+        Set<E> resolved = EnumSet.noneOf(type);
+        if (values != null) {
+            // O Spring só separa por vírgulas quando o parâmetro não é repetido (status=A,B mas não status=A&status=B,C)
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                for (String item : value.split(",")) {
+                    if (!item.isBlank()) {
+                        resolved.add(resolver.apply(item.trim()));
+                    }
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private static <T extends Comparable<? super T>> void validateRange(String field, T from, T to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new InvalidFilterException("Intervalo de " + field + " inválido: o início é maior que o fim.");
+        }
+    }
+
+    /**
+     * Converte o texto de um status (código ou descrição) para o enum {@link ProjectStatus}.
+     * @param status Texto do status.
+     * @return O status correspondente.
+     * @throws InvalidStatusTransitionException Se o texto não corresponder a nenhum status.
+     */
+    private ProjectStatus resolveStatus(String status) {
+        ProjectStatus resolved = ProjectStatus.resolve(status);
+        if (resolved == null) {
+            throw new InvalidStatusTransitionException("Status inválido: " + status);
+        }
+        return resolved;
     }
 
     /**
@@ -321,5 +724,19 @@ public class ProjectService implements IProjectService {
         }
     }
 
+    /**
+     * Busca vários membros na API externa com uma única chamada em lote.
+     * @param memberIds IDs dos membros.
+     * @return Os membros encontrados; IDs inexistentes são omitidos.
+     * @throws ExternalApiException Se a API externa estiver indisponível.
+     */
+    private List<MemberDTO> getMembersFromExternalApi(Set<Long> memberIds) {
+        try {
+            return memberApiClient.getMembersByIds(memberIds);
+        } catch (Exception e) {
+            throw new ExternalApiException("Erro ao buscar membros em lote na API externa.", e);
+        }
+    }
+
 
 }
\ No newline at end of file
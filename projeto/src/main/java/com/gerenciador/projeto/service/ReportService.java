@@ -1,14 +1,32 @@
 package com.gerenciador.projeto.service;
 
 import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
 import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
+import com.gerenciador.projeto.dto.StatusThroughputDTO;
 import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.CountMode;
 import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
+import com.gerenciador.projeto.mapper.ProjectMapper;
+import com.gerenciador.projeto.repository.MemberCardinalityRepository;
+import com.gerenciador.projeto.repository.PortfolioSnapshotRepository;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
 import com.gerenciador.projeto.repository.ProjectRepository;
+import com.gerenciador.projeto.repository.ProjectStatusHistoryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,14 +37,25 @@ import java.util.stream.Collectors;
  * um resumo estatístico do portfólio de projetos.
  */
 @Service
+@Timed(value = "projeto.service", histogram = true) // Timer por método público (tags class, method e exception)
 public class ReportService implements IReportService {
 
     private final ProjectRepository projectRepository;
     private final MemberApiClient memberApiClient;
+    private final ProjectStatusHistoryRepository statusHistoryRepository;
+    private final PortfolioSnapshotRepository snapshotRepository;
+    private final ProjectArchiveRepository archiveRepository;
+    private final ProjectMapper projectMapper;
 
-    public ReportService(ProjectRepository projectRepository, MemberApiClient memberApiClient) {
+    public ReportService(ProjectRepository projectRepository, MemberApiClient memberApiClient,
+                         ProjectStatusHistoryRepository statusHistoryRepository, PortfolioSnapshotRepository snapshotRepository,
+                         ProjectArchiveRepository archiveRepository, ProjectMapper projectMapper) {
         this.projectRepository = projectRepository;
         this.memberApiClient = memberApiClient;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.archiveRepository = archiveRepository;
+        this.projectMapper = projectMapper;
     }
 
     /**
@@ -36,12 +65,17 @@ public class ReportService implements IReportService {
      * - Total orçado por status.
      * - Média de duração dos projetos encerrados.
      * - Total de membros únicos alocados em projetos ativos.
+     * @param uniqueMembersMode Contagem exata ou aproximada (HyperLogLog) dos membros únicos.
+     * @param includeArchived Se os projetos arquivados entram no resumo.
      * @return DTO com o resumo do portfólio.
      */
     @Override
     @Transactional(readOnly = true)
-    public PortfolioSummaryDTO generatePortfolioSummary() {
-        List<Project> allProjects = projectRepository.findAll();
+    public PortfolioSummaryDTO generatePortfolioSummary(CountMode uniqueMembersMode, boolean includeArchived) {
+        List<Project> allProjects = new ArrayList<>(projectRepository.findAll());
+        if (includeArchived) {
+            archiveRepository.findAllWithMemberIdsBy().forEach(archived -> allProjects.add(projectMapper.fromArchive(archived)));
+        }
         PortfolioSummaryDTO summary = new PortfolioSummaryDTO();
 
         // 1. Quantidade de projetos por status
@@ -68,18 +102,120 @@ public class ReportService implements IReportService {
         summary.setAverageDurationOfFinishedProjects(averageDuration);
 
         // 4. Total de membros únicos alocados
-        // Primeiro, coleta todos os IDs de membros alocados em projetos
-        Set<Long> uniqueMemberIds = allProjects.stream()
-                .flatMap(project -> project.getAllocations().stream())
-                .map(allocation -> allocation.getMemberId())
-                .collect(Collectors.toSet());
-
-        // Agora, tenta buscar os detalhes desses membros para garantir que são "funcionários"
-        // Ou simplesmente conta os IDs únicos se a validação já for feita na alocação
-        // Para este relatório, vamos considerar apenas os IDs alocados, sem revalidar o cargo.
-        summary.setTotalUniqueMembersAllocated((long) uniqueMemberIds.size());
+        summary.setUniqueMembersCountMode(uniqueMembersMode);
+        if (uniqueMembersMode == CountMode.APROXIMADA) {
+            // Estimativa HyperLogLog calculada no banco, sem montar o conjunto de IDs em memória
+            summary.setTotalUniqueMembersAllocated(projectRepository.estimateDistinctAllocatedMembers(includeArchived));
+            summary.setUniqueMembersStandardError(MemberCardinalityRepository.STANDARD_ERROR);
+        } else {
+            // Conta os IDs alocados, sem revalidar o cargo dos membros
+            Set<Long> uniqueMemberIds = allProjects.stream()
+                    .flatMap(project -> project.getAllocations().stream())
+                    .map(allocation -> allocation.getMemberId())
+                    .collect(Collectors.toSet());
+            summary.setTotalUniqueMembersAllocated((long) uniqueMemberIds.size());
+            summary.setUniqueMembersStandardError(0.0);
+        }
 
         return summary;
     }
 
+    /**
+     * Calcula o tempo que os projetos permanecem em cada status, a partir do histórico de transições.
+     * A agregação (média e percentis) é feita no banco.
+     * @param from Data inicial (inclusiva) das entradas em status consideradas.
+     * @param to Data final (inclusiva) das entradas em status consideradas.
+     * @return Estatísticas de tempo em dias por status.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusDurationStatsDTO> getTimeInStatusStatistics(LocalDate from, LocalDate to) {
+        return statusHistoryRepository.findTimeInStatusStatistics(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Calcula a vazão semanal de projetos por status, a partir do histórico de transições.
+     * @param from Data inicial (inclusiva) do período.
+     * @param to Data final (inclusiva) do período.
+     * @return Quantidade de entradas por semana e status.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusThroughputDTO> getWeeklyStatusThroughput(LocalDate from, LocalDate to) {
+        return statusHistoryRepository.findWeeklyThroughput(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Resume a carteira de cada gerente (projetos, orçamento e membros alocados), com agregação e paginação no banco.
+     * @param pageable Paginação e ordenação.
+     * @param includeArchived Se os projetos arquivados entram no resumo.
+     * @return A página de resumos por gerente.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ManagerPortfolioDTO> getManagerPortfolios(Pageable pageable, boolean includeArchived) {
+        return projectRepository.findManagerPortfolios(pageable, includeArchived);
+    }
+
+    /**
+     * Resume a carteira de um gerente.
+     * @param managerId O ID do gerente.
+     * @param includeArchived Se os projetos arquivados entram no resumo.
+     * @return O resumo da carteira do gerente.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ManagerPortfolioDTO getManagerPortfolio(Long managerId, boolean includeArchived) {
+        return projectRepository.findManagerPortfolio(managerId, includeArchived);
+    }
+
+    /**
+     * Resume as alocações de cada membro (projetos, alocações ativas e orçamento), com agregação e paginação no banco.
+     * @param pageable Paginação e ordenação.
+     * @param includeArchived Se os projetos arquivados entram no resumo.
+     * @return A página de resumos por membro.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MemberPortfolioDTO> getMemberPortfolios(Pageable pageable, boolean includeArchived) {
+        return projectRepository.findMemberPortfolios(pageable, includeArchived);
+    }
+
+    /**
+     * Resume as alocações de um membro.
+     * @param memberId O ID do membro.
+     * @param includeArchived Se os projetos arquivados entram no resumo.
+     * @return O resumo das alocações do membro.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MemberPortfolioDTO getMemberPortfolio(Long memberId, boolean includeArchived) {
+        return projectRepository.findMemberPortfolio(memberId, includeArchived);
+    }
+
+    /**
+     * Grava o snapshot do portfólio do dia atual, substituindo o snapshot do dia se já existir.
+     * Chamado diariamente por {@link PortfolioSnapshotScheduler} e disponível sob demanda.
+     * @return O snapshot gravado.
+     */
+    @Override
+    @Transactional
+    public PortfolioSnapshotDTO capturePortfolioSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        snapshotRepository.saveSnapshot(now.toLocalDate(), now);
+        return snapshotRepository.findTrend(now.toLocalDate(), now.toLocalDate(), SnapshotGranularity.DIARIA).get(0);
+    }
+
+    /**
+     * Lê a evolução do portfólio a partir dos snapshots diários, sem consultar os projetos.
+     * @param from Data inicial (inclusiva).
+     * @param to Data final (inclusiva).
+     * @param granularity Granularidade da série.
+     * @return Os snapshots do período, em ordem cronológica.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioSnapshotDTO> getPortfolioTrend(LocalDate from, LocalDate to, SnapshotGranularity granularity) {
+        return snapshotRepository.findTrend(from, to, granularity);
+    }
 }
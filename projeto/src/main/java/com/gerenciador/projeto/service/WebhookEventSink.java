@@ -0,0 +1,33 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.client.EventWebhookClient;
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino webhook: envia cada lote em um único POST para app.outbox.sinks.webhook.url.
+ * Falhas propagam para o relay, que mantém o lote pendente e o reenvia na próxima execução.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.webhook.enabled", havingValue = "true")
+public class WebhookEventSink implements DomainEventSink {
+
+    private final EventWebhookClient webhookClient;
+
+    public WebhookEventSink(EventWebhookClient webhookClient) {
+        this.webhookClient = webhookClient;
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<DomainEventDTO> events) {
+        webhookClient.publish(events);
+    }
+}
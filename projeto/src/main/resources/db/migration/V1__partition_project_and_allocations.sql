@@ -0,0 +1,146 @@
+-- Particiona 'project' por faixas anuais de start_date e 'allocations' por hash de project_id.
+-- As demais tabelas continuam sendo criadas pelo Hibernate (ddl-auto: update), que roda depois das migrações.
+-- Em bancos já criados pelo Hibernate, as tabelas existentes são convertidas: os dados são copiados para as
+-- tabelas particionadas e as originais são removidas, tudo na transação da migração.
+
+-- 1. Tabelas não particionadas existentes saem do caminho, liberando os nomes de sequências, índices e constraints
+DO $$
+BEGIN
+    IF to_regclass('public.allocations') IS NOT NULL THEN
+        ALTER TABLE allocations RENAME TO allocations_unpartitioned;
+        ALTER TABLE allocations_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        ALTER TABLE allocations_unpartitioned DROP CONSTRAINT IF EXISTS allocations_pkey;
+        DROP INDEX IF EXISTS idx_allocations_project_member;
+        DROP INDEX IF EXISTS idx_allocations_member_project;
+    END IF;
+    IF to_regclass('public.project') IS NOT NULL THEN
+        ALTER TABLE project RENAME TO project_unpartitioned;
+        ALTER TABLE project_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        -- CASCADE remove também a chave estrangeira de allocations_unpartitioned
+        ALTER TABLE project_unpartitioned DROP CONSTRAINT IF EXISTS project_pkey CASCADE;
+        DROP INDEX IF EXISTS idx_project_status_start_date;
+        DROP INDEX IF EXISTS idx_project_manager_status;
+        DROP INDEX IF EXISTS idx_project_forecast_end_date;
+        DROP INDEX IF EXISTS idx_project_total_budget;
+    END IF;
+END $$;
+
+-- 2. Projetos: partição por ano de início e uma partição padrão para datas fora das faixas criadas.
+-- A chave primária precisa conter a chave de partição; o ID continua único por vir de uma sequência.
+-- O PostgreSQL 16 não aceita colunas IDENTITY em tabelas particionadas, por isso o ID usa DEFAULT nextval,
+-- compatível com GenerationType.IDENTITY.
+CREATE SEQUENCE project_id_seq;
+
+CREATE TABLE project (
+    id                bigint        NOT NULL DEFAULT nextval('project_id_seq'),
+    name              varchar(200)  NOT NULL,
+    start_date        date          NOT NULL,
+    forecast_end_date date,
+    actual_end_date   date,
+    total_budget      numeric(19,2) NOT NULL,
+    description       varchar(500),
+    manager_id        bigint        NOT NULL,
+    status            varchar(50)   NOT NULL CHECK (status IN ('EM_ANALISE', 'ANALISE_REALIZADA', 'ANALISE_APROVADA', 'INICIADO',
+                                                               'PLANEJADO', 'EM_ANDAMENTO', 'ENCERRADO', 'CANCELADO')),
+    CONSTRAINT project_pkey PRIMARY KEY (id, start_date)
+) PARTITION BY RANGE (start_date);
+
+ALTER SEQUENCE project_id_seq OWNED BY project.id;
+
+CREATE TABLE project_default PARTITION OF project DEFAULT;
+
+-- Índices criados em cada partição (o Hibernate não enxerga índices de tabelas particionadas, por isso ficam aqui).
+-- Filtros de status (IN) combinados com intervalo de início, o caso mais comum da listagem
+CREATE INDEX idx_project_status_start_date ON project (status, start_date);
+-- Filtros de gerente (IN) combinados ou não com status
+CREATE INDEX idx_project_manager_status ON project (manager_id, status);
+CREATE INDEX idx_project_forecast_end_date ON project (forecast_end_date);
+CREATE INDEX idx_project_total_budget ON project (total_budget);
+
+-- Cria as partições anuais ausentes no intervalo informado. Linhas que caíram na partição padrão e pertencem
+-- a uma nova faixa são movidas para ela antes de anexá-la. Chamada pela aplicação periodicamente
+-- (ProjectPartitionScheduler) para manter partições criadas com antecedência.
+CREATE FUNCTION create_project_partitions(from_year integer, to_year integer) RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    created integer := 0;
+    partition_name text;
+    range_start date;
+    range_end date;
+BEGIN
+    FOR y IN from_year..to_year LOOP
+        partition_name := format('project_%s', y);
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+        range_start := make_date(y, 1, 1);
+        range_end := make_date(y + 1, 1, 1);
+        EXECUTE format('CREATE TABLE %I (LIKE project INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+        IF EXISTS (SELECT 1 FROM project_default WHERE start_date >= range_start AND start_date < range_end) THEN
+            -- Bloqueia apenas escritas na partição padrão até a nova faixa ser anexada
+            LOCK TABLE project_default IN EXCLUSIVE MODE;
+            EXECUTE format('WITH moved AS (DELETE FROM project_default WHERE start_date >= %L AND start_date < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM moved', range_start, range_end, partition_name);
+        END IF;
+        EXECUTE format('ALTER TABLE project ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, range_start, range_end);
+        created := created + 1;
+    END LOOP;
+    RETURN created;
+END $$;
+
+-- Faixas iniciais: dos dados existentes (limitado a 10 anos atrás) até 2 anos à frente
+DO $$
+DECLARE
+    current_year integer := CAST(extract(year FROM current_date) AS integer);
+    first_year integer;
+BEGIN
+    IF to_regclass('public.project_unpartitioned') IS NOT NULL THEN
+        EXECUTE 'SELECT CAST(extract(year FROM min(start_date)) AS integer) FROM project_unpartitioned' INTO first_year;
+    END IF;
+    PERFORM create_project_partitions(GREATEST(COALESCE(first_year, current_year), current_year - 10), current_year + 2);
+END $$;
+
+-- 3. Alocações: partição por hash do projeto, mantendo as alocações de um projeto na mesma partição.
+-- Sem chave estrangeira para 'project': uma FK para tabela particionada exigiria start_date em 'allocations';
+-- a integridade é mantida pela aplicação (cascade da entidade Project e arquivamento em um único comando).
+CREATE SEQUENCE allocations_id_seq;
+
+CREATE TABLE allocations (
+    id         bigint NOT NULL DEFAULT nextval('allocations_id_seq'),
+    project_id bigint NOT NULL,
+    member_id  bigint NOT NULL,
+    CONSTRAINT allocations_pkey PRIMARY KEY (id, project_id)
+) PARTITION BY HASH (project_id);
+
+ALTER SEQUENCE allocations_id_seq OWNED BY allocations.id;
+
+DO $$
+BEGIN
+    FOR r IN 0..7 LOOP
+        EXECUTE format('CREATE TABLE allocations_p%s PARTITION OF allocations FOR VALUES WITH (MODULUS 8, REMAINDER %s)', r, r);
+    END LOOP;
+END $$;
+
+-- Carga das alocações de um projeto e junções a partir do projeto
+CREATE INDEX idx_allocations_project_member ON allocations (project_id, member_id);
+-- Relatório por membro e regra de limite de projetos por membro
+CREATE INDEX idx_allocations_member_project ON allocations (member_id, project_id);
+
+-- 4. Cópia dos dados existentes e remoção das tabelas originais
+DO $$
+BEGIN
+    IF to_regclass('public.project_unpartitioned') IS NOT NULL THEN
+        INSERT INTO project (id, name, start_date, forecast_end_date, actual_end_date, total_budget, description, manager_id, status)
+        SELECT id, name, start_date, forecast_end_date, actual_end_date, total_budget, description, manager_id, status
+        FROM project_unpartitioned;
+        PERFORM setval('project_id_seq', COALESCE((SELECT max(id) FROM project), 0) + 1, false);
+    END IF;
+    IF to_regclass('public.allocations_unpartitioned') IS NOT NULL THEN
+        INSERT INTO allocations (id, project_id, member_id)
+        SELECT id, project_id, member_id FROM allocations_unpartitioned;
+        PERFORM setval('allocations_id_seq', COALESCE((SELECT max(id) FROM allocations), 0) + 1, false);
+        DROP TABLE allocations_unpartitioned;
+    END IF;
+    IF to_regclass('public.project_unpartitioned') IS NOT NULL THEN
+        DROP TABLE project_unpartitioned;
+    END IF;
+END $$;
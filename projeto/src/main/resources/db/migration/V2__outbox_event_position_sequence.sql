@@ -0,0 +1,4 @@
+-- Posição de publicação dos eventos do outbox (coluna outbox_event.position, criada pelo Hibernate).
+-- Atribuída pelo relay sob um lock consultivo, de modo que as posições são confirmadas em ordem crescente
+-- e servem de cursor para o stream de eventos (Last-Event-ID), ao contrário do ID, que segue a ordem de gravação.
+CREATE SEQUENCE IF NOT EXISTS outbox_event_position_seq;
@@ -0,0 +1,14 @@
+-- Colunas de auditoria usadas pela consulta incremental de alterações (GET /api/projetos/alteracoes).
+-- O valor padrão é estável (localtimestamp), então o PostgreSQL não reescreve as partições: as linhas existentes
+-- recebem o instante da migração e aparecem uma única vez na primeira sincronização.
+ALTER TABLE project
+    ADD COLUMN created_at timestamp(6) NOT NULL DEFAULT localtimestamp,
+    ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT localtimestamp;
+
+ALTER TABLE allocations
+    ADD COLUMN created_at timestamp(6) NOT NULL DEFAULT localtimestamp,
+    ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT localtimestamp;
+
+-- Leitura por faixa de (updated_at, id) a partir da marca d'água do cliente, em ordem e sem ordenação adicional
+CREATE INDEX idx_project_updated_at ON project (updated_at, id);
+CREATE INDEX idx_allocations_updated_at ON allocations (updated_at, id);
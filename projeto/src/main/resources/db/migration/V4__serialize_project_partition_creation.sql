@@ -0,0 +1,30 @@
+-- Serializa a criação de partições entre instâncias. Na V1, a verificação (to_regclass) e o CREATE TABLE eram passos
+-- separados: duas instâncias iniciando juntas podiam ver a partição ausente e a segunda falhava com duplicate_table.
+-- O lock consultivo de transação é liberado no commit, depois que a partição já está anexada e visível às demais.
+CREATE OR REPLACE FUNCTION create_project_partitions(from_year integer, to_year integer) RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    created integer := 0;
+    partition_name text;
+    range_start date;
+    range_end date;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_project_partitions'));
+    FOR y IN from_year..to_year LOOP
+        partition_name := format('project_%s', y);
+        CONTINUE WHEN to_regclass(partition_name) IS NOT NULL;
+        range_start := make_date(y, 1, 1);
+        range_end := make_date(y + 1, 1, 1);
+        EXECUTE format('CREATE TABLE %I (LIKE project INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+        IF EXISTS (SELECT 1 FROM project_default WHERE start_date >= range_start AND start_date < range_end) THEN
+            -- Bloqueia apenas escritas na partição padrão até a nova faixa ser anexada
+            LOCK TABLE project_default IN EXCLUSIVE MODE;
+            EXECUTE format('WITH moved AS (DELETE FROM project_default WHERE start_date >= %L AND start_date < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM moved', range_start, range_end, partition_name);
+        END IF;
+        EXECUTE format('ALTER TABLE project ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, range_start, range_end);
+        created := created + 1;
+    END LOOP;
+    RETURN created;
+END $$;
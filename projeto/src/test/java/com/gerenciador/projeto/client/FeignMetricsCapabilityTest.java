@@ -0,0 +1,98 @@
+package com.gerenciador.projeto.client;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para FeignMetricsCapability")
+class FeignMetricsCapabilityTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FeignMetricsCapability capability;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        capability = new FeignMetricsCapability(meterRegistry);
+
+        MethodMetadata metadata = mock(MethodMetadata.class);
+        when(metadata.configKey()).thenReturn("MemberApiClient#getMemberById(Long)");
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(MemberApiClient.class, "memberApiClient", "http://localhost:8081"));
+        template.methodMetadata(metadata);
+        request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/api/membros/1",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, template);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a latência da chamada com as tags de cliente, método, status e outcome")
+    void shouldRecordTimerForSuccessfulCall() throws IOException {
+        Client delegate = (req, options) -> Response.builder()
+                .status(200)
+                .request(req)
+                .headers(Collections.emptyMap())
+                .build();
+
+        Response response = capability.enrich(delegate).execute(request, new Request.Options());
+
+        assertEquals(200, response.status());
+        Timer timer = meterRegistry.find(FeignMetricsCapability.METRIC_NAME)
+                .tag("client", "memberApiClient")
+                .tag("method", "MemberApiClient#getMemberById(Long)")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar outcome CLIENT_ERROR quando a API externa retornar 404")
+    void shouldRecordClientErrorOutcome() throws IOException {
+        Client delegate = (req, options) -> Response.builder()
+                .status(404)
+                .request(req)
+                .headers(Collections.emptyMap())
+                .build();
+
+        capability.enrich(delegate).execute(request, new Request.Options());
+
+        assertNotNull(meterRegistry.find(FeignMetricsCapability.METRIC_NAME)
+                .tag("status", "404")
+                .tag("outcome", "CLIENT_ERROR")
+                .timer());
+    }
+
+    @Test
+    @DisplayName("Deve registrar outcome IO_ERROR e propagar a exceção quando a chamada falhar")
+    void shouldRecordIoErrorAndRethrow() {
+        Client delegate = (req, options) -> {
+            throw new IOException("Connection refused");
+        };
+        Client client = capability.enrich(delegate);
+
+        assertThrows(IOException.class, () -> client.execute(request, new Request.Options()));
+        Timer timer = meterRegistry.find(FeignMetricsCapability.METRIC_NAME)
+                .tag("outcome", "IO_ERROR")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,79 @@
+package com.gerenciador.projeto.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CachingPasswordEncoder")
+class CachingPasswordEncoderTest {
+
+    private static final String ENCODED = "$2a$10$hashArmazenado";
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private CachingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("Deve verificar no encoder original apenas na primeira vez para a mesma credencial válida")
+    void shouldCacheSuccessfulVerification() {
+        when(delegate.matches("user123", ENCODED)).thenReturn(true);
+
+        assertTrue(encoder.matches("user123", ENCODED));
+        assertTrue(encoder.matches("user123", ENCODED));
+        assertTrue(encoder.matches("user123", ENCODED));
+
+        verify(delegate, times(1)).matches("user123", ENCODED);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em cache verificações com senha incorreta")
+    void shouldNotCacheFailedVerification() {
+        when(delegate.matches("errada", ENCODED)).thenReturn(false);
+
+        assertFalse(encoder.matches("errada", ENCODED));
+        assertFalse(encoder.matches("errada", ENCODED));
+
+        verify(delegate, times(2)).matches("errada", ENCODED);
+    }
+
+    @Test
+    @DisplayName("Deve verificar novamente quando o hash armazenado mudar (troca de senha)")
+    void shouldNotReuseEntryForDifferentEncodedPassword() {
+        String newEncoded = "$2a$10$novoHash";
+        when(delegate.matches("user123", ENCODED)).thenReturn(true);
+        when(delegate.matches("user123", newEncoded)).thenReturn(false);
+
+        assertTrue(encoder.matches("user123", ENCODED));
+        assertFalse(encoder.matches("user123", newEncoded));
+    }
+
+    @Test
+    @DisplayName("Deve funcionar com o BCrypt real")
+    void shouldWorkWithBCrypt() {
+        CachingPasswordEncoder bcryptEncoder = new CachingPasswordEncoder(new BCryptPasswordEncoder(), Duration.ofMinutes(5), 100);
+        String encoded = bcryptEncoder.encode("user123");
+
+        assertTrue(bcryptEncoder.matches("user123", encoded));
+        assertTrue(bcryptEncoder.matches("user123", encoded));
+        assertFalse(bcryptEncoder.matches("outra", encoded));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gerenciador.projeto.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para CorrelationIdFilter")
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    private String filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> duringRequest = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> duringRequest.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+        return duringRequest.get();
+    }
+
+    @Test
+    @DisplayName("Deve usar o ID recebido no cabeçalho durante a requisição e devolvê-lo na resposta")
+    void shouldUseReceivedCorrelationId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.HEADER, "req-123.abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertEquals("req-123.abc", filter(request, response));
+        assertEquals("req-123.abc", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Deve gerar um novo ID quando o cabeçalho está ausente ou é inválido")
+    void shouldGenerateCorrelationIdWhenMissingOrInvalid() throws Exception {
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.addHeader(CorrelationIdFilter.HEADER, "abc\n{\"level\":\"ERROR\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String generated = filter(invalid, response);
+
+        assertNotNull(generated);
+        assertNotEquals("abc\n{\"level\":\"ERROR\"}", generated);
+        assertEquals(generated, response.getHeader(CorrelationIdFilter.HEADER));
+        assertNotNull(filter(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+}
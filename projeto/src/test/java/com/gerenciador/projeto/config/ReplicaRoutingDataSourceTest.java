@@ -0,0 +1,176 @@
+package com.gerenciador.projeto.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes para ReplicaRoutingDataSource e ReplicaLagMonitor")
+class ReplicaRoutingDataSourceTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private ReplicaLagMonitor monitor;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(JdbcTemplate.class));
+        replicas.put("replica-2", mock(JdbcTemplate.class));
+        monitor = new ReplicaLagMonitor(mock(JdbcTemplate.class), replicas, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), 100);
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(monitor, tracker, meterRegistry);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("USER", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    private static Map<String, Long> replay(Long replica1, Long replica2) {
+        Map<String, Long> replayLsns = new HashMap<>();
+        replayLsns.put("replica-1", replica1);
+        replayLsns.put("replica-2", replica2);
+        return replayLsns;
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações de escrita para o primário")
+    void shouldRouteWritesToPrimary() {
+        monitor.record(System.nanoTime(), 100, replay(100L, 100L));
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        assertEquals(1, meterRegistry.get(ReplicaRoutingDataSource.ROUTE_METRIC).tag("target", "primary").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve alternar as leituras entre as réplicas sincronizadas")
+    void shouldRoundRobinReadsAcrossReplicas() {
+        monitor.record(System.nanoTime(), 100, replay(100L, 100L));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertEquals("replica-2", routing.determineCurrentLookupKey());
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar réplicas com atraso acima do limite ou indisponíveis")
+    void shouldSkipLaggingAndUnavailableReplicas() {
+        long start = System.nanoTime();
+        monitor.record(start, 100, replay(100L, 100L));
+        // O primário avançou; a réplica 1 acompanhou, a réplica 2 parou na posição 100
+        monitor.record(start + 6 * SECOND, 200, replay(200L, 100L));
+
+        assertEquals(List.of("replica-1"), monitor.eligibleReplicas(null));
+        assertEquals(0.0, monitor.lagSeconds("replica-1"));
+        assertTrue(Double.isNaN(monitor.lagSeconds("replica-2")));
+
+        monitor.record(start + 7 * SECOND, 200, replay(null, 100L));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Deve medir o atraso a partir da última amostra do primário alcançada pela réplica")
+    void shouldMeasureLagFromLastCaughtUpSample() {
+        long start = System.nanoTime();
+        monitor.record(start, 100, replay(100L, 100L));
+        monitor.record(start + 2 * SECOND, 200, replay(200L, 150L));
+
+        assertEquals(0.0, monitor.lagSeconds("replica-1"));
+        assertEquals(2.0, monitor.lagSeconds("replica-2"));
+        assertEquals(List.of("replica-1", "replica-2"), monitor.eligibleReplicas(null));
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário após uma escrita do cliente até uma réplica aplicá-la")
+    void shouldReadYourWritesAfterCommit() {
+        monitor.record(System.nanoTime(), 100, replay(100L, 100L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        // Nova leitura após o commit: apenas a réplica 2 já aplicou a escrita
+        monitor.record(System.nanoTime(), 150, replay(100L, 150L));
+        assertEquals("replica-2", routing.determineCurrentLookupKey());
+
+        // Outro usuário não espera pela escrita
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("ADMIN", null, List.of()));
+        assertEquals(List.of("replica-1", "replica-2"), monitor.eligibleReplicas(tracker.lastWrite()));
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando o monitor deixar de atualizar o estado das réplicas")
+    void shouldIgnoreStaleReplicaStatus() {
+        long start = System.nanoTime();
+        monitor.record(start, 100, replay(100L, 100L));
+
+        // Limite: 2 x intervalo (1s) + atraso máximo (5s)
+        assertEquals(List.of("replica-1", "replica-2"), monitor.eligibleReplicas(null, start + 7 * SECOND));
+        assertEquals(List.of(), monitor.eligibleReplicas(null, start + 8 * SECOND));
+
+        monitor.record(start + 8 * SECOND, 100, replay(100L, 100L));
+        assertEquals(List.of("replica-1", "replica-2"), monitor.eligibleReplicas(null, start + 8 * SECOND));
+    }
+
+    private static JwtAuthenticationToken tokenAuthentication(String tokenId) {
+        Jwt jwt = Jwt.withTokenValue("token-" + tokenId)
+                .header("alg", "HS256")
+                .subject("USER")
+                .jti(tokenId)
+                .issuedAt(Instant.now())
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of());
+    }
+
+    @Test
+    @DisplayName("Deve aguardar a escrita apenas para o token que a fez, mesmo com o mesmo usuário")
+    void shouldTrackWritesPerTokenForSameUser() {
+        monitor.record(System.nanoTime(), 100, replay(100L, 100L));
+        SecurityContextHolder.getContext().setAuthentication(tokenAuthentication("login-1"));
+        tracker.recordWrite();
+
+        assertNotNull(tracker.lastWrite());
+        assertEquals(List.of(), monitor.eligibleReplicas(tracker.lastWrite()));
+
+        SecurityContextHolder.getContext().setAuthentication(tokenAuthentication("login-2"));
+        assertNull(tracker.lastWrite());
+        assertEquals(List.of("replica-1", "replica-2"), monitor.eligibleReplicas(tracker.lastWrite()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.gerenciador.projeto.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes para ThrottledLogger")
+class ThrottledLoggerTest {
+
+    private static final Instant START = Instant.parse("2024-06-10T12:00:00Z");
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+    private Clock clock;
+    private ThrottledLogger throttledLogger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger("teste.throttled");
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(START.toEpochMilli());
+        throttledLogger = new ThrottledLogger(logger, Duration.ofMinutes(1), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private static List<KeyValuePair> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs() == null ? List.of() : event.getKeyValuePairs();
+    }
+
+    @Test
+    @DisplayName("Deve registrar uma vez por janela e informar as ocorrências suprimidas no registro seguinte")
+    void shouldLogOncePerWindowAndReportSuppressedCount() {
+        RuntimeException cause = new RuntimeException("Serviço indisponível");
+        for (long memberId = 1001; memberId <= 1005; memberId++) {
+            throttledLogger.warn(cause, "Erro ao buscar nome do membro {}: {}", memberId, cause.getMessage());
+        }
+
+        assertEquals(1, appender.list.size());
+        assertEquals("Erro ao buscar nome do membro 1001: Serviço indisponível", appender.list.get(0).getFormattedMessage());
+        assertTrue(keyValues(appender.list.get(0)).isEmpty());
+
+        when(clock.millis()).thenReturn(START.plus(Duration.ofMinutes(1)).toEpochMilli());
+        throttledLogger.warn(cause, "Erro ao buscar nome do membro {}: {}", 1006L, cause.getMessage());
+
+        assertEquals(2, appender.list.size());
+        KeyValuePair suppressed = keyValues(appender.list.get(1)).get(0);
+        assertEquals("suppressed", suppressed.key);
+        assertEquals(4L, suppressed.value);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar separadamente mensagens e tipos de exceção diferentes")
+    void shouldThrottleEachMessageAndExceptionTypeSeparately() {
+        throttledLogger.warn(new RuntimeException("a"), "Erro ao buscar nome do gerente {}: {}", 1L, "a");
+        throttledLogger.warn(new IllegalStateException("b"), "Erro ao buscar nome do gerente {}: {}", 1L, "b");
+        throttledLogger.warn(new RuntimeException("c"), "Erro ao buscar nome do membro {}: {}", 1001L, "c");
+        throttledLogger.warn(new RuntimeException("d"), "Erro ao buscar nome do gerente {}: {}", 2L, "d");
+
+        assertEquals(3, appender.list.size());
+    }
+}
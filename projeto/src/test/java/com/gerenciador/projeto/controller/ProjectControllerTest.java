@@ -2,16 +2,26 @@ package com.gerenciador.projeto.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gerenciador.projeto.dto.ArchiveResultDTO;
+import com.gerenciador.projeto.dto.ChangeSetDTO;
+import com.gerenciador.projeto.dto.FacetCountDTO;
 import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.ProjectChangeDTO;
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+import com.gerenciador.projeto.dto.ProjectFilterDTO;
 import com.gerenciador.projeto.dto.ProjectRequestDTO;
 import com.gerenciador.projeto.dto.ProjectResponseDTO;
 import com.gerenciador.projeto.dto.ProjectStatusUpdateDTO;
 import com.gerenciador.projeto.enums.ProjectStatus;
 import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.exception.ChangeWatermarkExpiredException;
 import com.gerenciador.projeto.exception.InvalidStatusTransitionException;
 import com.gerenciador.projeto.exception.MemberAllocationException;
 import com.gerenciador.projeto.exception.ProjectDeletionException;
 import com.gerenciador.projeto.exception.ProjectNotFoundException;
+import com.gerenciador.projeto.service.IProjectArchiveService;
+import com.gerenciador.projeto.service.IProjectChangeService;
+import com.gerenciador.projeto.service.IProjectEventStreamService;
 import com.gerenciador.projeto.service.IProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +29,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,6 +48,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -49,6 +62,15 @@ class ProjectControllerTest {
     @MockBean // Cria um mock do IProjectService e injeta no controller
     private IProjectService projectService;
 
+    @MockBean
+    private IProjectArchiveService projectArchiveService;
+
+    @MockBean
+    private IProjectEventStreamService projectEventStreamService;
+
+    @MockBean
+    private IProjectChangeService projectChangeService;
+
     private ObjectMapper objectMapper; // Para converter objetos Java em JSON e vice-versa
 
     private ProjectRequestDTO projectRequestDTO;
@@ -150,7 +172,7 @@ class ProjectControllerTest {
     void shouldGetAllProjectsAndReturn200() throws Exception {
         Pageable pageable = PageRequest.of(0, 10);
         PageImpl<ProjectResponseDTO> page = new PageImpl<>(Collections.singletonList(projectResponseDTO), pageable, 1);
-        when(projectService.getAllProjects(any(), any(), any(), any(), any(), any(Pageable.class))).thenReturn(page);
+        when(projectService.getAllProjects(any(ProjectFilterDTO.class), any(Pageable.class))).thenReturn(page);
 
         mockMvc.perform(get("/api/projetos")
                         .param("page", "0")
@@ -159,7 +181,48 @@ class ProjectControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value(1L));
 
-        verify(projectService, times(1)).getAllProjects(null, null, null, null, null, pageable);
+        verify(projectService, times(1)).getAllProjects(any(ProjectFilterDTO.class), eq(pageable));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve retornar as facetas da listagem e status 200 OK")
+    void shouldGetProjectFacetsAndReturn200() throws Exception {
+        ProjectFacetsDTO facets = new ProjectFacetsDTO();
+        facets.setTotal(3);
+        facets.getStatus().add(new FacetCountDTO("INICIADO", "Iniciado", 3));
+        when(projectService.getProjectFacets(any(ProjectFilterDTO.class))).thenReturn(facets);
+
+        mockMvc.perform(get("/api/projetos/facetas").param("managerId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.status[0].value").value("INICIADO"))
+                .andExpect(jsonPath("$.status[0].count").value(3));
+
+        verify(projectService).getProjectFacets(argThat(filter -> filter.getManagerId().equals(List.of(1L))));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve aceitar filtros de múltiplos valores repetidos ou separados por vírgula")
+    void shouldBindMultiValueFilters() throws Exception {
+        when(projectService.getAllProjects(any(ProjectFilterDTO.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/projetos")
+                        .param("status", "INICIADO,PLANEJADO")
+                        .param("managerId", "1")
+                        .param("managerId", "2")
+                        .param("riskLevel", "ALTO_RISCO")
+                        .param("minBudget", "1000.50")
+                        .param("forecastEndDateTo", "31/12/2024"))
+                .andExpect(status().isOk());
+
+        verify(projectService).getAllProjects(argThat(filter ->
+                filter.getStatus().equals(List.of("INICIADO", "PLANEJADO"))
+                        && filter.getManagerId().equals(List.of(1L, 2L))
+                        && filter.getRiskLevel().equals(List.of("ALTO_RISCO"))
+                        && filter.getMinBudget().compareTo(new BigDecimal("1000.50")) == 0
+                        && filter.getForecastEndDateTo().equals(LocalDate.of(2024, 12, 31))), any(Pageable.class));
     }
 
     @Test
@@ -345,4 +408,62 @@ class ProjectControllerTest {
 
         verify(projectService, times(1)).getAllocatedMembers(99L);
     }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve executar o arquivamento com o período de retenção informado e retornar status 200 OK")
+    void shouldArchiveClosedProjectsAndReturn200() throws Exception {
+        when(projectArchiveService.archiveClosedProjects(30))
+                .thenReturn(new ArchiveResultDTO(LocalDate.of(2024, 5, 2), 1200, 3, true));
+
+        mockMvc.perform(post("/api/projetos/arquivamento").param("retentionDays", "30").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cutoffDate").value("02/05/2024"))
+                .andExpect(jsonPath("$.archivedCount").value(1200))
+                .andExpect(jsonPath("$.complete").value(true));
+
+        verify(projectArchiveService, times(1)).archiveClosedProjects(30);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve abrir o stream de eventos repassando os filtros e o Last-Event-ID")
+    void shouldOpenEventStreamWithFiltersAndLastEventId() throws Exception {
+        when(projectEventStreamService.subscribe(7L, null, 42L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/projetos/eventos").param("projectId", "7").header("Last-Event-ID", "42")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(projectEventStreamService, times(1)).subscribe(7L, null, 42L);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve retornar as alterações desde a marca d'água informada")
+    void shouldReturnChangesSinceWatermark() throws Exception {
+        ProjectChangeDTO change = new ProjectChangeDTO();
+        change.setId(1L);
+        change.setStatus(ProjectStatus.EM_ANALISE);
+        when(projectChangeService.getChangesSince("abc", 100))
+                .thenReturn(new ChangeSetDTO(List.of(change), List.of(), List.of(), "def", true));
+
+        mockMvc.perform(get("/api/projetos/alteracoes").param("since", "abc").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects[0].id").value(1L))
+                .andExpect(jsonPath("$.watermark").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve retornar 410 quando a marca d'água expirou")
+    void shouldReturnGoneWhenWatermarkExpired() throws Exception {
+        when(projectChangeService.getChangesSince("antiga", null))
+                .thenThrow(new ChangeWatermarkExpiredException("A marca d'água é anterior ao período de retenção das exclusões."));
+
+        mockMvc.perform(get("/api/projetos/alteracoes").param("since", "antiga"))
+                .andExpect(status().isGone());
+    }
 }
@@ -1,7 +1,12 @@
 package com.gerenciador.projeto.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gerenciador.projeto.dto.ManagerPortfolioDTO;
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
 import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.enums.CountMode;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
 import com.gerenciador.projeto.service.IReportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,12 +14,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.*;
@@ -57,7 +67,7 @@ class ReportControllerTest {
     @WithMockUser(username = "user", roles = {"USER"})
     @DisplayName("Deve gerar resumo do portfólio e retornar status 200 OK")
     void shouldGeneratePortfolioSummaryAndReturn200() throws Exception {
-        when(reportService.generatePortfolioSummary()).thenReturn(portfolioSummaryDTO);
+        when(reportService.generatePortfolioSummary(CountMode.EXATA, false)).thenReturn(portfolioSummaryDTO);
 
         mockMvc.perform(get("/api/relatorios/resumo")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -65,20 +75,93 @@ class ReportControllerTest {
                 .andExpect(jsonPath("$.projectsByStatus.['Em Andamento']").value(5L))
                 .andExpect(jsonPath("$.totalUniqueMembersAllocated").value(15L));
 
-        verify(reportService, times(1)).generatePortfolioSummary();
+        verify(reportService, times(1)).generatePortfolioSummary(CountMode.EXATA, false);
     }
 
     @Test
     @WithMockUser(username = "user", roles = {"USER"})
     @DisplayName("Deve retornar 500 INTERNAL SERVER ERROR se o serviço lançar exceção")
     void shouldReturn500IfServiceThrowsException() throws Exception {
-        when(reportService.generatePortfolioSummary()).thenThrow(new RuntimeException("Erro interno de serviço"));
+        when(reportService.generatePortfolioSummary(CountMode.EXATA, false)).thenThrow(new RuntimeException("Erro interno de serviço"));
 
         mockMvc.perform(get("/api/relatorios/resumo")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.message").value("Erro interno de serviço"));
 
-        verify(reportService, times(1)).generatePortfolioSummary();
+        verify(reportService, times(1)).generatePortfolioSummary(CountMode.EXATA, false);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve listar o resumo por gerente repassando a paginação e retornar status 200 OK")
+    void shouldGetManagerPortfoliosAndReturn200() throws Exception {
+        ManagerPortfolioDTO manager = new ManagerPortfolioDTO();
+        manager.setManagerId(1L);
+        manager.setProjectCount(4L);
+        manager.setActiveBudget(new BigDecimal("250000.00"));
+        PageRequest pageRequest = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "activeBudget"));
+        when(reportService.getManagerPortfolios(pageRequest, false)).thenReturn(new PageImpl<>(List.of(manager), pageRequest, 6));
+
+        mockMvc.perform(get("/api/relatorios/gerentes?page=1&size=5&sort=activeBudget,desc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].managerId").value(1L))
+                .andExpect(jsonPath("$.content[0].projectCount").value(4L))
+                .andExpect(jsonPath("$.totalElements").value(6L));
+
+        verify(reportService, times(1)).getManagerPortfolios(pageRequest, false);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve consultar a evolução mensal do portfólio e retornar status 200 OK")
+    void shouldGetMonthlyPortfolioTrendAndReturn200() throws Exception {
+        PortfolioSnapshotDTO snapshot = new PortfolioSnapshotDTO();
+        snapshot.setSnapshotDate(LocalDate.of(2024, 1, 31));
+        snapshot.setTotalProjects(8L);
+        snapshot.getProjectsByStatus().put(ProjectStatus.EM_ANDAMENTO, 5L);
+        when(reportService.getPortfolioTrend(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), SnapshotGranularity.MENSAL))
+                .thenReturn(List.of(snapshot));
+
+        mockMvc.perform(get("/api/relatorios/tendencias?from=01/01/2024&to=31/12/2024&granularity=MENSAL")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].snapshotDate").value("31/01/2024"))
+                .andExpect(jsonPath("$[0].projectsByStatus.EM_ANDAMENTO").value(5L));
+
+        verify(reportService, times(1)).getPortfolioTrend(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), SnapshotGranularity.MENSAL);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve repassar o modo de contagem aproximada de membros únicos")
+    void shouldPassApproximateCountModeToService() throws Exception {
+        portfolioSummaryDTO.setUniqueMembersCountMode(CountMode.APROXIMADA);
+        when(reportService.generatePortfolioSummary(CountMode.APROXIMADA, false)).thenReturn(portfolioSummaryDTO);
+
+        mockMvc.perform(get("/api/relatorios/resumo?uniqueMembers=APROXIMADA")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uniqueMembersCountMode").value("APROXIMADA"));
+
+        verify(reportService, times(1)).generatePortfolioSummary(CountMode.APROXIMADA, false);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    @DisplayName("Deve repassar a inclusão dos projetos arquivados no resumo por gerente")
+    void shouldPassIncludeArchivedToManagerPortfolio() throws Exception {
+        ManagerPortfolioDTO manager = new ManagerPortfolioDTO();
+        manager.setManagerId(1L);
+        manager.setProjectCount(12L);
+        when(reportService.getManagerPortfolio(1L, true)).thenReturn(manager);
+
+        mockMvc.perform(get("/api/relatorios/gerentes/1?includeArchived=true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectCount").value(12L));
+
+        verify(reportService, times(1)).getManagerPortfolio(1L, true);
     }
 }
@@ -0,0 +1,52 @@
+package com.gerenciador.projeto.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para ProjectStatus")
+class ProjectStatusTest {
+
+    @Test
+    @DisplayName("Deve resolver códigos sem diferenciar maiúsculas e com espaço no lugar de '_'")
+    void shouldResolveCodesIgnoringCase() {
+        for (ProjectStatus status : ProjectStatus.values()) {
+            assertSame(status, ProjectStatus.resolve(status.name()));
+            assertSame(status, ProjectStatus.resolve(status.name().toLowerCase()));
+            assertSame(status, ProjectStatus.resolve(status.name().replace('_', ' ')));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve resolver descrições, inclusive com acentos")
+    void shouldResolveDescriptions() {
+        for (ProjectStatus status : ProjectStatus.values()) {
+            assertSame(status, ProjectStatus.resolve(status.getDescription()));
+            assertSame(status, ProjectStatus.resolve(status.getDescription().toUpperCase()));
+        }
+        assertSame(ProjectStatus.EM_ANALISE, ProjectStatus.resolve("Em Análise"));
+        assertSame(ProjectStatus.ANALISE_APROVADA, ProjectStatus.resolve("análise_aprovada"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para textos que não correspondem a nenhum status")
+    void shouldReturnNullForUnknownValues() {
+        assertNull(ProjectStatus.resolve(null));
+        assertNull(ProjectStatus.resolve(""));
+        assertNull(ProjectStatus.resolve("FINALIZADO"));
+        assertNull(ProjectStatus.resolve("EM_ANALISE "));
+        assertNull(ProjectStatus.resolve("EMANALISE"));
+    }
+
+    @Test
+    @DisplayName("Deve permitir apenas o próximo status do fluxo ou o cancelamento")
+    void shouldAllowOnlyNextStatusOrCancellation() {
+        for (ProjectStatus current : ProjectStatus.values()) {
+            for (ProjectStatus next : ProjectStatus.values()) {
+                boolean expected = next == ProjectStatus.CANCELADO || next.getOrder() == current.getOrder() + 1;
+                assertEquals(expected, current.canTransitionTo(next), current + " -> " + next);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gerenciador.projeto.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para a estimativa HyperLogLog de MemberCardinalityRepositoryImpl")
+class MemberCardinalityRepositoryImplTest {
+
+    private static final int REGISTERS = 1 << MemberCardinalityRepository.PRECISION;
+
+    /**
+     * Monta os registradores como o SQL da implementação: bits baixos escolhem o registrador,
+     * o menor sufixo de cada registrador define o rank.
+     */
+    private static byte[] registersFor(long distinctValues, long seed) {
+        long[] minSuffix = new long[REGISTERS];
+        Arrays.fill(minSuffix, -1);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long i = 0; i < distinctValues; i++) {
+            long hash = random.nextLong();
+            int register = (int) (hash & (REGISTERS - 1));
+            long suffix = hash >>> MemberCardinalityRepository.PRECISION;
+            if (minSuffix[register] < 0 || suffix < minSuffix[register]) {
+                minSuffix[register] = suffix;
+            }
+        }
+        byte[] ranks = new byte[REGISTERS];
+        for (int register = 0; register < REGISTERS; register++) {
+            if (minSuffix[register] >= 0) {
+                ranks[register] = MemberCardinalityRepositoryImpl.rank(minSuffix[register]);
+            }
+        }
+        return ranks;
+    }
+
+    @Test
+    @DisplayName("Deve estimar um milhão de membros dentro de três erros padrão")
+    void shouldEstimateLargeCardinalityWithinErrorBound() {
+        long estimate = MemberCardinalityRepositoryImpl.estimate(registersFor(1_000_000, 42));
+
+        double relativeError = Math.abs(estimate - 1_000_000) / 1_000_000.0;
+        assertTrue(relativeError < 3 * MemberCardinalityRepository.STANDARD_ERROR, "Erro relativo: " + relativeError);
+    }
+
+    @Test
+    @DisplayName("Deve usar contagem linear e ser praticamente exato para poucos membros")
+    void shouldBeNearlyExactForSmallCardinality() {
+        long estimate = MemberCardinalityRepositoryImpl.estimate(registersFor(100, 7));
+
+        assertTrue(Math.abs(estimate - 100) <= 2, "Estimativa: " + estimate);
+    }
+
+    @Test
+    @DisplayName("Deve estimar zero quando não há alocações")
+    void shouldEstimateZeroWithoutAllocations() {
+        assertEquals(0, MemberCardinalityRepositoryImpl.estimate(new byte[REGISTERS]));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o rank pela posição do primeiro bit 1 do sufixo")
+    void shouldComputeRankFromLeadingZeros() {
+        int suffixBits = 64 - MemberCardinalityRepository.PRECISION;
+        assertEquals(1, MemberCardinalityRepositoryImpl.rank(1L << (suffixBits - 1)));
+        assertEquals(suffixBits, MemberCardinalityRepositoryImpl.rank(1L));
+        assertEquals(suffixBits + 1, MemberCardinalityRepositoryImpl.rank(0L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gerenciador.projeto.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes contra um PostgreSQL já migrado pela aplicação, informado em -Dtest.postgres.url
+ * (usuário e senha em test.postgres.username e test.postgres.password, padrão postgres).
+ * Sem a propriedade, os testes são ignorados.
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+@DisplayName("Testes de integração para PortfolioSnapshotAnalyticsRepositoryImpl")
+class PortfolioSnapshotAnalyticsRepositoryImplTest {
+
+    // Data distante, gravada e removida pelo próprio teste
+    private static final LocalDate TEST_DATE = LocalDate.of(2090, 1, 1);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "postgres"),
+                System.getProperty("test.postgres.password", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        deleteTestSnapshot();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestSnapshot();
+    }
+
+    private void deleteTestSnapshot() {
+        jdbcTemplate.update("DELETE FROM portfolio_snapshot_status WHERE snapshot_date = ?", TEST_DATE);
+        jdbcTemplate.update("DELETE FROM portfolio_snapshot WHERE snapshot_date = ?", TEST_DATE);
+    }
+
+    @Test
+    @DisplayName("Deve aguardar a gravação em andamento da mesma data em vez de falhar com chave duplicada")
+    void shouldSerializeConcurrentSnapshotsOfSameDate() throws Exception {
+        LocalDateTime firstTakenAt = TEST_DATE.atTime(10, 0);
+        LocalDateTime secondTakenAt = TEST_DATE.atTime(11, 0);
+
+        try (Connection first = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            new PortfolioSnapshotAnalyticsRepositoryImpl(new JdbcTemplate(new SingleConnectionDataSource(first, true)))
+                    .saveSnapshot(TEST_DATE, firstTakenAt);
+
+            // A primeira gravação ainda não foi confirmada: a segunda precisa esperar por ela
+            PortfolioSnapshotAnalyticsRepositoryImpl repository = new PortfolioSnapshotAnalyticsRepositoryImpl(jdbcTemplate);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                    status -> repository.saveSnapshot(TEST_DATE, secondTakenAt)));
+            Thread.sleep(500);
+            assertFalse(second.isDone());
+
+            first.commit();
+            second.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(secondTakenAt, jdbcTemplate.queryForObject(
+                "SELECT taken_at FROM portfolio_snapshot WHERE snapshot_date = ?", LocalDateTime.class, TEST_DATE));
+    }
+}
@@ -0,0 +1,100 @@
+package com.gerenciador.projeto.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Year;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes contra um PostgreSQL já migrado pela aplicação (V1 a V4), informado em -Dtest.postgres.url
+ * (usuário e senha em test.postgres.username e test.postgres.password, padrão postgres).
+ * Sem a propriedade, os testes são ignorados.
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+@DisplayName("Testes de integração para ProjectPartitionRepositoryImpl")
+class ProjectPartitionRepositoryImplTest {
+
+    // Anos distantes, criados e removidos pelo próprio teste
+    private static final int FIRST_TEST_YEAR = 2090;
+    private static final int LAST_TEST_YEAR = 2091;
+    private static final Pattern RELATION_NAME = Pattern.compile("\"Relation Name\": \"([^\"]+)\"");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ProjectPartitionRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username", "postgres"),
+                System.getProperty("test.postgres.password", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new ProjectPartitionRepositoryImpl(jdbcTemplate);
+        dropTestPartitions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropTestPartitions();
+    }
+
+    private void dropTestPartitions() {
+        for (int year = FIRST_TEST_YEAR; year <= LAST_TEST_YEAR; year++) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS project_" + year);
+        }
+    }
+
+    private Set<String> scannedRelations(String query) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (FORMAT JSON) " + query, String.class));
+        Matcher matcher = RELATION_NAME.matcher(plan);
+        return matcher.results().map(result -> result.group(1)).collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("Deve ler apenas a partição do ano quando o filtro de data de início cobre um único ano")
+    void shouldPruneToSingleYearPartition() {
+        int currentYear = Year.now().getValue();
+
+        Set<String> relations = scannedRelations(String.format(
+                "SELECT id FROM project WHERE start_date >= DATE '%d-01-01' AND start_date <= DATE '%d-12-31'",
+                currentYear, currentYear));
+
+        assertEquals(Set.of("project_" + currentYear), relations);
+    }
+
+    @Test
+    @DisplayName("Deve aguardar a criação em andamento em outra conexão em vez de falhar com duplicate_table")
+    void shouldSerializeConcurrentPartitionCreation() throws Exception {
+        try (Connection first = dataSource.getConnection(); Statement statement = first.createStatement()) {
+            first.setAutoCommit(false);
+            statement.execute("SELECT create_project_partitions(" + FIRST_TEST_YEAR + ", " + LAST_TEST_YEAR + ")");
+
+            // A primeira criação ainda não foi confirmada: a segunda precisa esperar por ela
+            CompletableFuture<Integer> second = CompletableFuture.supplyAsync(
+                    () -> repository.createYearlyPartitions(FIRST_TEST_YEAR, LAST_TEST_YEAR));
+            Thread.sleep(500);
+            assertFalse(second.isDone());
+
+            first.commit();
+            assertEquals(0, second.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(Set.of("project_" + FIRST_TEST_YEAR), scannedRelations(
+                "SELECT id FROM project WHERE start_date >= DATE '" + FIRST_TEST_YEAR + "-03-01' " +
+                        "AND start_date < DATE '" + FIRST_TEST_YEAR + "-04-01'"));
+    }
+}
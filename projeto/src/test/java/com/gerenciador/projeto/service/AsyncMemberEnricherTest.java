@@ -0,0 +1,116 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.MemberDTO;
+import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para AsyncMemberEnricher")
+class AsyncMemberEnricherTest {
+
+    @Mock
+    private MemberApiClient memberApiClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncMemberEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        enricher = new AsyncMemberEnricher(memberApiClient, meterRegistry, true, Duration.ofMillis(200), 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enricher.close();
+    }
+
+    private static MemberAllocationDTO member(Long memberId) {
+        MemberAllocationDTO dto = new MemberAllocationDTO();
+        dto.setMemberId(memberId);
+        return dto;
+    }
+
+    private static ProjectResponseDTO project(Long id, Long managerId, Long... memberIds) {
+        ProjectResponseDTO dto = new ProjectResponseDTO();
+        dto.setId(id);
+        dto.setManagerId(managerId);
+        List<MemberAllocationDTO> members = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            members.add(member(memberId));
+        }
+        dto.setAllocatedMembers(members);
+        return dto;
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("projeto.members.enrichment").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve responder dentro do orçamento marcando os nomes lentos e com falha")
+    void shouldRespondWithinBudgetMarkingSlowAndFailedMembers() {
+        when(memberApiClient.getMemberById(1L)).thenReturn(new MemberDTO(1L, "Gerente", "gerente"));
+        when(memberApiClient.getMemberById(1001L)).thenReturn(new MemberDTO(1001L, "Ana", "funcionário"));
+        when(memberApiClient.getMemberById(1002L)).thenThrow(new RuntimeException("Serviço indisponível"));
+        when(memberApiClient.getMemberById(1003L)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new MemberDTO(1003L, "Lento", "funcionário");
+        });
+        ProjectResponseDTO first = project(10L, 1L, 1001L, 1003L);
+        ProjectResponseDTO second = project(11L, 1L, 1001L, 1002L);
+
+        long start = System.nanoTime();
+        enricher.enrichProjects(List.of(first, second));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertTrue(elapsed.compareTo(Duration.ofMillis(1500)) < 0, "Deveria responder perto do orçamento, levou " + elapsed);
+        assertEquals("Gerente", first.getManagerName());
+        assertEquals("Ana", first.getAllocatedMembers().get(0).getMemberName());
+        assertEquals(AsyncMemberEnricher.UNRESOLVED_NAME, first.getAllocatedMembers().get(1).getMemberName());
+        assertEquals(List.of(1003L), first.getUnresolvedMemberIds());
+        assertEquals(AsyncMemberEnricher.UNAVAILABLE_NAME, second.getAllocatedMembers().get(1).getMemberName());
+        assertEquals(List.of(1002L), second.getUnresolvedMemberIds());
+        // IDs repetidos na página são buscados uma única vez
+        verify(memberApiClient, times(1)).getMemberById(1L);
+        verify(memberApiClient, times(1)).getMemberById(1001L);
+        assertEquals(2, outcome("resolved"));
+        assertEquals(1, outcome("failed"));
+        assertEquals(1, outcome("unresolved"));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como não resolvidos os membros que não obtêm vaga dentro do orçamento")
+    void shouldMarkMembersWithoutPermitAsUnresolved() {
+        enricher.close();
+        enricher = new AsyncMemberEnricher(memberApiClient, meterRegistry, true, Duration.ofMillis(200), 1);
+        when(memberApiClient.getMemberById(anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new MemberDTO(1001L, "Lento", "funcionário");
+        });
+        List<MemberAllocationDTO> members = List.of(member(1001L), member(1002L));
+
+        enricher.enrichMembers(members);
+
+        members.forEach(member -> assertEquals(AsyncMemberEnricher.UNRESOLVED_NAME, member.getMemberName()));
+        // Com uma única vaga, o segundo membro nem chega a ser buscado
+        verify(memberApiClient, times(1)).getMemberById(anyLong());
+        assertEquals(2, outcome("unresolved"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.config.TokenAuthConfig;
+import com.gerenciador.projeto.dto.LoginRequestDTO;
+import com.gerenciador.projeto.dto.TokenResponseDTO;
+import com.gerenciador.projeto.exception.InvalidCredentialsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para AuthService")
+class AuthServiceTest {
+
+    private static final String SECRET = "segredo-de-teste-com-pelo-menos-32-bytes!";
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    private final TokenAuthConfig tokenAuthConfig = new TokenAuthConfig();
+    private SecretKey key;
+    private JwtDecoder jwtDecoder;
+    private AuthService authService;
+    private LoginRequestDTO loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        key = tokenAuthConfig.tokenSigningKey(SECRET);
+        jwtDecoder = tokenAuthConfig.jwtDecoder(key, "projeto");
+        authService = new AuthService(authenticationManager, tokenAuthConfig.jwtEncoder(key), "projeto", Duration.ofMinutes(30));
+
+        loginRequest = new LoginRequestDTO();
+        loginRequest.setUsername("USER");
+        loginRequest.setPassword("user123");
+    }
+
+    @Test
+    @DisplayName("Deve emitir um token válido para credenciais corretas")
+    void shouldIssueValidToken() {
+        Authentication authenticated = UsernamePasswordAuthenticationToken.authenticated("USER", null, List.of());
+        when(authenticationManager.authenticate(any())).thenReturn(authenticated);
+
+        TokenResponseDTO response = authService.issueToken(loginRequest);
+
+        assertEquals("Bearer", response.getTokenType());
+        assertEquals(1800, response.getExpiresIn());
+        Jwt jwt = jwtDecoder.decode(response.getAccessToken());
+        assertEquals("USER", jwt.getSubject());
+        assertEquals("projeto", jwt.getClaimAsString("iss"));
+        assertNotNull(jwt.getId());
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidCredentialsException para senha incorreta")
+    void shouldRejectInvalidCredentials() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(InvalidCredentialsException.class, () -> authService.issueToken(loginRequest));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void shouldRejectExpiredToken() {
+        Authentication authenticated = UsernamePasswordAuthenticationToken.authenticated("USER", null, List.of());
+        when(authenticationManager.authenticate(any())).thenReturn(authenticated);
+        Clock pastClock = Clock.fixed(Instant.now().minus(Duration.ofHours(2)), ZoneOffset.UTC);
+        AuthService pastAuthService = new AuthService(authenticationManager, tokenAuthConfig.jwtEncoder(key), "projeto", Duration.ofMinutes(30), pastClock);
+
+        String token = pastAuthService.issueToken(loginRequest).getAccessToken();
+
+        assertThrows(JwtValidationException.class, () -> jwtDecoder.decode(token));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado com outra chave")
+    void shouldRejectTokenSignedWithAnotherKey() {
+        Authentication authenticated = UsernamePasswordAuthenticationToken.authenticated("USER", null, List.of());
+        when(authenticationManager.authenticate(any())).thenReturn(authenticated);
+        SecretKey otherKey = tokenAuthConfig.tokenSigningKey("outro-segredo-com-pelo-menos-32-bytes!!");
+        AuthService otherAuthService = new AuthService(authenticationManager, tokenAuthConfig.jwtEncoder(otherKey), "projeto", Duration.ofMinutes(30));
+
+        String token = otherAuthService.issueToken(loginRequest).getAccessToken();
+
+        assertThrows(Exception.class, () -> jwtDecoder.decode(token));
+    }
+
+    @Test
+    @DisplayName("Deve exigir segredo com pelo menos 32 bytes")
+    void shouldRejectShortSecret() {
+        assertThrows(IllegalStateException.class, () -> tokenAuthConfig.tokenSigningKey("curto"));
+    }
+}
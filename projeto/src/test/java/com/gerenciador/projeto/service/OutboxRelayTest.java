@@ -0,0 +1,133 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.DomainEventDTO;
+import com.gerenciador.projeto.entity.OutboxEvent;
+import com.gerenciador.projeto.enums.DomainEventType;
+import com.gerenciador.projeto.mapper.DomainEventMapper;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para OutboxRelay")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private DomainEventSink firstSink;
+    @Mock
+    private DomainEventSink secondSink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, List.of(firstSink, secondSink), new DomainEventMapper(), transactionManager,
+                meterRegistry, 2, 5, Duration.ofDays(7), 60_000, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    private OutboxEvent event(long id) {
+        OutboxEvent event = new OutboxEvent(DomainEventType.MEMBRO_ALOCADO, 1L, 10L, Map.of("memberId", id), LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Deve reivindicar, entregar fora da transação e marcar os lotes como publicados até um lote incompleto")
+    void shouldPublishBatchesToAllSinks() {
+        List<OutboxEvent> firstBatch = List.of(event(1L), event(2L));
+        List<OutboxEvent> secondBatch = List.of(event(3L));
+        when(outboxEventRepository.lockNextUnpublished(eq(2), any())).thenReturn(firstBatch).thenReturn(secondBatch);
+        when(outboxEventRepository.nextPositions(2)).thenReturn(List.of(10L, 11L));
+        when(outboxEventRepository.nextPositions(1)).thenReturn(List.of(12L));
+        // Nenhuma transação aberta durante a entrega: cada transação (reivindicação e marcação) já foi confirmada
+        doAnswer(invocation -> {
+            verify(transactionManager, times(mockingDetails(firstSink).getInvocations().size() * 2 - 1)).commit(any());
+            return null;
+        }).when(firstSink).publish(anyList());
+
+        int published = relay.publishPending();
+
+        assertEquals(3, published);
+        ArgumentCaptor<List<DomainEventDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firstSink, times(2)).publish(captor.capture());
+        assertEquals(List.of(1L, 2L), captor.getAllValues().get(0).stream().map(DomainEventDTO::getId).toList());
+        assertEquals(List.of(10L, 11L), captor.getAllValues().get(0).stream().map(DomainEventDTO::getPosition).toList());
+        assertEquals(DomainEventType.MEMBRO_ALOCADO, captor.getAllValues().get(1).get(0).getType());
+        verify(secondSink, times(2)).publish(anyList());
+        verify(outboxEventRepository, times(2)).lockPositionAssignment();
+        assertEquals(12L, secondBatch.get(0).getPosition());
+        assertTrue(firstBatch.stream().allMatch(event -> event.getClaimedUntil() != null));
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+        assertEquals(3, meterRegistry.get("projeto.outbox.published").counter().count());
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lote e aguardar antes de tentar de novo quando um destino falhar")
+    void shouldReleaseBatchAndBackOffWhenSinkFails() {
+        when(outboxEventRepository.lockNextUnpublished(eq(2), any())).thenReturn(List.of(event(1L)));
+        when(outboxEventRepository.nextPositions(1)).thenReturn(List.of(10L));
+        when(secondSink.getName()).thenReturn("webhook");
+        doThrow(new IllegalStateException("indisponível")).when(secondSink).publish(anyList());
+
+        assertEquals(0, relay.publishPending());
+        assertEquals(0, relay.publishPending()); // ainda no intervalo de espera
+
+        verify(outboxEventRepository, times(1)).lockNextUnpublished(eq(2), any());
+        verify(outboxEventRepository).releaseClaim(List.of(1L));
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        assertEquals(1, meterRegistry.get("projeto.outbox.failures").tag("sink", "webhook").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve manter a posição dos eventos de uma entrega anterior que falhou")
+    void shouldKeepPositionsOfRetriedEvents() {
+        OutboxEvent retried = event(1L);
+        retried.setPosition(10L);
+        OutboxEvent fresh = event(2L);
+        when(outboxEventRepository.lockNextUnpublished(eq(2), any())).thenReturn(List.of(retried, fresh)).thenReturn(List.of());
+        when(outboxEventRepository.nextPositions(1)).thenReturn(List.of(11L));
+
+        assertEquals(2, relay.publishPending());
+
+        assertEquals(10L, retried.getPosition());
+        assertEquals(11L, fresh.getPosition());
+    }
+
+    @Test
+    @DisplayName("Não deve chamar os destinos quando não houver eventos pendentes")
+    void shouldDoNothingWithoutPendingEvents() {
+        when(outboxEventRepository.lockNextUnpublished(eq(2), any())).thenReturn(List.of());
+
+        assertEquals(0, relay.publishPending());
+
+        verifyNoInteractions(firstSink, secondSink);
+    }
+}
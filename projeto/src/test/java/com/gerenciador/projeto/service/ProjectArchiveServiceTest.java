@@ -0,0 +1,77 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.ArchiveResultDTO;
+import com.gerenciador.projeto.exception.InvalidFilterException;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProjectArchiveService")
+class ProjectArchiveServiceTest {
+
+    @Mock
+    private ProjectArchiveRepository archiveRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        archiveService = new ProjectArchiveService(archiveRepository, transactionManager, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em lotes, com uma transação por lote, até um lote incompleto")
+    void shouldArchiveInBatchesUntilPartialBatch() {
+        LocalDate cutoff = LocalDate.now().minusDays(90);
+        when(archiveRepository.archiveClosedBefore(eq(cutoff), eq(2), any()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        ArchiveResultDTO result = archiveService.archiveClosedProjects(90);
+
+        assertEquals(cutoff, result.getCutoffDate());
+        assertEquals(3, result.getArchivedCount());
+        assertEquals(2, result.getBatchCount());
+        assertTrue(result.isComplete());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve interromper no limite de lotes e indicar que restam projetos")
+    void shouldStopAtMaxBatches() {
+        when(archiveRepository.archiveClosedBefore(any(), eq(2), any())).thenReturn(List.of(1L, 2L));
+
+        ArchiveResultDTO result = archiveService.archiveClosedProjects(0);
+
+        assertEquals(6, result.getArchivedCount());
+        assertEquals(3, result.getBatchCount());
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período de retenção negativo")
+    void shouldRejectNegativeRetention() {
+        reset(transactionManager);
+
+        assertThrows(InvalidFilterException.class, () -> archiveService.archiveClosedProjects(-1));
+        verifyNoInteractions(archiveRepository);
+    }
+}
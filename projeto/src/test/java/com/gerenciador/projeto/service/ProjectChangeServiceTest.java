@@ -0,0 +1,147 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.dto.ChangeSetDTO;
+import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ChangeTombstone;
+import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.ChangeEntityType;
+import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.exception.ChangeWatermarkExpiredException;
+import com.gerenciador.projeto.exception.InvalidFilterException;
+import com.gerenciador.projeto.mapper.AllocationMapper;
+import com.gerenciador.projeto.mapper.ChangeTombstoneMapper;
+import com.gerenciador.projeto.mapper.ProjectMapper;
+import com.gerenciador.projeto.repository.AllocationRepository;
+import com.gerenciador.projeto.repository.ChangeTombstoneRepository;
+import com.gerenciador.projeto.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProjectChangeService")
+class ProjectChangeServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 10, 12, 0);
+    private static final LocalDateTime UNTIL = NOW.minusMinutes(1);
+    private static final LocalDateTime T0 = NOW.minusHours(2);
+    private static final LocalDateTime T1 = NOW.minusHours(1);
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private AllocationRepository allocationRepository;
+    @Mock
+    private ChangeTombstoneRepository changeTombstoneRepository;
+
+    private ProjectChangeService changeService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        changeService = new ProjectChangeService(projectRepository, allocationRepository, changeTombstoneRepository,
+                new ProjectMapper(), new AllocationMapper(), new ChangeTombstoneMapper(),
+                Duration.ofMinutes(1), Duration.ofDays(30), 500, 5000, clock);
+    }
+
+    private Project project(long id, LocalDateTime updatedAt) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStatus(ProjectStatus.EM_ANALISE);
+        project.setUpdatedAt(updatedAt);
+        return project;
+    }
+
+    private Allocation allocation(long id, Project project, LocalDateTime updatedAt) {
+        Allocation allocation = new Allocation(project, 1001L);
+        allocation.setId(id);
+        allocation.setUpdatedAt(updatedAt);
+        return allocation;
+    }
+
+    private void stubEmpty() {
+        lenient().when(projectRepository.findChangedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+        lenient().when(allocationRepository.findChangedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+        lenient().when(changeTombstoneRepository.findDeletedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve intercalar as origens por momento e retomar a partir do último registro entregue")
+    void shouldMergeSourcesInOrderAndResumeFromWatermark() {
+        Project changed = project(5L, T1);
+        when(projectRepository.findChangedAfter(any(), anyLong(), eq(UNTIL), eq(Limit.of(3)))).thenReturn(List.of(changed));
+        when(allocationRepository.findChangedAfter(any(), anyLong(), eq(UNTIL), eq(Limit.of(3))))
+                .thenReturn(List.of(allocation(3L, changed, T1)));
+        ChangeTombstone tombstone = new ChangeTombstone(ChangeEntityType.PROJETO, 9L, 9L, T0);
+        tombstone.setId(1L);
+        when(changeTombstoneRepository.findDeletedAfter(any(), anyLong(), eq(UNTIL), eq(Limit.of(3)))).thenReturn(List.of(tombstone));
+
+        ChangeSetDTO page = changeService.getChangesSince(null, 2);
+
+        // Exclusão em T0 e, no empate em T1, o projeto antes da alocação
+        assertEquals(1, page.getDeleted().size());
+        assertEquals(9L, page.getDeleted().get(0).getEntityId());
+        assertEquals(List.of(5L), page.getProjects().stream().map(dto -> dto.getId()).toList());
+        assertTrue(page.getAllocations().isEmpty());
+        assertTrue(page.isHasMore());
+
+        clearInvocations(projectRepository, allocationRepository, changeTombstoneRepository);
+        stubEmpty();
+        changeService.getChangesSince(page.getWatermark(), 2);
+
+        // Projetos após o ID 5 no instante T1; alocações e exclusões desse instante ainda não foram entregues
+        verify(projectRepository).findChangedAfter(T1, 5L, UNTIL, Limit.of(3));
+        verify(allocationRepository).findChangedAfter(T1, Long.MIN_VALUE, UNTIL, Limit.of(3));
+        verify(changeTombstoneRepository).findDeletedAfter(T1, Long.MIN_VALUE, UNTIL, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("Deve avançar a marca d'água até o limite de confirmação quando não há mais alterações")
+    void shouldAdvanceWatermarkToUntilWhenComplete() {
+        stubEmpty();
+
+        ChangeSetDTO page = changeService.getChangesSince(T0.toString(), null);
+
+        assertFalse(page.isHasMore());
+        verify(projectRepository).findChangedAfter(T0, Long.MIN_VALUE, UNTIL, Limit.of(501));
+
+        clearInvocations(projectRepository, allocationRepository, changeTombstoneRepository);
+        changeService.getChangesSince(page.getWatermark(), null);
+
+        verify(projectRepository).findChangedAfter(UNTIL, Long.MAX_VALUE, UNTIL, Limit.of(501));
+        verify(allocationRepository).findChangedAfter(UNTIL, Long.MAX_VALUE, UNTIL, Limit.of(501));
+        verify(changeTombstoneRepository).findDeletedAfter(UNTIL, Long.MAX_VALUE, UNTIL, Limit.of(501));
+    }
+
+    @Test
+    @DisplayName("Deve exigir sincronização completa quando a marca d'água é anterior à retenção das exclusões")
+    void shouldRejectWatermarkOlderThanTombstoneRetention() {
+        assertThrows(ChangeWatermarkExpiredException.class,
+                () -> changeService.getChangesSince(NOW.minusDays(31).toString(), null));
+        verifyNoInteractions(projectRepository, allocationRepository, changeTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar marca d'água e tamanho de página inválidos")
+    void shouldRejectInvalidWatermarkAndPageSize() {
+        assertThrows(InvalidFilterException.class, () -> changeService.getChangesSince("não-é-marca", null));
+        assertThrows(InvalidFilterException.class, () -> changeService.getChangesSince(null, 0));
+        assertThrows(InvalidFilterException.class, () -> changeService.getChangesSince(null, 5001));
+    }
+}
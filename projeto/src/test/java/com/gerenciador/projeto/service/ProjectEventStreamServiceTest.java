@@ -0,0 +1,206 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.entity.OutboxEvent;
+import com.gerenciador.projeto.enums.DomainEventType;
+import com.gerenciador.projeto.mapper.DomainEventMapper;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProjectEventStreamService")
+class ProjectEventStreamServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private ProjectEventStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        // Envios na própria thread do teste, para que os eventos enfileirados já tenham sido enviados ao verificar
+        streamService = newService(2000, Duration.ofSeconds(10), Runnable::run);
+    }
+
+    private ProjectEventStreamService newService(int queueSize, Duration sendTimeout, Executor senders) {
+        return new ProjectEventStreamService(outboxEventRepository, new DomainEventMapper(), new SimpleMeterRegistry(),
+                Duration.ofMinutes(30), 3, 500, Duration.ofHours(1), queueSize, sendTimeout, senders) {
+            @Override
+            SseEmitter createEmitter() {
+                SseEmitter emitter = mock(SseEmitter.class);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private OutboxEvent event(long position, long projectId, long managerId) {
+        OutboxEvent event = new OutboxEvent(DomainEventType.STATUS_ALTERADO, projectId, managerId,
+                Map.of("previousStatus", "EM_ANALISE", "newStatus", "ANALISE_REALIZADA"), LocalDateTime.now());
+        event.setId(position + 100);
+        event.setPosition(position);
+        return event;
+    }
+
+    // IDs (posições) dos eventos SSE enviados a uma conexão
+    private List<String> sentIds(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(builder -> builder.build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining()))
+                .map(text -> text.replaceAll("(?s).*?id:(\\d+).*", "$1"))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Deve enviar a cada conexão apenas os eventos publicados que atendem aos seus filtros")
+    void shouldFanOutPublishedEventsByFilter() throws IOException {
+        when(outboxEventRepository.findMaxPosition()).thenReturn(5L);
+        SseEmitter byProject = streamService.subscribe(1L, null, null);
+        SseEmitter byManager = streamService.subscribe(null, 20L, null);
+        when(outboxEventRepository.findPublishedAfter(eq(5L), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(event(6, 1, 10), event(7, 2, 20)));
+
+        streamService.pollPublishedEvents();
+
+        assertEquals(List.of("6"), sentIds(byProject));
+        assertEquals(List.of("7"), sentIds(byManager));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os eventos perdidos a partir do Last-Event-ID antes dos novos")
+    void shouldReplayMissedEventsFromLastEventId() throws IOException {
+        when(outboxEventRepository.findMaxPosition()).thenReturn(10L);
+        when(outboxEventRepository.findMinPosition()).thenReturn(1L);
+        when(outboxEventRepository.findPublishedAfter(eq(7L), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(event(8, 1, 10), event(9, 2, 20), event(10, 3, 10)));
+
+        SseEmitter emitter = streamService.subscribe(null, null, 7L);
+
+        assertEquals(List.of("8", "9", "10"), sentIds(emitter));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento de reinício quando os eventos perdidos excedem o limite de reenvio")
+    void shouldSendResetWhenReplayExceedsLimit() throws IOException {
+        when(outboxEventRepository.findMaxPosition()).thenReturn(20L);
+        when(outboxEventRepository.findMinPosition()).thenReturn(1L);
+        when(outboxEventRepository.findPublishedAfter(eq(2L), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(event(3, 1, 10), event(4, 1, 10), event(5, 1, 10), event(6, 1, 10)));
+
+        SseEmitter emitter = streamService.subscribe(null, null, 2L);
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(1)).send(captor.capture());
+        String sent = captor.getValue().build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining());
+        assertTrue(sent.contains("event:" + ProjectEventStreamService.RESET_EVENT));
+        assertTrue(sent.contains("id:20"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar conexões encerradas pelo cliente")
+    void shouldDropDisconnectedSubscriptions() throws IOException {
+        when(outboxEventRepository.findMaxPosition()).thenReturn(0L);
+        SseEmitter emitter = streamService.subscribe(null, null, null);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        when(outboxEventRepository.findPublishedAfter(anyLong(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(event(1, 1, 10)))
+                .thenReturn(List.of(event(2, 1, 10)));
+
+        streamService.pollPublishedEvents();
+        streamService.pollPublishedEvents();
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).completeWithError(any(IOException.class));
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o cliente cuja fila de envio enche")
+    void shouldCloseSubscriptionWhenQueueOverflows() throws IOException {
+        // Executor que não roda as tarefas: nada é enviado e a fila da conexão (capacidade 4) enche
+        List<Runnable> pending = new ArrayList<>();
+        streamService = newService(2, Duration.ofSeconds(10), pending::add);
+        when(outboxEventRepository.findMaxPosition()).thenReturn(0L);
+        SseEmitter emitter = streamService.subscribe(null, null, null);
+        when(outboxEventRepository.findPublishedAfter(eq(0L), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(event(1, 1, 10), event(2, 1, 10), event(3, 1, 10), event(4, 1, 10), event(5, 1, 10)));
+
+        streamService.pollPublishedEvents();
+        new ArrayList<>(pending).forEach(Runnable::run);
+
+        verify(emitter).complete();
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o cliente parado sem atrasar a leitura dos eventos das demais conexões")
+    void shouldCloseStalledSubscriptionWithoutBlockingPoller() throws Exception {
+        ExecutorService senders = Executors.newCachedThreadPool();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        try {
+            streamService = newService(2000, Duration.ofMillis(50), senders);
+            when(outboxEventRepository.findMaxPosition()).thenReturn(0L);
+            SseEmitter stalled = streamService.subscribe(null, null, null);
+            SseEmitter healthy = streamService.subscribe(null, null, null);
+            doAnswer(invocation -> {
+                release.await();
+                return null;
+            }).when(stalled).send(any(SseEmitter.SseEventBuilder.class));
+            // complete() é synchronized: verificá-lo com timeout seguraria o monitor do emitter durante a espera
+            doAnswer(invocation -> {
+                completed.countDown();
+                return null;
+            }).when(stalled).complete();
+            when(outboxEventRepository.findPublishedAfter(anyLong(), isNull(), isNull(), any(Limit.class)))
+                    .thenReturn(List.of(event(1, 1, 10)))
+                    .thenReturn(List.of(event(2, 1, 10)));
+
+            streamService.pollPublishedEvents();
+            verify(stalled, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+            Thread.sleep(100);
+            streamService.pollPublishedEvents();
+
+            verify(healthy, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            // O encerramento aguarda o envio preso (o emitter é synchronized); quando ele termina, a conexão é encerrada
+            // sem receber o evento enfileirado depois
+            release.countDown();
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            verify(stalled, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        } finally {
+            release.countDown();
+            senders.shutdownNow();
+        }
+    }
+}
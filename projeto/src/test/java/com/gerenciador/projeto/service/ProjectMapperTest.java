@@ -5,6 +5,7 @@ import com.gerenciador.projeto.dto.ProjectResponseDTO;
 import com.gerenciador.projeto.entity.Project;
 import com.gerenciador.projeto.enums.ProjectStatus;
 import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.exception.InvalidStatusTransitionException;
 import com.gerenciador.projeto.mapper.ProjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -52,6 +53,20 @@ class ProjectMapperTest {
         assertTrue(project.getAllocations().isEmpty()); // Deve ser inicializado vazio
     }
 
+    @Test
+    @DisplayName("Deve aceitar a descrição do status e rejeitar status inválido ao mapear ProjectRequestDTO")
+    void shouldResolveStatusDescriptionAndRejectInvalidStatus() {
+        ProjectRequestDTO dto = new ProjectRequestDTO();
+        dto.setStatus("Em Andamento");
+        assertEquals(ProjectStatus.EM_ANDAMENTO, projectMapper.toEntity(dto).getStatus());
+
+        dto.setStatus(null);
+        assertEquals(ProjectStatus.EM_ANALISE, projectMapper.toEntity(dto).getStatus());
+
+        dto.setStatus("FINALIZADO");
+        assertThrows(InvalidStatusTransitionException.class, () -> projectMapper.toEntity(dto));
+    }
+
     @Test
     @DisplayName("Deve mapear Project Entity para ProjectResponseDTO corretamente")
     void shouldMapEntityToResponseDtoCorrectly() {
@@ -0,0 +1,53 @@
+package com.gerenciador.projeto.service;
+
+import com.gerenciador.projeto.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProjectPartitionScheduler")
+class ProjectPartitionSchedulerTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ProjectPartitionScheduler(projectRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Deve criar as partições do ano atual até os anos configurados à frente")
+    void shouldCreatePartitionsFromCurrentYear() {
+        int currentYear = Year.now().getValue();
+        when(projectRepository.createYearlyPartitions(currentYear, currentYear + 2)).thenReturn(1);
+
+        scheduler.createUpcomingPartitions();
+
+        verify(projectRepository).createYearlyPartitions(currentYear, currentYear + 2);
+    }
+
+    @Test
+    @DisplayName("Não deve impedir a inicialização quando a criação das partições falhar")
+    void shouldNotPropagateFailureOnStartup() {
+        when(projectRepository.createYearlyPartitions(anyInt(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("Banco indisponível"));
+
+        assertDoesNotThrow(() -> scheduler.createPartitionsOnStartup());
+        // A execução agendada continua propagando a falha para o tratamento do agendador
+        assertThrows(DataAccessResourceFailureException.class, () -> scheduler.createUpcomingPartitions());
+    }
+}
@@ -1,24 +1,47 @@
 package com.gerenciador.projeto.service;
 
 import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.dto.AllocationPairDTO;
+import com.gerenciador.projeto.dto.AllocationPairResultDTO;
+import com.gerenciador.projeto.dto.BulkAllocationResultDTO;
+import com.gerenciador.projeto.dto.BulkStatusUpdateResultDTO;
+import com.gerenciador.projeto.dto.MemberAllocationDTO;
+import com.gerenciador.projeto.dto.ProjectFacetsDTO;
+import com.gerenciador.projeto.dto.ProjectFilterDTO;
 import com.gerenciador.projeto.dto.MemberDTO;
 import com.gerenciador.projeto.dto.ProjectRequestDTO;
 import com.gerenciador.projeto.dto.ProjectResponseDTO;
+import com.gerenciador.projeto.dto.ProjectStatusTransitionDTO;
 import com.gerenciador.projeto.dto.ProjectStatusUpdateDTO;
+import com.gerenciador.projeto.dto.StatusTransitionResultDTO;
 import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ArchivedProject;
+import com.gerenciador.projeto.entity.ChangeTombstone;
+import com.gerenciador.projeto.entity.OutboxEvent;
 import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.entity.ProjectStatusHistory;
+import com.gerenciador.projeto.enums.AllocationOutcome;
+import com.gerenciador.projeto.enums.ChangeEntityType;
+import com.gerenciador.projeto.enums.DomainEventType;
 import com.gerenciador.projeto.enums.ProjectStatus;
 import com.gerenciador.projeto.enums.RiskLevel;
+import com.gerenciador.projeto.enums.StatusTransitionOutcome;
 import com.gerenciador.projeto.exception.*;
 import com.gerenciador.projeto.mapper.AllocationMapper;
 import com.gerenciador.projeto.mapper.ProjectMapper;
 import com.gerenciador.projeto.repository.AllocationRepository;
+import com.gerenciador.projeto.repository.ChangeTombstoneRepository;
+import com.gerenciador.projeto.repository.OutboxEventRepository;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
+import com.gerenciador.projeto.repository.ProjectFilter;
 import com.gerenciador.projeto.repository.ProjectRepository;
+import com.gerenciador.projeto.repository.ProjectStatusHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,19 +50,27 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +87,18 @@ class ProjectServiceTest {
     private AllocationMapper allocationMapper;
     @Mock
     private MemberApiClient memberApiClient;
+    @Mock
+    private ProjectStatusHistoryRepository statusHistoryRepository;
+    @Mock
+    private ProjectArchiveRepository projectArchiveRepository;
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private ChangeTombstoneRepository changeTombstoneRepository;
+    @Mock
+    private AsyncMemberEnricher memberEnricher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private ProjectService projectService;
@@ -164,6 +207,24 @@ class ProjectServiceTest {
         verify(projectMapper, never()).toResponseDto(any(Project.class));
     }
 
+    @Test
+    @DisplayName("Deve listar os membros alocados a partir de findById, atendido pelo cache de segundo nível quando ativo")
+    void shouldGetAllocatedMembersFromCacheableLookup() {
+        Allocation allocation = new Allocation(project, 20L);
+        project.getAllocations().add(allocation);
+        MemberAllocationDTO allocationDTO = new MemberAllocationDTO();
+        allocationDTO.setMemberId(20L);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(allocationMapper.toDto(allocation)).thenReturn(allocationDTO);
+        when(memberApiClient.getMemberById(20L)).thenReturn(employeeMemberDTO);
+
+        List<MemberAllocationDTO> result = projectService.getAllocatedMembers(1L);
+
+        assertEquals(1, result.size());
+        assertEquals("Funcionário Teste", result.get(0).getMemberName());
+        verify(projectRepository, times(1)).findById(1L);
+    }
+
     @Test
     @DisplayName("Deve listar todos os projetos com sucesso")
     void shouldGetAllProjectsSuccessfully() {
@@ -174,7 +235,7 @@ class ProjectServiceTest {
         when(projectMapper.toResponseDto(any(Project.class))).thenReturn(projectResponseDTO);
         when(memberApiClient.getMemberById(project.getManagerId())).thenReturn(managerMemberDTO);
 
-        Page<ProjectResponseDTO> result = projectService.getAllProjects(null, null, null, null, null, pageable);
+        Page<ProjectResponseDTO> result = projectService.getAllProjects(new ProjectFilterDTO(), pageable);
 
         assertNotNull(result);
         assertFalse(result.isEmpty());
@@ -183,6 +244,125 @@ class ProjectServiceTest {
         verify(projectMapper, times(1)).toResponseDto(project);
     }
 
+    @Test
+    @DisplayName("Deve listar projetos com filtros de múltiplos valores em uma única consulta")
+    void shouldGetAllProjectsWithMultiValueFilters() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setStatus(List.of("EM_ANDAMENTO", "Planejado", "em andamento"));
+        filter.setManagerId(List.of(1L, 2L));
+        filter.setMinBudget(new BigDecimal("1000"));
+        filter.setMaxBudget(new BigDecimal("500000"));
+        filter.setRiskLevel(List.of("ALTO_RISCO", "Médio Risco"));
+
+        when(projectRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+        Page<ProjectResponseDTO> result = projectService.getAllProjects(filter, pageable);
+
+        assertTrue(result.isEmpty());
+        verify(projectRepository, times(1)).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Deve listar projetos ativos e arquivados mantendo a ordem da página de IDs")
+    void shouldGetAllProjectsIncludingArchived() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setIncludeArchived(true);
+        ArchivedProject archived = new ArchivedProject();
+        archived.setId(3L);
+        Project archivedProject = new Project();
+        archivedProject.setId(3L);
+        archivedProject.setManagerId(10L);
+        archivedProject.setStatus(ProjectStatus.ENCERRADO);
+        ProjectResponseDTO archivedResponse = new ProjectResponseDTO();
+        archivedResponse.setId(3L);
+
+        when(projectRepository.findIdsIncludingArchived(any(ProjectFilter.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(3L, 1L), pageable, 2));
+        when(projectRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(project));
+        when(projectArchiveRepository.findWithMemberIdsByIdIn(List.of(3L))).thenReturn(List.of(archived));
+        when(projectMapper.fromArchive(archived)).thenReturn(archivedProject);
+        when(projectMapper.toResponseDto(project)).thenReturn(projectResponseDTO);
+        when(projectMapper.toResponseDto(archivedProject)).thenReturn(archivedResponse);
+        when(memberApiClient.getMemberById(10L)).thenReturn(managerMemberDTO);
+
+        Page<ProjectResponseDTO> result = projectService.getAllProjects(filter, pageable);
+
+        assertEquals(List.of(3L, 1L), result.getContent().stream().map(ProjectResponseDTO::getId).toList());
+        assertTrue(result.getContent().get(0).isArchived());
+        assertFalse(result.getContent().get(1).isArchived());
+        verify(projectRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve enriquecer a página inteira de uma vez quando o enriquecimento assíncrono está ativo")
+    void shouldEnrichWholePageAtOnceWhenAsyncEnrichmentEnabled() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Project other = new Project();
+        other.setId(2L);
+        other.setManagerId(11L);
+        other.setStartDate(LocalDate.of(2023, 1, 1));
+        other.setForecastEndDate(LocalDate.of(2023, 6, 30));
+        other.setTotalBudget(new BigDecimal("50000.00"));
+        other.setAllocations(new HashSet<>());
+        ProjectResponseDTO otherResponse = new ProjectResponseDTO();
+        otherResponse.setId(2L);
+
+        when(memberEnricher.isEnabled()).thenReturn(true);
+        when(projectRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(project, other), pageable, 2));
+        when(projectMapper.toResponseDto(project)).thenReturn(projectResponseDTO);
+        when(projectMapper.toResponseDto(other)).thenReturn(otherResponse);
+
+        Page<ProjectResponseDTO> result = projectService.getAllProjects(new ProjectFilterDTO(), pageable);
+
+        assertEquals(List.of(1L, 2L), result.getContent().stream().map(ProjectResponseDTO::getId).toList());
+        assertEquals(RiskLevel.MEDIO_RISCO, result.getContent().get(1).getRiskLevel());
+        verify(memberEnricher, times(1)).enrichProjects(List.of(projectResponseDTO, otherResponse));
+        verifyNoInteractions(memberApiClient);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar filtros com nível de risco inválido ou intervalo invertido")
+    void shouldRejectInvalidFilters() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ProjectFilterDTO invalidRisk = new ProjectFilterDTO();
+        invalidRisk.setRiskLevel(List.of("CRITICO"));
+        ProjectFilterDTO invertedBudget = new ProjectFilterDTO();
+        invertedBudget.setMinBudget(new BigDecimal("500"));
+        invertedBudget.setMaxBudget(new BigDecimal("100"));
+        ProjectFilterDTO invalidStatus = new ProjectFilterDTO();
+        invalidStatus.setStatus(List.of("INICIADO", "FINALIZADO"));
+
+        assertThrows(InvalidFilterException.class, () -> projectService.getAllProjects(invalidRisk, pageable));
+        assertThrows(InvalidFilterException.class, () -> projectService.getAllProjects(invertedBudget, pageable));
+        assertThrows(InvalidStatusTransitionException.class, () -> projectService.getAllProjects(invalidStatus, pageable));
+        verify(projectRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve contar as facetas com os filtros convertidos para o domínio")
+    void shouldCountFacetsWithResolvedFilter() {
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setStatus(List.of("Em Andamento", "planejado"));
+        filter.setManagerId(List.of(1L, 1L, 2L));
+        filter.setRiskLevel(List.of("alto_risco"));
+        ProjectFacetsDTO facets = new ProjectFacetsDTO();
+        facets.setTotal(7);
+        when(projectRepository.countFacets(any(ProjectFilter.class))).thenReturn(facets);
+
+        ProjectFacetsDTO result = projectService.getProjectFacets(filter);
+
+        ArgumentCaptor<ProjectFilter> captor = ArgumentCaptor.forClass(ProjectFilter.class);
+        verify(projectRepository).countFacets(captor.capture());
+        assertEquals(7, result.getTotal());
+        assertEquals(Set.of(ProjectStatus.EM_ANDAMENTO, ProjectStatus.PLANEJADO), captor.getValue().getStatuses());
+        assertEquals(Set.of(1L, 2L), captor.getValue().getManagerIds());
+        assertEquals(Set.of(RiskLevel.ALTO_RISCO), captor.getValue().getRiskLevels());
+        verifyNoInteractions(memberApiClient);
+    }
+
     @Test
     @DisplayName("Deve atualizar um projeto com sucesso")
     void shouldUpdateProjectSuccessfully() {
@@ -286,6 +466,20 @@ class ProjectServiceTest {
         assertEquals(ProjectStatus.ANALISE_REALIZADA, result.getStatus());
         verify(projectRepository, times(1)).findById(1L);
         verify(projectRepository, times(1)).save(projectInAnalysis); // Verifica que o objeto original foi salvo
+
+        // Verifica que a transição foi registrada no histórico
+        ArgumentCaptor<ProjectStatusHistory> historyCaptor = ArgumentCaptor.forClass(ProjectStatusHistory.class);
+        verify(statusHistoryRepository, times(1)).save(historyCaptor.capture());
+        assertEquals(1L, historyCaptor.getValue().getProjectId());
+        assertEquals(ProjectStatus.EM_ANALISE, historyCaptor.getValue().getFromStatus());
+        assertEquals(ProjectStatus.ANALISE_REALIZADA, historyCaptor.getValue().getToStatus());
+
+        // Verifica que o evento foi gravado no outbox na mesma operação
+        ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(eventCaptor.capture());
+        assertEquals(DomainEventType.STATUS_ALTERADO, eventCaptor.getValue().getEventType());
+        assertEquals(1L, eventCaptor.getValue().getProjectId());
+        assertEquals(Map.of("previousStatus", "EM_ANALISE", "newStatus", "ANALISE_REALIZADA"), eventCaptor.getValue().getPayload());
     }
 
     @Test
@@ -351,12 +545,22 @@ class ProjectServiceTest {
     @DisplayName("Deve excluir um projeto com sucesso (status permitido)")
     void shouldDeleteProjectSuccessfullyWithAllowedStatus() {
         project.setStatus(ProjectStatus.EM_ANALISE); // Status permitido para exclusão
+        Allocation allocation = new Allocation(project, 20L);
+        allocation.setId(7L);
+        project.addAllocation(allocation);
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
         doNothing().when(projectRepository).delete(any(Project.class));
 
         assertDoesNotThrow(() -> projectService.deleteProject(1L));
         verify(projectRepository, times(1)).findById(1L);
         verify(projectRepository, times(1)).delete(project);
+
+        // Tombstones do projeto e da alocação removida em cascata, para a consulta incremental
+        ArgumentCaptor<List<ChangeTombstone>> tombstoneCaptor = ArgumentCaptor.forClass(List.class);
+        verify(changeTombstoneRepository, times(1)).saveAll(tombstoneCaptor.capture());
+        assertEquals(List.of(ChangeEntityType.PROJETO, ChangeEntityType.ALOCACAO),
+                tombstoneCaptor.getValue().stream().map(ChangeTombstone::getEntityType).toList());
+        assertEquals(List.of(1L, 7L), tombstoneCaptor.getValue().stream().map(ChangeTombstone::getEntityId).toList());
     }
 
     @Test
@@ -381,7 +585,7 @@ class ProjectServiceTest {
         when(memberApiClient.getMemberById(20L)).thenReturn(employee1);
         when(memberApiClient.getMemberById(21L)).thenReturn(employee2);
         when(allocationRepository.existsByProjectIdAndMemberId(anyLong(), anyLong())).thenReturn(false); // Não existem alocações
-        when(projectRepository.findProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList())).thenReturn(Collections.emptyList()); // Nenhum projeto ativo
+        when(projectRepository.countProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList())).thenReturn(0L); // Nenhum projeto ativo
         when(projectRepository.save(any(Project.class))).thenReturn(project); // Retorna o mesmo projeto
         when(projectMapper.toResponseDto(any(Project.class))).thenReturn(projectResponseDTO); // Mock genérico
         when(memberApiClient.getMemberById(project.getManagerId())).thenReturn(managerMemberDTO); // Para o mapProjectToResponseDTO
@@ -392,7 +596,7 @@ class ProjectServiceTest {
         verify(projectRepository, times(1)).findById(1L);
         verify(memberApiClient, times(2)).getMemberById(anyLong()); // Para cada membro
         verify(allocationRepository, times(2)).existsByProjectIdAndMemberId(anyLong(), anyLong());
-        verify(projectRepository, times(2)).findProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList());
+        verify(projectRepository, times(2)).countProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList());
         verify(projectRepository, times(1)).save(project);
 
         // Verifica se as alocações foram adicionadas ao projeto
@@ -405,11 +609,11 @@ class ProjectServiceTest {
         List<Long> memberIds = Collections.singletonList(30L);
         MemberDTO nonEmployee = new MemberDTO(30L, "Terceiro", "terceiro");
 
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
         when(memberApiClient.getMemberById(30L)).thenReturn(nonEmployee);
 
         assertThrows(MemberAllocationException.class, () -> projectService.allocateMembersToProject(1L, memberIds));
-        verify(projectRepository, never()).save(any(Project.class));
+        verify(projectRepository, never()).findById(anyLong()); // O cargo é validado antes de abrir a transação
+        verify(transactionManager, never()).getTransaction(any());
     }
 
     @Test
@@ -428,15 +632,12 @@ class ProjectServiceTest {
     @DisplayName("Deve lançar MemberAllocationException se membro exceder limite de projetos")
     void shouldThrowMemberAllocationExceptionIfMemberExceedsProjectLimit() {
         List<Long> memberIds = Collections.singletonList(20L);
-        Project activeProject1 = new Project(); activeProject1.setId(10L); activeProject1.setStatus(ProjectStatus.EM_ANDAMENTO);
-        Project activeProject2 = new Project(); activeProject2.setId(11L); activeProject2.setStatus(ProjectStatus.INICIADO);
-        Project activeProject3 = new Project(); activeProject3.setId(12L); activeProject3.setStatus(ProjectStatus.PLANEJADO);
 
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
         when(memberApiClient.getMemberById(20L)).thenReturn(employeeMemberDTO);
         when(allocationRepository.existsByProjectIdAndMemberId(anyLong(), anyLong())).thenReturn(false);
-        when(projectRepository.findProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList()))
-                .thenReturn(Arrays.asList(activeProject1, activeProject2, activeProject3)); // 3 projetos ativos
+        when(projectRepository.countProjectsByAllocatedMemberAndStatusNotIn(anyLong(), anyList()))
+                .thenReturn(3L); // 3 projetos ativos
 
         assertThrows(MemberAllocationException.class, () -> projectService.allocateMembersToProject(1L, memberIds));
         verify(projectRepository, never()).save(any(Project.class));
@@ -457,10 +658,194 @@ class ProjectServiceTest {
         verify(projectRepository, never()).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("Deve atualizar status em lote agrupando transições válidas em UPDATEs únicos")
+    void shouldUpdateProjectStatusInBulk() {
+        when(projectRepository.findStatusesByIdIn(anySet())).thenReturn(Arrays.asList(
+                statusView(1L, ProjectStatus.EM_ANALISE),
+                statusView(2L, ProjectStatus.EM_ANALISE),
+                statusView(3L, ProjectStatus.EM_ANDAMENTO),
+                statusView(4L, ProjectStatus.EM_ANALISE)));
+        when(projectRepository.lockIdsByIdInAndStatus(anyList(), eq("EM_ANALISE"))).thenReturn(Arrays.asList(1L, 2L));
+        when(projectRepository.lockIdsByIdInAndStatus(anyList(), eq("EM_ANDAMENTO"))).thenReturn(List.of(3L));
+        when(projectRepository.updateStatusByIdIn(anyList(), eq(ProjectStatus.EM_ANALISE), eq(ProjectStatus.ANALISE_REALIZADA), any(LocalDateTime.class)))
+                .thenReturn(2);
+        when(projectRepository.updateStatusAndEndDateByIdIn(anyList(), eq(ProjectStatus.EM_ANDAMENTO), eq(ProjectStatus.ENCERRADO), any(LocalDate.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        BulkStatusUpdateResultDTO result = projectService.updateProjectStatusInBulk(Arrays.asList(
+                new ProjectStatusTransitionDTO(1L, "ANALISE_REALIZADA"),
+                new ProjectStatusTransitionDTO(2L, "analise realizada"),
+                new ProjectStatusTransitionDTO(3L, "ENCERRADO"),
+                new ProjectStatusTransitionDTO(4L, "ENCERRADO"),     // pula etapas
+                new ProjectStatusTransitionDTO(1L, "CANCELADO"),     // repetido
+                new ProjectStatusTransitionDTO(5L, "CANCELADO"),     // inexistente
+                new ProjectStatusTransitionDTO(4L, "STATUS_XYZ")));  // repetido (checado antes do status)
+
+        assertEquals(3, result.getUpdatedCount());
+        assertEquals(Arrays.asList(StatusTransitionOutcome.ATUALIZADO, StatusTransitionOutcome.ATUALIZADO, StatusTransitionOutcome.ATUALIZADO,
+                        StatusTransitionOutcome.TRANSICAO_INVALIDA, StatusTransitionOutcome.DUPLICADO,
+                        StatusTransitionOutcome.PROJETO_NAO_ENCONTRADO, StatusTransitionOutcome.DUPLICADO),
+                result.getResults().stream().map(StatusTransitionResultDTO::getOutcome).toList());
+        verify(projectRepository, times(1)).updateStatusByIdIn(eq(Arrays.asList(1L, 2L)), eq(ProjectStatus.EM_ANALISE), eq(ProjectStatus.ANALISE_REALIZADA), any(LocalDateTime.class));
+        verify(projectRepository, times(1)).updateStatusAndEndDateByIdIn(eq(List.of(3L)), eq(ProjectStatus.EM_ANDAMENTO), eq(ProjectStatus.ENCERRADO), any(LocalDate.class), any(LocalDateTime.class));
+        verify(projectRepository, never()).findById(anyLong());
+        verify(memberApiClient, never()).getMemberById(anyLong());
+
+        ArgumentCaptor<List<ProjectStatusHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository, times(1)).saveAll(historyCaptor.capture());
+        assertEquals(3, historyCaptor.getValue().size());
+
+        ArgumentCaptor<List<OutboxEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository, times(1)).saveAll(eventCaptor.capture());
+        assertEquals(Set.of(1L, 2L, 3L), eventCaptor.getValue().stream().map(OutboxEvent::getProjectId).collect(Collectors.toSet()));
+        assertTrue(eventCaptor.getValue().stream().allMatch(event -> event.getEventType() == DomainEventType.STATUS_ALTERADO));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como conflito projetos alterados concorrentemente, mesmo para o status de destino")
+    void shouldMarkConflictWhenStatusChangedConcurrently() {
+        when(projectRepository.findStatusesByIdIn(anyCollection()))
+                .thenReturn(Arrays.asList(statusView(1L, ProjectStatus.EM_ANALISE), statusView(2L, ProjectStatus.EM_ANALISE)));
+        // O projeto 2 foi levado a ANALISE_REALIZADA por outra requisição: não está mais em EM_ANALISE
+        when(projectRepository.lockIdsByIdInAndStatus(anyList(), eq("EM_ANALISE"))).thenReturn(List.of(1L));
+        when(projectRepository.updateStatusByIdIn(anyList(), any(ProjectStatus.class), any(ProjectStatus.class), any(LocalDateTime.class))).thenReturn(1);
+
+        BulkStatusUpdateResultDTO result = projectService.updateProjectStatusInBulk(Arrays.asList(
+                new ProjectStatusTransitionDTO(1L, "ANALISE_REALIZADA"),
+                new ProjectStatusTransitionDTO(2L, "ANALISE_REALIZADA")));
+
+        assertEquals(StatusTransitionOutcome.ATUALIZADO, result.getResults().get(0).getOutcome());
+        assertEquals(StatusTransitionOutcome.CONFLITO, result.getResults().get(1).getOutcome());
+        assertEquals(1, result.getUpdatedCount());
+        verify(projectRepository).updateStatusByIdIn(eq(List.of(1L)), eq(ProjectStatus.EM_ANALISE), eq(ProjectStatus.ANALISE_REALIZADA), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como conflito, sem histórico nem evento, projeto removido durante o lote")
+    void shouldMarkConflictWhenProjectDeletedConcurrently() {
+        when(projectRepository.findStatusesByIdIn(anyCollection()))
+                .thenReturn(Arrays.asList(statusView(1L, ProjectStatus.EM_ANALISE), statusView(2L, ProjectStatus.EM_ANALISE)));
+        // O projeto 2 foi removido entre a leitura dos status e o UPDATE
+        when(projectRepository.lockIdsByIdInAndStatus(anyList(), eq("EM_ANALISE"))).thenReturn(List.of(1L));
+        when(projectRepository.updateStatusByIdIn(anyList(), any(ProjectStatus.class), any(ProjectStatus.class), any(LocalDateTime.class))).thenReturn(1);
+
+        BulkStatusUpdateResultDTO result = projectService.updateProjectStatusInBulk(Arrays.asList(
+                new ProjectStatusTransitionDTO(1L, "ANALISE_REALIZADA"),
+                new ProjectStatusTransitionDTO(2L, "ANALISE_REALIZADA")));
+
+        assertEquals(StatusTransitionOutcome.CONFLITO, result.getResults().get(1).getOutcome());
+        ArgumentCaptor<List<ProjectStatusHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository).saveAll(historyCaptor.capture());
+        assertEquals(List.of(1L), historyCaptor.getValue().stream().map(ProjectStatusHistory::getProjectId).toList());
+        ArgumentCaptor<List<OutboxEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(eventCaptor.capture());
+        assertEquals(List.of(1L), eventCaptor.getValue().stream().map(OutboxEvent::getProjectId).toList());
+    }
+
+    private ProjectRepository.ProjectStatusView statusView(Long id, ProjectStatus status) {
+        return new ProjectRepository.ProjectStatusView() {
+            public Long getId() { return id; }
+            public ProjectStatus getStatus() { return status; }
+            public Long getManagerId() { return 10L; }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve alocar em lote e retornar o resultado de cada par")
+    void shouldAllocateMembersInBulkWithPerPairOutcomes() {
+        Project otherProject = new Project();
+        otherProject.setId(2L);
+        otherProject.setStatus(ProjectStatus.EM_ANDAMENTO);
+
+        when(projectRepository.findAllById(anySet())).thenReturn(Arrays.asList(project, otherProject));
+        when(memberApiClient.getMembersByIds(anySet())).thenReturn(Arrays.asList(employeeMemberDTO, managerMemberDTO));
+        when(allocationRepository.findPairsByProjectIdsAndMemberIds(anySet(), anySet()))
+                .thenReturn(List.of(pair(2L, 20L)));
+        when(allocationRepository.countProjectsByMemberIdsAndStatusNotIn(anySet(), anyList()))
+                .thenReturn(Collections.emptyList());
+
+        List<AllocationPairDTO> pairs = Arrays.asList(
+                new AllocationPairDTO(1L, 20L),  // alocado
+                new AllocationPairDTO(1L, 20L),  // repetido no próprio lote
+                new AllocationPairDTO(2L, 20L),  // já alocado no banco
+                new AllocationPairDTO(1L, 10L),  // gerente, cargo inválido
+                new AllocationPairDTO(1L, 99L),  // membro inexistente
+                new AllocationPairDTO(99L, 20L)  // projeto inexistente
+        );
+
+        BulkAllocationResultDTO result = projectService.allocateMembersInBulk(pairs);
+
+        assertEquals(1, result.getAllocatedCount());
+        assertEquals(5, result.getRejectedCount());
+        assertEquals(Arrays.asList(AllocationOutcome.ALOCADO, AllocationOutcome.JA_ALOCADO, AllocationOutcome.JA_ALOCADO,
+                        AllocationOutcome.CARGO_INVALIDO, AllocationOutcome.MEMBRO_NAO_ENCONTRADO, AllocationOutcome.PROJETO_NAO_ENCONTRADO),
+                result.getResults().stream().map(AllocationPairResultDTO::getOutcome).toList());
+        verify(memberApiClient, times(1)).getMembersByIds(anySet());
+        verify(memberApiClient, never()).getMemberById(anyLong());
+        // Os membros são buscados antes de abrir a transação
+        InOrder inOrder = inOrder(memberApiClient, transactionManager);
+        inOrder.verify(memberApiClient).getMembersByIds(anySet());
+        inOrder.verify(transactionManager).getTransaction(any());
+
+        ArgumentCaptor<List<Allocation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(allocationRepository, times(1)).batchInsert(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(20L, captor.getValue().get(0).getMemberId());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de 3 projetos ativos considerando alocações do mesmo lote")
+    void shouldEnforceActiveProjectLimitAcrossBulkBatch() {
+        Project p2 = new Project();
+        p2.setId(2L);
+        p2.setStatus(ProjectStatus.EM_ANDAMENTO);
+        Project p3 = new Project();
+        p3.setId(3L);
+        p3.setStatus(ProjectStatus.EM_ANDAMENTO);
+        project.setStatus(ProjectStatus.PLANEJADO);
+
+        when(projectRepository.findAllById(anySet())).thenReturn(Arrays.asList(project, p2, p3));
+        when(memberApiClient.getMembersByIds(anySet())).thenReturn(List.of(employeeMemberDTO));
+        when(allocationRepository.findPairsByProjectIdsAndMemberIds(anySet(), anySet())).thenReturn(Collections.emptyList());
+        when(allocationRepository.countProjectsByMemberIdsAndStatusNotIn(anySet(), anyList()))
+                .thenReturn(List.of(projectCount(20L, 1L)));
+
+        BulkAllocationResultDTO result = projectService.allocateMembersInBulk(Arrays.asList(
+                new AllocationPairDTO(1L, 20L),
+                new AllocationPairDTO(2L, 20L),
+                new AllocationPairDTO(3L, 20L)));
+
+        assertEquals(2, result.getAllocatedCount());
+        assertEquals(AllocationOutcome.LIMITE_PROJETOS_ATINGIDO, result.getResults().get(2).getOutcome());
+    }
+
+    @Test
+    @DisplayName("Deve lançar MemberAllocationException ao alocar em lote sem pares")
+    void shouldThrowMemberAllocationExceptionWhenBulkIsEmpty() {
+        assertThrows(MemberAllocationException.class, () -> projectService.allocateMembersInBulk(Collections.emptyList()));
+        verify(allocationRepository, never()).batchInsert(anyList());
+    }
+
+    private AllocationRepository.ProjectMemberPair pair(Long projectId, Long memberId) {
+        return new AllocationRepository.ProjectMemberPair() {
+            public Long getProjectId() { return projectId; }
+            public Long getMemberId() { return memberId; }
+        };
+    }
+
+    private AllocationRepository.MemberProjectCount projectCount(Long memberId, Long count) {
+        return new AllocationRepository.MemberProjectCount() {
+            public Long getMemberId() { return memberId; }
+            public Long getProjectCount() { return count; }
+        };
+    }
+
     @Test
     @DisplayName("Deve desalocar um membro com sucesso")
     void shouldDeallocateMemberSuccessfully() {
         Allocation allocation = new Allocation(project, 20L);
+        allocation.setId(7L);
         project.addAllocation(allocation); // Adiciona a alocação ao projeto mock
 
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
@@ -470,6 +855,17 @@ class ProjectServiceTest {
         verify(projectRepository, times(1)).findById(1L);
         verify(projectRepository, times(1)).save(project);
         assertTrue(project.getAllocations().isEmpty()); // Verifica se a alocação foi removida
+
+        ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(eventCaptor.capture());
+        assertEquals(DomainEventType.MEMBRO_DESALOCADO, eventCaptor.getValue().getEventType());
+        assertEquals(Map.of("memberId", 20L), eventCaptor.getValue().getPayload());
+
+        ArgumentCaptor<ChangeTombstone> tombstoneCaptor = ArgumentCaptor.forClass(ChangeTombstone.class);
+        verify(changeTombstoneRepository, times(1)).save(tombstoneCaptor.capture());
+        assertEquals(ChangeEntityType.ALOCACAO, tombstoneCaptor.getValue().getEntityType());
+        assertEquals(7L, tombstoneCaptor.getValue().getEntityId());
+        assertEquals(1L, tombstoneCaptor.getValue().getProjectId());
     }
 
     @Test
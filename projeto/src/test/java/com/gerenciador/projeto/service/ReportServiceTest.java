@@ -1,18 +1,32 @@
 package com.gerenciador.projeto.service;
 
 import com.gerenciador.projeto.client.MemberApiClient;
+import com.gerenciador.projeto.dto.MemberPortfolioDTO;
+import com.gerenciador.projeto.dto.PortfolioSnapshotDTO;
 import com.gerenciador.projeto.dto.PortfolioSummaryDTO;
+import com.gerenciador.projeto.dto.StatusDurationStatsDTO;
 import com.gerenciador.projeto.entity.Allocation;
+import com.gerenciador.projeto.entity.ArchivedProject;
 import com.gerenciador.projeto.entity.Project;
+import com.gerenciador.projeto.enums.CountMode;
 import com.gerenciador.projeto.enums.ProjectStatus;
+import com.gerenciador.projeto.enums.SnapshotGranularity;
+import com.gerenciador.projeto.mapper.ProjectMapper;
+import com.gerenciador.projeto.repository.PortfolioSnapshotRepository;
+import com.gerenciador.projeto.repository.ProjectArchiveRepository;
 import com.gerenciador.projeto.repository.ProjectRepository;
+import com.gerenciador.projeto.repository.ProjectStatusHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -23,6 +37,10 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +51,14 @@ class ReportServiceTest {
     private ProjectRepository projectRepository;
     @Mock
     private MemberApiClient memberApiClient; // Mockado, mas não usado diretamente neste teste de resumo
+    @Mock
+    private ProjectStatusHistoryRepository statusHistoryRepository;
+    @Mock
+    private PortfolioSnapshotRepository snapshotRepository;
+    @Mock
+    private ProjectArchiveRepository archiveRepository;
+    @Spy
+    private ProjectMapper projectMapper = new ProjectMapper();
 
     @InjectMocks
     private ReportService reportService;
@@ -87,7 +113,7 @@ class ReportServiceTest {
     void shouldGenerateCompletePortfolioSummary() {
         when(projectRepository.findAll()).thenReturn(projects);
 
-        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary();
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.EXATA, false);
 
         assertNotNull(summary);
 
@@ -118,7 +144,7 @@ class ReportServiceTest {
     void shouldGenerateEmptySummaryWhenNoProjects() {
         when(projectRepository.findAll()).thenReturn(Collections.emptyList());
 
-        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary();
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.EXATA, false);
 
         assertNotNull(summary);
         assertTrue(summary.getProjectsByStatus().isEmpty());
@@ -141,7 +167,7 @@ class ReportServiceTest {
 
         when(projectRepository.findAll()).thenReturn(Collections.singletonList(singleFinishedProject));
 
-        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary();
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.EXATA, false);
 
         assertEquals(9.0, summary.getAverageDurationOfFinishedProjects());
     }
@@ -163,8 +189,83 @@ class ReportServiceTest {
 
         when(projectRepository.findAll()).thenReturn(Arrays.asList(p1, p2));
 
-        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary();
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.EXATA, false);
         // Apenas p2 deve ser contado, então a média é 9.0
         assertEquals(9.0, summary.getAverageDurationOfFinishedProjects());
     }
+
+    @Test
+    @DisplayName("Deve consultar o tempo em status com o período convertido para intervalo semiaberto")
+    void shouldQueryTimeInStatusWithHalfOpenInterval() {
+        List<StatusDurationStatsDTO> stats = List.of(new StatusDurationStatsDTO(ProjectStatus.EM_ANALISE, 2L, 10.0, 10.0, 12.0, 12.5));
+        when(statusHistoryRepository.findTimeInStatusStatistics(
+                LocalDate.of(2024, 1, 1).atStartOfDay(), LocalDate.of(2025, 1, 1).atStartOfDay())).thenReturn(stats);
+
+        List<StatusDurationStatsDTO> result = reportService.getTimeInStatusStatistics(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertEquals(stats, result);
+        verify(statusHistoryRepository).findTimeInStatusStatistics(
+                LocalDate.of(2024, 1, 1).atStartOfDay(), LocalDate.of(2025, 1, 1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("Deve obter o resumo por membro do repositório, sem carregar projetos")
+    void shouldGetMemberPortfoliosFromRepository() {
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        Page<MemberPortfolioDTO> page = new PageImpl<>(
+                List.of(new MemberPortfolioDTO(2L, 3L, 2L, new BigDecimal("300000.00"), new BigDecimal("200000.00"))), pageRequest, 1);
+        when(projectRepository.findMemberPortfolios(pageRequest, false)).thenReturn(page);
+
+        Page<MemberPortfolioDTO> result = reportService.getMemberPortfolios(pageRequest, false);
+
+        assertEquals(page, result);
+        verify(projectRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o snapshot do dia e retorná-lo a partir da série histórica")
+    void shouldCaptureTodaySnapshot() {
+        LocalDate today = LocalDate.now();
+        PortfolioSnapshotDTO snapshot = new PortfolioSnapshotDTO();
+        snapshot.setSnapshotDate(today);
+        snapshot.setTotalProjects(3L);
+        when(snapshotRepository.findTrend(today, today, SnapshotGranularity.DIARIA)).thenReturn(List.of(snapshot));
+
+        PortfolioSnapshotDTO result = reportService.capturePortfolioSnapshot();
+
+        assertEquals(snapshot, result);
+        verify(snapshotRepository).saveSnapshot(eq(today), any());
+        verify(projectRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve estimar os membros únicos no banco quando a contagem aproximada é solicitada")
+    void shouldEstimateUniqueMembersWhenApproximate() {
+        when(projectRepository.findAll()).thenReturn(projects);
+        when(projectRepository.estimateDistinctAllocatedMembers(false)).thenReturn(1_000_000L);
+
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.APROXIMADA, false);
+
+        assertEquals(1_000_000L, summary.getTotalUniqueMembersAllocated());
+        assertEquals(CountMode.APROXIMADA, summary.getUniqueMembersCountMode());
+        assertTrue(summary.getUniqueMembersStandardError() > 0.015 && summary.getUniqueMembersStandardError() < 0.017);
+    }
+
+    @Test
+    @DisplayName("Deve incluir os projetos arquivados no resumo quando solicitado")
+    void shouldIncludeArchivedProjectsInSummary() {
+        ArchivedProject archived = new ArchivedProject();
+        archived.setId(5L);
+        archived.setStatus(ProjectStatus.CANCELADO);
+        archived.setTotalBudget(new BigDecimal("700.00"));
+        archived.setMemberIds(new HashSet<>(List.of(101L, 105L)));
+        when(projectRepository.findAll()).thenReturn(projects);
+        when(archiveRepository.findAllWithMemberIdsBy()).thenReturn(List.of(archived));
+
+        PortfolioSummaryDTO summary = reportService.generatePortfolioSummary(CountMode.EXATA, true);
+
+        assertEquals(1L, summary.getProjectsByStatus().get(ProjectStatus.CANCELADO.getDescription()));
+        assertEquals(0, new BigDecimal("700.00").compareTo(summary.getTotalBudgetByStatus().get(ProjectStatus.CANCELADO.getDescription())));
+        assertEquals(5L, summary.getTotalUniqueMembersAllocated()); // 101 a 105, com o 101 repetido
+    }
 }